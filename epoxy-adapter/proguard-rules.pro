@@ -3,4 +3,6 @@
 # kept and its name not obfuscated so the reflective lookup works.
 -keep class * extends com.airbnb.epoxy.EpoxyController { *; }
 -keep class * extends com.airbnb.epoxy.ControllerHelper { *; }
--keepclasseswithmembernames class * { @com.airbnb.epoxy.AutoModel <fields>; }
\ No newline at end of file
+-keepclasseswithmembernames class * { @com.airbnb.epoxy.AutoModel <fields>; }
+# Generated ControllerHelperRegistry classes are loaded with a ServiceLoader when available.
+-keep class * implements com.airbnb.epoxy.ControllerHelperRegistry { public <init>(); }
@@ -1,6 +1,7 @@
 package com.airbnb.epoxy
 
 import android.app.Activity
+import android.content.ComponentCallbacks2
 import android.content.Context
 import android.content.ContextWrapper
 import android.os.Build
@@ -43,7 +44,7 @@ internal class ActivityRecyclerPool {
                 poolReference.context.isActivityDestroyed() -> {
                     // A pool from a different activity that was destroyed.
                     // Clear the pool references to allow the activity to be GC'd
-                    poolReference.viewPool.clear()
+                    poolReference.release()
                     iterator.remove()
                 }
             }
@@ -52,6 +53,10 @@ internal class ActivityRecyclerPool {
         if (poolToUse == null) {
             poolToUse = PoolReference(context, poolFactory(), this)
             context.lifecycle()?.addObserver(poolToUse)
+            // Let pools that support it trim themselves when memory is low
+            (poolToUse.viewPool as? ComponentCallbacks2)?.let {
+                context.applicationContext.registerComponentCallbacks(it)
+            }
             pools.add(poolToUse)
         }
 
@@ -60,7 +65,7 @@ internal class ActivityRecyclerPool {
 
     fun clearIfDestroyed(pool: PoolReference) {
         if (pool.context.isActivityDestroyed()) {
-            pool.viewPool.clear()
+            pool.release()
             pools.remove(pool)
         }
     }
@@ -84,6 +89,7 @@ internal class PoolReference(
     private val parent: ActivityRecyclerPool
 ) : LifecycleObserver {
     private val contextReference: WeakReference<Context> = WeakReference(context)
+    private val applicationContext: Context = context.applicationContext
 
     val context: Context? get() = contextReference.get()
 
@@ -91,6 +97,14 @@ internal class PoolReference(
         parent.clearIfDestroyed(this)
     }
 
+    /** Clears the pool, and stops it from receiving memory callbacks, once it is no longer used. */
+    fun release() {
+        viewPool.clear()
+        (viewPool as? ComponentCallbacks2)?.let {
+            applicationContext.unregisterComponentCallbacks(it)
+        }
+    }
+
     @OnLifecycleEvent(Lifecycle.Event.ON_DESTROY)
     fun onContextDestroyed() {
         clearIfDestroyed()
@@ -2,8 +2,13 @@ package com.airbnb.epoxy;
 
 import android.os.Handler;
 
+import com.airbnb.epoxy.ControllerModelList.ModelRun;
+
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 import androidx.annotation.AnyThread;
@@ -16,7 +21,10 @@ import androidx.recyclerview.widget.DiffUtil.ItemCallback;
  * An adaptation of Google's {@link androidx.recyclerview.widget.AsyncListDiffer}
  * that adds support for payloads in changes.
  * <p>
- * Also adds support for canceling an in progress diff, and makes everything thread safe.
+ * Also adds support for canceling an in progress diff, and makes everything thread safe. A diff
+ * that is superseded by a newer list stops running partway through, and a diff that is superseded
+ * before it starts is skipped, so that the diff of the newest list is not held up behind outdated
+ * ones.
  */
 class AsyncEpoxyDiffer {
 
@@ -28,6 +36,7 @@ class AsyncEpoxyDiffer {
   private final ResultCallback resultCallback;
   private final ItemCallback<EpoxyModel<?>> diffCallback;
   private final GenerationTracker generationTracker = new GenerationTracker();
+  private volatile boolean partialDiffEnabled;
 
   AsyncEpoxyDiffer(
       @NonNull Handler handler,
@@ -86,6 +95,25 @@ class AsyncEpoxyDiffer {
     return generationTracker.hasUnfinishedGeneration();
   }
 
+  /**
+   * If enabled, models at the start and end of the list that are unchanged between the previous
+   * list and the new list are skipped, and the full diff is only run on the window of models in
+   * between. For large lists where a small number of models change this makes the diff
+   * proportional to the size of the change instead of the size of the list.
+   * <p>
+   * Models are only skipped if they have the same id and are equal, so the dispatched changes
+   * still bring the adapter to the same state as a full diff would.
+   */
+  @AnyThread
+  public void setPartialDiffEnabled(boolean partialDiffEnabled) {
+    this.partialDiffEnabled = partialDiffEnabled;
+  }
+
+  @AnyThread
+  public boolean isPartialDiffEnabled() {
+    return partialDiffEnabled;
+  }
+
   /**
    * Set the current list without performing any diffing. Cancels any diff in progress.
    * <p>
@@ -131,10 +159,13 @@ class AsyncEpoxyDiffer {
     }
 
     if (newList == null || newList.isEmpty()) {
-      // fast simple clear all
-      DiffResult result = null;
+      // fast simple clear all. A result is dispatched even if nothing was cleared, so that the
+      // callback always learns when the latest list has been set.
+      DiffResult result;
       if (previousList != null && !previousList.isEmpty()) {
         result = DiffResult.clear(previousList);
+      } else {
+        result = DiffResult.noOp(previousList);
       }
       onRunCompleted(runGeneration, null, result);
       return;
@@ -146,17 +177,202 @@ class AsyncEpoxyDiffer {
       return;
     }
 
-    final DiffCallback wrappedCallback = new DiffCallback(previousList, newList, diffCallback);
+    final boolean partialDiff = partialDiffEnabled;
 
     executor.execute(new Runnable() {
       @Override
       public void run() {
-        DiffUtil.DiffResult result = DiffUtil.calculateDiff(wrappedCallback);
-        onRunCompleted(runGeneration, newList, DiffResult.diff(previousList, newList, result));
+        if (generationTracker.isStale(runGeneration)) {
+          // A newer list was submitted while this diff was queued, so the result would be dropped
+          return;
+        }
+
+        DiffResult result;
+        try {
+          List<int[]> sharedRuns = findSharedRuns(previousList, newList);
+          if (!sharedRuns.isEmpty()) {
+            result = calculateSegmentedDiff(previousList, newList, sharedRuns, runGeneration);
+          } else if (partialDiff) {
+            result = calculatePartialDiff(previousList, newList, runGeneration);
+          } else {
+            DiffUtil.DiffResult differResult = DiffUtil.calculateDiff(
+                new DiffCallback(previousList, newList, diffCallback, generationTracker,
+                    runGeneration));
+            result = DiffResult.diff(previousList, newList, differResult);
+          }
+        } catch (DiffCanceledException e) {
+          return;
+        }
+
+        if (generationTracker.isStale(runGeneration)) {
+          return;
+        }
+
+        // Working out the update ops and change payloads here leaves only a replay of them for the
+        // main thread
+        result.precomputeUpdates();
+        onRunCompleted(runGeneration, newList, result);
       }
     });
   }
 
+  /**
+   * Skips the leading and trailing models that are the same in both lists, and only runs the
+   * differ on the window of models between them. The positions of the resulting update ops are
+   * shifted back to the full list when the result is dispatched.
+   */
+  private DiffResult calculatePartialDiff(
+      @NonNull List<? extends EpoxyModel<?>> previousList,
+      @NonNull List<? extends EpoxyModel<?>> newList,
+      int runGeneration
+  ) {
+    int oldSize = previousList.size();
+    int newSize = newList.size();
+    int minSize = Math.min(oldSize, newSize);
+
+    int prefixSize = 0;
+    while (prefixSize < minSize
+        && isUnchanged(previousList.get(prefixSize), newList.get(prefixSize))) {
+      prefixSize++;
+    }
+
+    int suffixSize = 0;
+    int maxSuffixSize = minSize - prefixSize;
+    while (suffixSize < maxSuffixSize
+        && isUnchanged(
+        previousList.get(oldSize - suffixSize - 1),
+        newList.get(newSize - suffixSize - 1))) {
+      suffixSize++;
+    }
+
+    DiffCallback windowCallback = new DiffCallback(
+        previousList,
+        newList,
+        diffCallback,
+        prefixSize,
+        prefixSize,
+        oldSize - prefixSize - suffixSize,
+        newSize - prefixSize - suffixSize,
+        generationTracker,
+        runGeneration
+    );
+
+    DiffUtil.DiffResult differResult = DiffUtil.calculateDiff(windowCallback);
+    return DiffResult.partialDiff(previousList, newList, differResult, prefixSize);
+  }
+
+  /**
+   * Finds the runs of models, such as reused sections, that were added to both lists from the same
+   * list of models, and are still in the same order in both lists. These runs are known to be
+   * unchanged without comparing their models. Each run is returned as its start in the previous
+   * list, its start in the new list, and its size.
+   */
+  private static List<int[]> findSharedRuns(
+      @NonNull List<? extends EpoxyModel<?>> previousList,
+      @NonNull List<? extends EpoxyModel<?>> newList
+  ) {
+    if (!(previousList instanceof ControllerModelList)
+        || !(newList instanceof ControllerModelList)) {
+      return Collections.emptyList();
+    }
+
+    List<ModelRun> previousRuns = ((ControllerModelList) previousList).getRuns();
+    List<ModelRun> newRuns = ((ControllerModelList) newList).getRuns();
+    if (previousRuns.isEmpty() || newRuns.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    Map<List<EpoxyModel<?>>, ModelRun> previousRunsByModels = new IdentityHashMap<>();
+    for (ModelRun run : previousRuns) {
+      previousRunsByModels.put(run.models, run);
+    }
+
+    List<int[]> sharedRuns = new ArrayList<>();
+    int previousEnd = 0;
+    int newEnd = 0;
+    for (ModelRun newRun : newRuns) {
+      ModelRun previousRun = previousRunsByModels.get(newRun.models);
+      int size = newRun.models.size();
+      if (previousRun == null
+          || size == 0
+          || previousRun.start < previousEnd
+          || newRun.start < newEnd
+          || !isRunAt(previousList, previousRun)
+          || !isRunAt(newList, newRun)) {
+        continue;
+      }
+
+      sharedRuns.add(new int[]{previousRun.start, newRun.start, size});
+      previousEnd = previousRun.start + size;
+      newEnd = newRun.start + size;
+    }
+
+    return sharedRuns;
+  }
+
+  /** Interceptors and duplicate filtering can move models after a run is added. */
+  private static boolean isRunAt(List<? extends EpoxyModel<?>> list, ModelRun run) {
+    int size = run.models.size();
+    if (run.start + size > list.size()) {
+      return false;
+    }
+
+    for (int i = 0; i < size; i++) {
+      if (list.get(run.start + i) != run.models.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Runs the differ separately on each segment of models between the shared runs, so that the
+   * models in shared runs are never compared.
+   */
+  private DiffResult calculateSegmentedDiff(
+      @NonNull List<? extends EpoxyModel<?>> previousList,
+      @NonNull List<? extends EpoxyModel<?>> newList,
+      List<int[]> sharedRuns,
+      int runGeneration
+  ) {
+    List<DiffUtil.DiffResult> segmentResults = new ArrayList<>(sharedRuns.size() + 1);
+    int[] segmentStarts = new int[sharedRuns.size() + 1];
+
+    int previousStart = 0;
+    int newStart = 0;
+    for (int i = 0; i <= sharedRuns.size(); i++) {
+      boolean isLastSegment = i == sharedRuns.size();
+      int previousEnd = isLastSegment ? previousList.size() : sharedRuns.get(i)[0];
+      int newEnd = isLastSegment ? newList.size() : sharedRuns.get(i)[1];
+
+      segmentStarts[segmentResults.size()] = previousStart;
+      segmentResults.add(DiffUtil.calculateDiff(new DiffCallback(
+          previousList,
+          newList,
+          diffCallback,
+          previousStart,
+          newStart,
+          previousEnd - previousStart,
+          newEnd - newStart,
+          generationTracker,
+          runGeneration
+      )));
+
+      if (!isLastSegment) {
+        previousStart = previousEnd + sharedRuns.get(i)[2];
+        newStart = newEnd + sharedRuns.get(i)[2];
+      }
+    }
+
+    return DiffResult.segmentedDiff(previousList, newList, segmentResults, segmentStarts);
+  }
+
+  private boolean isUnchanged(EpoxyModel<?> oldModel, EpoxyModel<?> newModel) {
+    return oldModel == newModel
+        || (diffCallback.areItemsTheSame(oldModel, newModel)
+        && diffCallback.areContentsTheSame(oldModel, newModel));
+  }
+
   private void onRunCompleted(
       final int runGeneration,
       @Nullable final List<? extends EpoxyModel<?>> newList,
@@ -231,6 +447,14 @@ class AsyncEpoxyDiffer {
       return maxScheduledGeneration > maxFinishedGeneration;
     }
 
+    /**
+     * Whether the generation has been superseded by a newer one, or canceled, so that its result
+     * would not be used. This is not synchronized so that it is cheap enough to call while diffing.
+     */
+    boolean isStale(int runGeneration) {
+      return runGeneration != maxScheduledGeneration || runGeneration <= maxFinishedGeneration;
+    }
+
     synchronized boolean finishGeneration(int runGeneration) {
       boolean isLatestGeneration =
           maxScheduledGeneration == runGeneration && runGeneration > maxFinishedGeneration;
@@ -243,42 +467,96 @@ class AsyncEpoxyDiffer {
     }
   }
 
+  /**
+   * Thrown from the differ's callback to stop a diff whose generation has become stale. A single
+   * instance without a stack trace is reused since it is only used for control flow.
+   */
+  private static final class DiffCanceledException extends RuntimeException {
+    static final DiffCanceledException INSTANCE = new DiffCanceledException();
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
+
+  /**
+   * Diffs a window of the old and new lists. The window starts at the same position in both
+   * lists, and positions given to the differ are relative to the start of the window.
+   * <p>
+   * The differ calls {@link #areItemsTheSame(int, int)} many times for large or very different
+   * lists, so every {@link #CANCELLATION_CHECK_INTERVAL} calls the callback checks whether the diff
+   * has been superseded and stops the diff if it has.
+   */
   private static class DiffCallback extends DiffUtil.Callback {
+    private static final int CANCELLATION_CHECK_INTERVAL = 256;
 
     final List<? extends EpoxyModel<?>> oldList;
     final List<? extends EpoxyModel<?>> newList;
     private final ItemCallback<EpoxyModel<?>> diffCallback;
+    private final int oldWindowStart;
+    private final int newWindowStart;
+    private final int oldWindowSize;
+    private final int newWindowSize;
+    private final GenerationTracker generationTracker;
+    private final int runGeneration;
+    private int callsUntilCancellationCheck = CANCELLATION_CHECK_INTERVAL;
+
+    DiffCallback(List<? extends EpoxyModel<?>> oldList, List<? extends EpoxyModel<?>> newList,
+        ItemCallback<EpoxyModel<?>> diffCallback, GenerationTracker generationTracker,
+        int runGeneration) {
+      this(oldList, newList, diffCallback, 0, 0, oldList.size(), newList.size(),
+          generationTracker, runGeneration);
+    }
 
     DiffCallback(List<? extends EpoxyModel<?>> oldList, List<? extends EpoxyModel<?>> newList,
-        ItemCallback<EpoxyModel<?>> diffCallback) {
+        ItemCallback<EpoxyModel<?>> diffCallback, int oldWindowStart, int newWindowStart,
+        int oldWindowSize, int newWindowSize, GenerationTracker generationTracker,
+        int runGeneration) {
       this.oldList = oldList;
       this.newList = newList;
       this.diffCallback = diffCallback;
+      this.oldWindowStart = oldWindowStart;
+      this.newWindowStart = newWindowStart;
+      this.oldWindowSize = oldWindowSize;
+      this.newWindowSize = newWindowSize;
+      this.generationTracker = generationTracker;
+      this.runGeneration = runGeneration;
+    }
+
+    private void throwIfCanceled() {
+      if (--callsUntilCancellationCheck == 0) {
+        callsUntilCancellationCheck = CANCELLATION_CHECK_INTERVAL;
+        if (generationTracker.isStale(runGeneration)) {
+          throw DiffCanceledException.INSTANCE;
+        }
+      }
     }
 
     @Override
     public int getOldListSize() {
-      return oldList.size();
+      return oldWindowSize;
     }
 
     @Override
     public int getNewListSize() {
-      return newList.size();
+      return newWindowSize;
     }
 
     @Override
     public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+      throwIfCanceled();
       return diffCallback.areItemsTheSame(
-          oldList.get(oldItemPosition),
-          newList.get(newItemPosition)
+          oldList.get(oldWindowStart + oldItemPosition),
+          newList.get(newWindowStart + newItemPosition)
       );
     }
 
     @Override
     public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
       return diffCallback.areContentsTheSame(
-          oldList.get(oldItemPosition),
-          newList.get(newItemPosition)
+          oldList.get(oldWindowStart + oldItemPosition),
+          newList.get(newWindowStart + newItemPosition)
       );
     }
 
@@ -286,8 +564,8 @@ class AsyncEpoxyDiffer {
     @Override
     public Object getChangePayload(int oldItemPosition, int newItemPosition) {
       return diffCallback.getChangePayload(
-          oldList.get(oldItemPosition),
-          newList.get(newItemPosition)
+          oldList.get(oldWindowStart + oldItemPosition),
+          newList.get(newWindowStart + newItemPosition)
       );
     }
   }
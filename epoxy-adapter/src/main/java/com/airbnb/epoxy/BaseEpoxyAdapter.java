@@ -32,6 +32,16 @@ public abstract class BaseEpoxyAdapter
   private final BoundViewHolders boundViewHolders = new BoundViewHolders();
   private ViewHolderState viewHolderState = new ViewHolderState();
 
+  /**
+   * The position of the first model with each id in {@link #getCurrentModels()}, so that looking
+   * up the position of a model doesn't scan the models. It is rebuilt the first time it is used
+   * after the models are replaced, which for an {@link EpoxyController} is at most once per model
+   * build. Guarded by this adapter, since positions can be looked up while models are built.
+   */
+  private final LongIntMap positionOfId = new LongIntMap();
+  /** The models that {@link #positionOfId} was built from. */
+  @Nullable private List<? extends EpoxyModel<?>> indexedModels;
+
   private final SpanSizeLookup spanSizeLookup = new SpanSizeLookup() {
 
     @Override
@@ -76,6 +86,11 @@ public abstract class BaseEpoxyAdapter
   /** Return the models currently being used by the adapter to populate the recyclerview. */
   abstract List<? extends EpoxyModel<?>> getCurrentModels();
 
+  /** Called when {@link #getCurrentModels()} returns a new list instead of the previous one. */
+  void onCurrentModelsReplaced() {
+    viewTypeManager.onModelsReplaced();
+  }
+
   public boolean isEmpty() {
     return getCurrentModels().isEmpty();
   }
@@ -251,9 +266,27 @@ public abstract class BaseEpoxyAdapter
    * found.
    */
   protected int getModelPosition(EpoxyModel<?> model) {
-    int size = getCurrentModels().size();
-    for (int i = 0; i < size; i++) {
-      if (model == getCurrentModels().get(i)) {
+    List<? extends EpoxyModel<?>> models = getCurrentModels();
+    if (!canIndexPositions(models)) {
+      int size = models.size();
+      for (int i = 0; i < size; i++) {
+        if (model == models.get(i)) {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    int position = getModelPositionById(model.id());
+    if (position == -1 || models.get(position) == model) {
+      return position;
+    }
+
+    // Another model has the same id, which an EpoxyAdapter allows
+    int size = models.size();
+    for (int i = position + 1; i < size; i++) {
+      if (model == models.get(i)) {
         return i;
       }
     }
@@ -261,6 +294,46 @@ public abstract class BaseEpoxyAdapter
     return -1;
   }
 
+  /**
+   * Returns the position of the first model with the given id in the current models, or -1 if
+   * there is no model with that id. Positions of an {@link EpoxyController}'s models are indexed by
+   * id, so this doesn't scan the models.
+   */
+  public synchronized int getModelPositionById(long id) {
+    List<? extends EpoxyModel<?>> models = getCurrentModels();
+    if (!canIndexPositions(models)) {
+      int size = models.size();
+      for (int i = 0; i < size; i++) {
+        if (models.get(i).id() == id) {
+          return i;
+        }
+      }
+
+      return -1;
+    }
+
+    if (models != indexedModels) {
+      positionOfId.clear();
+      positionOfId.ensureCapacity(models.size());
+      for (int i = models.size() - 1; i >= 0; i--) {
+        // Going backwards leaves the first position of each id
+        positionOfId.put(models.get(i).id(), i, -1);
+      }
+      indexedModels = models;
+    }
+
+    return positionOfId.get(id, -1);
+  }
+
+  /**
+   * Only lists that are replaced rather than changed are indexed. An {@link EpoxyAdapter} changes
+   * its models in place, often between lookups as when inserting models one after another, so its
+   * index would be rebuilt for most lookups and a scan that stops at the match is cheaper.
+   */
+  private static boolean canIndexPositions(List<? extends EpoxyModel<?>> models) {
+    return !(models instanceof ModelList);
+  }
+
   /**
    * For use with a grid layout manager - use this to get the {@link SpanSizeLookup} for models in
    * this adapter. This will delegate span look up calls to each model's {@link
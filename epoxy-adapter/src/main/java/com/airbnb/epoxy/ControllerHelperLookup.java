@@ -2,27 +2,59 @@ package com.airbnb.epoxy;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 /**
  * Looks up a generated {@link ControllerHelper} implementation for a given adapter.
  * If the adapter has no {@link com.airbnb.epoxy.AutoModel} models then a No-Op implementation will
  * be returned.
+ * <p>
+ * Helpers are created by the generated {@link ControllerHelperRegistry} classes when possible, and
+ * otherwise by looking up the helper class by name with reflection, which is slower on first use.
+ * A registry can only create helpers for public controllers.
  */
 class ControllerHelperLookup {
   private static final String GENERATED_HELPER_CLASS_SUFFIX = "_EpoxyHelper";
+  /** The generated helper constructor for each controller class, or null if it has no helper. */
   private static final Map<Class<?>, Constructor<?>> BINDINGS = new LinkedHashMap<>();
+  /** The registry that creates the helper for each controller class, or null if none does. */
+  private static final Map<Class<?>, ControllerHelperRegistry> REGISTRY_BINDINGS =
+      new LinkedHashMap<>();
   private static final NoOpControllerHelper NO_OP_CONTROLLER_HELPER = new NoOpControllerHelper();
+  private static List<ControllerHelperRegistry> registries = loadRegistries();
 
   static ControllerHelper getHelperForController(EpoxyController controller) {
-    Constructor<?> constructor = findConstructorForClass(controller.getClass());
-    if (constructor == null) {
-      return NO_OP_CONTROLLER_HELPER;
+    // Registries only know public controllers, so each class is checked with both the registries
+    // and reflection before moving on to its superclass. Otherwise a non public controller with
+    // its own helper would get the helper of a public superclass, which skips its AutoModels.
+    for (Class<?> controllerClass = controller.getClass();
+        controllerClass != EpoxyController.class;
+        controllerClass = controllerClass.getSuperclass()) {
+      ControllerHelperRegistry registry = findRegistryForClass(controllerClass, controller);
+      if (registry != null) {
+        return registry.createHelper(controllerClass, controller);
+      }
+
+      Constructor<?> constructor = findConstructorForClass(controllerClass);
+      if (constructor != null) {
+        return createHelper(constructor, controller);
+      }
     }
 
+    return NO_OP_CONTROLLER_HELPER;
+  }
+
+  private static ControllerHelper createHelper(Constructor<?> constructor,
+      EpoxyController controller) {
     try {
       return (ControllerHelper) constructor.newInstance(controller);
     } catch (IllegalAccessException e) {
@@ -41,6 +73,33 @@ class ControllerHelperLookup {
     }
   }
 
+  /** Returns the registry that creates helpers for exactly the given class, if there is one. */
+  @Nullable
+  private static ControllerHelperRegistry findRegistryForClass(Class<?> controllerClass,
+      EpoxyController controller) {
+    if (registries.isEmpty()) {
+      return null;
+    }
+
+    ControllerHelperRegistry cachedRegistry = REGISTRY_BINDINGS.get(controllerClass);
+    if (cachedRegistry != null || REGISTRY_BINDINGS.containsKey(controllerClass)) {
+      return cachedRegistry;
+    }
+
+    // Registries don't expose their controller classes, so the first helper made for a class is
+    // only used to find its registry
+    ControllerHelperRegistry matchingRegistry = null;
+    for (ControllerHelperRegistry registry : registries) {
+      if (registry.createHelper(controllerClass, controller) != null) {
+        matchingRegistry = registry;
+        break;
+      }
+    }
+    REGISTRY_BINDINGS.put(controllerClass, matchingRegistry);
+    return matchingRegistry;
+  }
+
+  /** Returns the generated helper constructor for exactly the given class, if there is one. */
   @Nullable
   private static Constructor<?> findConstructorForClass(Class<?> controllerClass) {
     Constructor<?> helperCtor = BINDINGS.get(controllerClass);
@@ -58,11 +117,37 @@ class ControllerHelperLookup {
       //noinspection unchecked
       helperCtor = bindingClass.getConstructor(controllerClass);
     } catch (ClassNotFoundException e) {
-      helperCtor = findConstructorForClass(controllerClass.getSuperclass());
+      helperCtor = null;
     } catch (NoSuchMethodException e) {
       throw new RuntimeException("Unable to find Epoxy Helper constructor for " + clsName, e);
     }
     BINDINGS.put(controllerClass, helperCtor);
     return helperCtor;
   }
+
+  @VisibleForTesting
+  static void setRegistriesForTesting(List<ControllerHelperRegistry> testRegistries) {
+    registries = testRegistries;
+    REGISTRY_BINDINGS.clear();
+  }
+
+  private static List<ControllerHelperRegistry> loadRegistries() {
+    List<ControllerHelperRegistry> loadedRegistries = new ArrayList<>();
+    // This form of the call lets R8 replace the service lookup with the registry constructors
+    Iterator<ControllerHelperRegistry> iterator = ServiceLoader.load(
+        ControllerHelperRegistry.class, ControllerHelperRegistry.class.getClassLoader())
+        .iterator();
+    while (true) {
+      try {
+        if (!iterator.hasNext()) {
+          break;
+        }
+        loadedRegistries.add(iterator.next());
+      } catch (ServiceConfigurationError e) {
+        // A registry that fails to load leaves its controllers to the reflection fallback, and
+        // the iterator moves on to the remaining registries
+      }
+    }
+    return loadedRegistries;
+  }
 }
@@ -0,0 +1,22 @@
+package com.airbnb.epoxy;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Creates the generated {@link ControllerHelper} for controllers of a module without reflection.
+ * This is only implemented by the generated classes created by the annotation processor, which
+ * are found with a {@link java.util.ServiceLoader}.
+ */
+public interface ControllerHelperRegistry {
+  /**
+   * Returns a new helper for the controller if the given class is one of this registry's
+   * controllers, or null otherwise.
+   *
+   * @param controllerClass The class that the helper is generated for. This is either the class of
+   *                        the controller or one of its superclasses.
+   */
+  @Nullable
+  ControllerHelper<?> createHelper(@NonNull Class<?> controllerClass,
+      @NonNull EpoxyController controller);
+}
@@ -1,5 +1,16 @@
 package com.airbnb.epoxy;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
 /**
  * This ArrayList subclass enforces that no changes are made to the list after {@link #freeze()} is
  * called. This prevents model interceptors from storing the list and trying to change it later. We
@@ -23,13 +34,147 @@ class ControllerModelList extends ModelList {
     }
   };
 
+  /**
+   * A run of models that was added as a unit, such as the models of a section. A run is identified
+   * by the list instance its models came from, so that when the same list of models is added again
+   * in a later model build the differ knows that the run is unchanged without comparing its models.
+   */
+  static class ModelRun {
+    @NonNull final List<EpoxyModel<?>> models;
+    /** Where the run was added. Interceptors can change the list later, so this must be checked. */
+    final int start;
+
+    ModelRun(@NonNull List<EpoxyModel<?>> models, int start) {
+      this.models = models;
+      this.start = start;
+    }
+  }
+
+  private List<ModelRun> runs = Collections.emptyList();
+
+  /**
+   * The first position of each model in the list, by identity, so that model validation doesn't
+   * scan the list for each model added. This is only created once validation uses it, and is kept
+   * up to date as models are appended. Any other change to the list makes it stale, as tracked by
+   * {@link #indexedModCount}, and it is rebuilt the next time it is used.
+   */
+  @Nullable private Map<EpoxyModel<?>, Integer> firstPositionOfModel;
+  /** The models that are in the list more than once. Kept up to date with the index above. */
+  @Nullable private Set<EpoxyModel<?>> modelsAddedMultipleTimes;
+  private int indexedModCount;
+
   ControllerModelList(int expectedModelCount) {
     super(expectedModelCount);
     pauseNotifications();
   }
 
+  /** Records that the given models were added starting at the given position, in list order. */
+  void addRun(@NonNull List<EpoxyModel<?>> models, int start) {
+    if (runs.isEmpty()) {
+      runs = new ArrayList<>();
+    }
+    runs.add(new ModelRun(models, start));
+  }
+
+  @NonNull
+  List<ModelRun> getRuns() {
+    return runs;
+  }
+
+  @Override
+  public boolean add(EpoxyModel<?> model) {
+    boolean indexUpToDate = isIndexUpToDate();
+    super.add(model);
+    if (indexUpToDate) {
+      indexModel(model, size() - 1);
+      indexedModCount = modCount;
+    }
+    return true;
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends EpoxyModel<?>> models) {
+    boolean indexUpToDate = isIndexUpToDate();
+    int position = size();
+    boolean changed = super.addAll(models);
+    if (indexUpToDate) {
+      for (EpoxyModel<?> model : models) {
+        indexModel(model, position++);
+      }
+      indexedModCount = modCount;
+    }
+    return changed;
+  }
+
+  @Override
+  public void ensureCapacity(int minCapacity) {
+    boolean indexUpToDate = isIndexUpToDate();
+    super.ensureCapacity(minCapacity);
+    if (indexUpToDate) {
+      indexedModCount = modCount;
+    }
+  }
+
+  @Override
+  public EpoxyModel<?> set(int index, EpoxyModel<?> element) {
+    // Setting doesn't change modCount, so the index is dropped instead
+    firstPositionOfModel = null;
+    return super.set(index, element);
+  }
+
+  /** Returns the first position of the given model instance, or -1 if it isn't in the list. */
+  int firstPositionOf(EpoxyModel<?> model) {
+    updateIndex();
+    //noinspection ConstantConditions
+    Integer position = firstPositionOfModel.get(model);
+    return position != null ? position : -1;
+  }
+
+  /** Returns true if the given model instance is in the list more than once. */
+  boolean isAddedMultipleTimes(EpoxyModel<?> model) {
+    updateIndex();
+    //noinspection ConstantConditions
+    return modelsAddedMultipleTimes.contains(model);
+  }
+
+  private boolean isIndexUpToDate() {
+    return firstPositionOfModel != null && indexedModCount == modCount;
+  }
+
+  private void updateIndex() {
+    if (isIndexUpToDate()) {
+      return;
+    }
+
+    firstPositionOfModel = new IdentityHashMap<>(size());
+    modelsAddedMultipleTimes =
+        Collections.newSetFromMap(new IdentityHashMap<EpoxyModel<?>, Boolean>());
+    for (int i = 0, size = size(); i < size; i++) {
+      indexModel(get(i), i);
+    }
+    indexedModCount = modCount;
+  }
+
+  private void indexModel(EpoxyModel<?> model, int position) {
+    //noinspection ConstantConditions
+    if (firstPositionOfModel.containsKey(model)) {
+      modelsAddedMultipleTimes.add(model);
+    } else {
+      firstPositionOfModel.put(model, position);
+    }
+  }
+
   void freeze() {
+    // Only used while models are built
+    firstPositionOfModel = null;
+    modelsAddedMultipleTimes = null;
+
     setObserver(OBSERVER);
     resumeNotifications();
+
+    // The models themselves are immutable from now on as well
+    for (int i = 0, size = size(); i < size; i++) {
+      get(i).frozen = true;
+    }
   }
 }
@@ -1,25 +1,22 @@
-
 package com.airbnb.epoxy;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
-import androidx.annotation.Nullable;
 import androidx.recyclerview.widget.RecyclerView;
 
+import static com.airbnb.epoxy.ModelStateTable.NONE;
+
 /**
  * Helper to track changes in the models list.
  */
 class DiffHelper {
-  private ArrayList<ModelState> oldStateList = new ArrayList<>();
-  // Using a HashMap instead of a LongSparseArray to
-  // have faster look up times at the expense of memory
-  private Map<Long, ModelState> oldStateMap = new HashMap<>();
-  private ArrayList<ModelState> currentStateList = new ArrayList<>();
-  private Map<Long, ModelState> currentStateMap = new HashMap<>();
+  // Model state is stored in primitive tables that are swapped and reused for each diff, so that
+  // steady state diffing doesn't need to box ids or allocate an object per model.
+  private ModelStateTable oldStates = new ModelStateTable();
+  private ModelStateTable currentStates = new ModelStateTable();
+  private final UpdateOpHelper updateOpHelper = new UpdateOpHelper();
+  /** The next position in the old state list to check when looking for items with a pair. */
+  private int oldStateCursor;
   private final BaseEpoxyAdapter adapter;
   private final boolean immutableModels;
 
@@ -40,7 +37,8 @@ class DiffHelper {
     @Override
     public void onItemRangeChanged(int positionStart, int itemCount) {
       for (int i = positionStart; i < positionStart + itemCount; i++) {
-        currentStateList.get(i).hashCode = adapter.getCurrentModels().get(i).hashCode();
+        currentStates.hashCodes[currentStates.stateAt(i)] =
+            adapter.getCurrentModels().get(i).hashCode();
       }
     }
 
@@ -51,24 +49,16 @@ class DiffHelper {
         return;
       }
 
-      if (itemCount == 1 || positionStart == currentStateList.size()) {
-        for (int i = positionStart; i < positionStart + itemCount; i++) {
-          currentStateList.add(i, createStateForPosition(i));
-        }
-      } else {
-        // Add in a batch since multiple insertions to the middle of the list are slow
-        List<ModelState> newModels = new ArrayList<>(itemCount);
-        for (int i = positionStart; i < positionStart + itemCount; i++) {
-          newModels.add(createStateForPosition(i));
-        }
-
-        currentStateList.addAll(positionStart, newModels);
+      // Open the gap once since multiple insertions to the middle of the list are slow
+      currentStates.insertGap(positionStart, itemCount);
+      for (int i = positionStart; i < positionStart + itemCount; i++) {
+        currentStates.set(i, createStateForPosition(i));
       }
 
       // Update positions of affected items
-      int size = currentStateList.size();
+      int size = currentStates.size();
       for (int i = positionStart + itemCount; i < size; i++) {
-        currentStateList.get(i).position += itemCount;
+        currentStates.positions[currentStates.stateAt(i)] += itemCount;
       }
     }
 
@@ -79,17 +69,12 @@ class DiffHelper {
         return;
       }
 
-      List<ModelState> modelsToRemove =
-          currentStateList.subList(positionStart, positionStart + itemCount);
-      for (ModelState model : modelsToRemove) {
-        currentStateMap.remove(model.id);
-      }
-      modelsToRemove.clear();
+      currentStates.remove(positionStart, itemCount);
 
       // Update positions of affected items
-      int size = currentStateList.size();
+      int size = currentStates.size();
       for (int i = positionStart; i < size; i++) {
-        currentStateList.get(i).position -= itemCount;
+        currentStates.positions[currentStates.stateAt(i)] -= itemCount;
       }
     }
 
@@ -105,19 +90,18 @@ class DiffHelper {
             + "supported. Number of items moved: " + itemCount);
       }
 
-      ModelState model = currentStateList.remove(fromPosition);
-      model.position = toPosition;
-      currentStateList.add(toPosition, model);
+      currentStates.move(fromPosition, toPosition);
+      currentStates.positions[currentStates.stateAt(toPosition)] = toPosition;
 
       if (fromPosition < toPosition) {
         // shift the affected items left
         for (int i = fromPosition; i < toPosition; i++) {
-          currentStateList.get(i).position--;
+          currentStates.positions[currentStates.stateAt(i)]--;
         }
       } else {
         // shift the affected items right
         for (int i = toPosition + 1; i <= fromPosition; i++) {
-          currentStateList.get(i).position++;
+          currentStates.positions[currentStates.stateAt(i)]++;
         }
       }
     }
@@ -128,7 +112,8 @@ class DiffHelper {
    * current list and the last list that was set.
    */
   void notifyModelChanges() {
-    UpdateOpHelper updateOpHelper = new UpdateOpHelper();
+    // The op helper is reused across diffs so its lists don't need to be reallocated each time
+    updateOpHelper.reset();
 
     buildDiff(updateOpHelper);
 
@@ -137,6 +122,9 @@ class DiffHelper {
     adapter.unregisterAdapterDataObserver(observer);
     notifyChanges(updateOpHelper);
     adapter.registerAdapterDataObserver(observer);
+
+    // Release the payload models held by the ops
+    updateOpHelper.reset();
   }
 
   private void notifyChanges(UpdateOpHelper opHelper) {
@@ -166,8 +154,8 @@ class DiffHelper {
   }
 
   /**
-   * Create a list of operations that define the difference between {@link #oldStateList} and {@link
-   * #currentStateList}.
+   * Create a list of operations that define the difference between {@link #oldStates} and {@link
+   * #currentStates}.
    */
   private UpdateOpHelper buildDiff(UpdateOpHelper updateOpHelper) {
     prepareStateForDiff();
@@ -175,13 +163,13 @@ class DiffHelper {
     // The general approach is to first search for removals, then additions, and lastly changes.
     // Focusing on one type of operation at a time makes it easy to coalesce batch changes.
     // When we identify an operation and add it to the
-    // result list we update the positions of items in the oldStateList to reflect
+    // result list we update the positions of items in the oldStates to reflect
     // the change, this way subsequent operations will use the correct, updated positions.
     collectRemovals(updateOpHelper);
 
     // Only need to check for insertions if new list is bigger
     boolean hasInsertions =
-        oldStateList.size() - updateOpHelper.getNumRemovals() != currentStateList.size();
+        oldStates.size() - updateOpHelper.getNumRemovals() != currentStates.size();
     if (hasInsertions) {
       collectInsertions(updateOpHelper);
     }
@@ -195,48 +183,39 @@ class DiffHelper {
   }
 
   private void resetOldState() {
-    oldStateList.clear();
-    oldStateMap.clear();
+    oldStates.clear();
   }
 
   private void prepareStateForDiff() {
-    // We use a list of the models as well as a map by their id,
+    // We use a list of the models as well as an index by their id,
     // so we can easily find them by both position and id
 
-    oldStateList.clear();
-    oldStateMap.clear();
-
-    // Swap the two lists so that we have a copy of the current state to calculate the next diff
-    ArrayList<ModelState> tempList = oldStateList;
-    oldStateList = currentStateList;
-    currentStateList = tempList;
-
-    Map<Long, ModelState> tempMap = oldStateMap;
-    oldStateMap = currentStateMap;
-    currentStateMap = tempMap;
+    // Swap the two tables so that we have a copy of the current state to calculate the next diff
+    ModelStateTable tempStates = oldStates;
+    oldStates = currentStates;
+    currentStates = tempStates;
+    currentStates.clear();
 
     // Remove all pairings in the old states so we can tell which of them were removed. The items
     // that still exist in the new list will be paired when we build the current list state below
-    for (ModelState modelState : oldStateList) {
-      modelState.pair = null;
-    }
+    oldStates.clearPairs();
 
     int modelCount = adapter.getCurrentModels().size();
-    currentStateList.ensureCapacity(modelCount);
+    currentStates.ensureCapacity(modelCount);
 
     for (int i = 0; i < modelCount; i++) {
-      currentStateList.add(createStateForPosition(i));
+      currentStates.add(createStateForPosition(i));
     }
   }
 
-  private ModelState createStateForPosition(int position) {
+  private int createStateForPosition(int position) {
     EpoxyModel<?> model = adapter.getCurrentModels().get(position);
     model.addedToAdapter = true;
-    ModelState state = ModelState.build(model, position, immutableModels);
+    int state = currentStates.newState(model, position, immutableModels);
 
-    ModelState previousValue = currentStateMap.put(state.id, state);
-    if (previousValue != null) {
-      int previousPosition = previousValue.position;
+    int previousState = currentStates.index(state);
+    if (previousState != NONE) {
+      int previousPosition = currentStates.positions[previousState];
       EpoxyModel<?> previousModel = adapter.getCurrentModels().get(previousPosition);
       throw new IllegalStateException("Two models have the same ID. ID's must be unique!"
           + " Model at position " + position + ": " + model
@@ -248,47 +227,53 @@ class DiffHelper {
 
   /**
    * Find all removal operations and add them to the result list. The general strategy here is to
-   * walk through the {@link #oldStateList} and check for items that don't exist in the new list.
+   * walk through the {@link #oldStates} and check for items that don't exist in the new list.
    * Walking through it in order makes it easy to batch adjacent removals.
    */
   private void collectRemovals(UpdateOpHelper helper) {
-    for (ModelState state : oldStateList) {
+    int size = oldStates.size();
+    for (int i = 0; i < size; i++) {
+      int state = oldStates.stateAt(i);
+
       // Update the position of the item to take into account previous removals,
       // so that future operations will reference the correct position
-      state.position -= helper.getNumRemovals();
+      oldStates.positions[state] -= helper.getNumRemovals();
 
       // This is our first time going through the list, so we
       // look up the item with the matching id in the new
       // list and hold a reference to it so that we can access it quickly in the future
-      state.pair = currentStateMap.get(state.id);
-      if (state.pair != null) {
-        state.pair.pair = state;
+      int pair = currentStates.stateForId(oldStates.ids[state]);
+      oldStates.pairs[state] = pair;
+      if (pair != NONE) {
+        currentStates.pairs[pair] = state;
         continue;
       }
 
-      helper.remove(state.position);
+      helper.remove(oldStates.positions[state]);
     }
   }
 
   /**
    * Find all insertion operations and add them to the result list. The general strategy here is to
-   * walk through the {@link #currentStateList} and check for items that don't exist in the old
+   * walk through the {@link #currentStates} and check for items that don't exist in the old
    * list. Walking through it in order makes it easy to batch adjacent insertions.
    */
   private void collectInsertions(UpdateOpHelper helper) {
-    Iterator<ModelState> oldItemIterator = oldStateList.iterator();
+    oldStateCursor = 0;
 
-    for (ModelState itemToInsert : currentStateList) {
-      if (itemToInsert.pair != null) {
+    int size = currentStates.size();
+    for (int i = 0; i < size; i++) {
+      int itemToInsert = currentStates.stateAt(i);
+      if (currentStates.pairs[itemToInsert] != NONE) {
         // Update the position of the next item in the old list to take any insertions into account
-        ModelState nextOldItem = getNextItemWithPair(oldItemIterator);
-        if (nextOldItem != null) {
-          nextOldItem.position += helper.getNumInsertions();
+        int nextOldItem = getNextOldItemWithPair();
+        if (nextOldItem != NONE) {
+          oldStates.positions[nextOldItem] += helper.getNumInsertions();
         }
         continue;
       }
 
-      helper.add(itemToInsert.position);
+      helper.add(currentStates.positions[itemToInsert]);
     }
   }
 
@@ -296,31 +281,34 @@ class DiffHelper {
    * Check if any items have had their values changed, batching if possible.
    */
   private void collectChanges(UpdateOpHelper helper) {
-    for (ModelState newItem : currentStateList) {
-      ModelState previousItem = newItem.pair;
-      if (previousItem == null) {
+    int size = currentStates.size();
+    for (int i = 0; i < size; i++) {
+      int newItem = currentStates.stateAt(i);
+      int previousItem = currentStates.pairs[newItem];
+      if (previousItem == NONE) {
         continue;
       }
 
       // We use equals when we know the models are immutable and available, otherwise we have to
       // rely on the stored hashCode
+      EpoxyModel<?> previousModel = oldStates.models[previousItem];
       boolean modelChanged;
       if (immutableModels) {
         // Make sure that the old model hasn't changed, otherwise comparing it with the new one
         // won't be accurate.
-        if (previousItem.model.isDebugValidationEnabled()) {
-          previousItem.model
+        if (previousModel.isDebugValidationEnabled()) {
+          previousModel
               .validateStateHasNotChangedSinceAdded("Model was changed before it could be diffed.",
-                  previousItem.position);
+                  oldStates.positions[previousItem]);
         }
 
-        modelChanged = !previousItem.model.equals(newItem.model);
+        modelChanged = !previousModel.equals(currentStates.models[newItem]);
       } else {
-        modelChanged = previousItem.hashCode != newItem.hashCode;
+        modelChanged = oldStates.hashCodes[previousItem] != currentStates.hashCodes[newItem];
       }
 
       if (modelChanged) {
-        helper.update(newItem.position, previousItem.model);
+        helper.update(currentStates.positions[newItem], previousModel);
       }
     }
   }
@@ -330,11 +318,13 @@ class DiffHelper {
    */
   private void collectMoves(UpdateOpHelper helper) {
     // This walks through both the new and old list simultaneous and checks for position changes.
-    Iterator<ModelState> oldItemIterator = oldStateList.iterator();
-    ModelState nextOldItem = null;
+    oldStateCursor = 0;
+    int nextOldItem = NONE;
 
-    for (ModelState newItem : currentStateList) {
-      if (newItem.pair == null) {
+    int size = currentStates.size();
+    for (int i = 0; i < size; i++) {
+      int newItem = currentStates.stateAt(i);
+      if (currentStates.pairs[newItem] == NONE) {
         // This item was inserted. However, insertions are done at the item's final position, and
         // aren't smart about inserting at a different position to take future moves into account.
         // As the old state list is updated to reflect moves, it needs to also consider insertions
@@ -347,10 +337,12 @@ class DiffHelper {
           // into account. The old list doesn't have this item inserted into it
           // (for optimization purposes), but we can create a pair for this item to
           // track its position in the old list and move it back to its final position if necessary
-          newItem.pairWithSelf();
+          oldStates.pairWithCopy(currentStates, newItem);
         }
       }
 
+      int newItemPair = currentStates.pairs[newItem];
+
       // We could iterate through only the new list and move each
       // item that is out of place, however in cases such as moving the first item
       // to the end, that strategy would do many moves to move all
@@ -361,51 +353,56 @@ class DiffHelper {
       // the correct spot. Since we move from start to end, all new items we've
       // already iterated through are guaranteed to have their pair
       // be already in the right spot, which won't be affected by future MOVEs.
-      if (nextOldItem == null) {
-        nextOldItem = getNextItemWithPair(oldItemIterator);
+      if (nextOldItem == NONE) {
+        nextOldItem = getNextOldItemWithPair();
 
         // We've already iterated through all old items and moved each
         // item once. However, subsequent moves may have shifted an item out of
         // its correct space once it was already moved. We finish
         // iterating through all the new items to ensure everything is still correct
-        if (nextOldItem == null) {
-          nextOldItem = newItem.pair;
+        if (nextOldItem == NONE) {
+          nextOldItem = newItemPair;
         }
       }
 
-      while (nextOldItem != null) {
+      while (nextOldItem != NONE) {
         // Make sure the positions are updated to the latest
         // move operations before we calculate the next move
-        updateItemPosition(newItem.pair, helper.moves);
+        updateItemPosition(newItemPair, helper.moves);
         updateItemPosition(nextOldItem, helper.moves);
 
+        int newItemPosition = currentStates.positions[newItem];
+        int nextOldItemPosition = oldStates.positions[nextOldItem];
+
         // The item is the same and its already in the correct place
-        if (newItem.id == nextOldItem.id && newItem.position == nextOldItem.position) {
-          nextOldItem = null;
+        if (currentStates.ids[newItem] == oldStates.ids[nextOldItem]
+            && newItemPosition == nextOldItemPosition) {
+          nextOldItem = NONE;
           break;
         }
 
-        int newItemDistance = newItem.pair.position - newItem.position;
-        int oldItemDistance = nextOldItem.pair.position - nextOldItem.position;
+        int nextOldItemTargetPosition = currentStates.positions[oldStates.pairs[nextOldItem]];
+        int newItemDistance = oldStates.positions[newItemPair] - newItemPosition;
+        int oldItemDistance = nextOldItemTargetPosition - nextOldItemPosition;
 
         // Both items are already in the correct position
         if (newItemDistance == 0 && oldItemDistance == 0) {
-          nextOldItem = null;
+          nextOldItem = NONE;
           break;
         }
 
         if (oldItemDistance > newItemDistance) {
-          helper.move(nextOldItem.position, nextOldItem.pair.position);
+          helper.move(nextOldItemPosition, nextOldItemTargetPosition);
 
-          nextOldItem.position = nextOldItem.pair.position;
-          nextOldItem.lastMoveOp = helper.getNumMoves();
+          oldStates.positions[nextOldItem] = nextOldItemTargetPosition;
+          oldStates.lastMoveOps[nextOldItem] = helper.getNumMoves();
 
-          nextOldItem = getNextItemWithPair(oldItemIterator);
+          nextOldItem = getNextOldItemWithPair();
         } else {
-          helper.move(newItem.pair.position, newItem.position);
+          helper.move(oldStates.positions[newItemPair], newItemPosition);
 
-          newItem.pair.position = newItem.position;
-          newItem.pair.lastMoveOp = helper.getNumMoves();
+          oldStates.positions[newItemPair] = newItemPosition;
+          oldStates.lastMoveOps[newItemPair] = helper.getNumMoves();
           break;
         }
       }
@@ -413,43 +410,44 @@ class DiffHelper {
   }
 
   /**
-   * Apply the movement operations to the given item to update its position. Only applies the
-   * operations that have not been applied yet, and stores how many operations have been applied so
-   * we know which ones to apply next time.
+   * Apply the movement operations to the given item in the old states to update its position. Only
+   * applies the operations that have not been applied yet, and stores how many operations have
+   * been applied so we know which ones to apply next time.
    */
-  private void updateItemPosition(ModelState item, List<UpdateOp> moveOps) {
+  private void updateItemPosition(int item, List<UpdateOp> moveOps) {
     int size = moveOps.size();
+    int position = oldStates.positions[item];
 
-    for (int i = item.lastMoveOp; i < size; i++) {
+    for (int i = oldStates.lastMoveOps[item]; i < size; i++) {
       UpdateOp moveOp = moveOps.get(i);
       int fromPosition = moveOp.positionStart;
       int toPosition = moveOp.itemCount;
 
-      if (item.position > fromPosition && item.position <= toPosition) {
-        item.position--;
-      } else if (item.position < fromPosition && item.position >= toPosition) {
-        item.position++;
+      if (position > fromPosition && position <= toPosition) {
+        position--;
+      } else if (position < fromPosition && position >= toPosition) {
+        position++;
       }
     }
 
-    item.lastMoveOp = size;
+    oldStates.positions[item] = position;
+    oldStates.lastMoveOps[item] = size;
   }
 
   /**
-   * Gets the next item in the list that has a pair, meaning it wasn't inserted or removed.
+   * Gets the next item in the old list that has a pair, meaning it wasn't inserted or removed.
+   * Advances {@link #oldStateCursor} past the returned item. Returns {@link ModelStateTable#NONE}
+   * once there are no more items.
    */
-  @Nullable
-  private ModelState getNextItemWithPair(Iterator<ModelState> iterator) {
-    ModelState nextItem = null;
-    while (nextItem == null && iterator.hasNext()) {
-      nextItem = iterator.next();
-
-      if (nextItem.pair == null) {
-        // Skip this one and go on to the next
-        nextItem = null;
+  private int getNextOldItemWithPair() {
+    int size = oldStates.size();
+    while (oldStateCursor < size) {
+      int nextItem = oldStates.stateAt(oldStateCursor++);
+      if (oldStates.pairs[nextItem] != NONE) {
+        return nextItem;
       }
     }
 
-    return nextItem;
+    return NONE;
   }
 }
@@ -1,5 +1,6 @@
 package com.airbnb.epoxy;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,6 +17,15 @@ import androidx.collection.LongSparseArray;
 public class DiffPayload {
   private final EpoxyModel<?> singleModel;
   private final LongSparseArray<EpoxyModel<?>> modelsById;
+  /** The model that replaced {@link #singleModel}, if it is known. */
+  @Nullable private final EpoxyModel<?> newModel;
+  /**
+   * The attributes of {@link #newModel} that differ from {@link #singleModel}, if the model has
+   * more attributes than fit in {@link #changedAttributeMask}.
+   */
+  @Nullable private final BitSet changedAttributes;
+  /** The attributes of {@link #newModel} that differ from {@link #singleModel}, as a bit mask. */
+  private final long changedAttributeMask;
 
   DiffPayload(List<? extends EpoxyModel<?>> models) {
     if (models.isEmpty()) {
@@ -35,12 +45,38 @@ public class DiffPayload {
         modelsById.put(model.id(), model);
       }
     }
+
+    newModel = null;
+    changedAttributes = null;
+    changedAttributeMask = 0;
   }
 
   public DiffPayload(EpoxyModel<?> changedItem) {
     this(Collections.singletonList(changedItem));
   }
 
+  /**
+   * @param changedAttributes    The attributes of the new model that differ from the previous
+   *                             model, as given by
+   *                             {@link EpoxyModel#getChangedAttributes(EpoxyModel)}.
+   * @param changedAttributeMask The same attributes as a bit mask, as given by
+   *                             {@link EpoxyModel#getChangedAttributeMask(EpoxyModel)}.
+   */
+  DiffPayload(EpoxyModel<?> previousModel, EpoxyModel<?> newModel,
+      @Nullable BitSet changedAttributes, long changedAttributeMask) {
+    singleModel = previousModel;
+    modelsById = null;
+    this.newModel = newModel;
+    this.changedAttributes = changedAttributes;
+    this.changedAttributeMask = changedAttributeMask;
+  }
+
+  /** The previous model that changed, or null if this payload is for multiple models. */
+  @Nullable
+  EpoxyModel<?> getSingleModel() {
+    return singleModel;
+  }
+
   /**
    * Looks through the payloads list and returns the first model found with the given model id. This
    * assumes that the payloads list will only contain objects of type {@link DiffPayload}, and will
@@ -70,6 +106,31 @@ public class DiffPayload {
     return null;
   }
 
+  @Nullable
+  BitSet getChangedAttributes() {
+    return changedAttributes;
+  }
+
+  long getChangedAttributeMask() {
+    return changedAttributeMask;
+  }
+
+  /**
+   * Returns the payload with the attributes of the given model that changed from the previously
+   * bound model, or null if they aren't known. They are only known if the payloads contain a
+   * single change for the model, since otherwise the attributes were compared against models that
+   * aren't the ones being bound.
+   */
+  @Nullable
+  static DiffPayload getChangedAttributesPayload(List<Object> payloads, EpoxyModel<?> model) {
+    if (payloads.size() != 1) {
+      return null;
+    }
+
+    DiffPayload diffPayload = (DiffPayload) payloads.get(0);
+    return diffPayload.newModel == model ? diffPayload : null;
+  }
+
   @VisibleForTesting
   boolean equalsForTesting(DiffPayload that) {
     if (singleModel != null) {
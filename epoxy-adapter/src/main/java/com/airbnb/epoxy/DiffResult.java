@@ -1,5 +1,7 @@
 package com.airbnb.epoxy;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -20,9 +22,22 @@ public class DiffResult {
   /**
    * If this is non null it means the full differ ran and the result is contained
    * in this object. If it is null, it means that either the old list or the new list was empty, so
-   * we can simply add all or clear all items and skipped running the full diffing.
+   * we can simply add all or clear all items and skipped running the full diffing, or that the
+   * differ ran on segments of the lists and the update ops are in {@link #recordedUpdates}.
    */
   @Nullable final DiffUtil.DiffResult differResult;
+  /**
+   * The position in both lists where the window given to the differ starts. This is 0 unless
+   * unchanged models at the start of the lists were skipped, in which case the update ops in
+   * {@link #differResult} are shifted by this amount when dispatched.
+   */
+  final int differWindowStart;
+  /**
+   * The update ops of {@link #differResult}, recorded on the diffing thread by
+   * {@link #precomputeUpdates()} so that dispatching them on the main thread is only a replay of
+   * already coalesced ops with their payloads. Null if they were not precomputed.
+   */
+  @Nullable private RecordedUpdates recordedUpdates;
 
   /** No changes were made to the models. */
   static DiffResult noOp(@Nullable List<? extends EpoxyModel<?>> models) {
@@ -56,23 +71,89 @@ public class DiffResult {
     return new DiffResult(previousModels, newModels, differResult);
   }
 
+  /**
+   * The previous and new models are both non empty and the differ was run on the window of models
+   * starting at the given position, with unchanged models before and after the window skipped.
+   */
+  static DiffResult partialDiff(
+      @NonNull List<? extends EpoxyModel<?>> previousModels,
+      @NonNull List<? extends EpoxyModel<?>> newModels,
+      @NonNull DiffUtil.DiffResult differResult,
+      int differWindowStart
+  ) {
+    return new DiffResult(previousModels, newModels, differResult, differWindowStart);
+  }
+
+  /**
+   * The previous and new models are both non empty and the differ was run separately on each of
+   * the given segments of the lists, with the models between the segments unchanged. Each differ
+   * result's update ops are shifted by the start of its segment in the previous models, which are
+   * given in increasing order.
+   */
+  static DiffResult segmentedDiff(
+      @NonNull List<? extends EpoxyModel<?>> previousModels,
+      @NonNull List<? extends EpoxyModel<?>> newModels,
+      @NonNull List<DiffUtil.DiffResult> segmentResults,
+      @NonNull int[] segmentStarts
+  ) {
+    DiffResult result = new DiffResult(previousModels, newModels, null);
+
+    // Segments are dispatched from the last to the first so that the ops of each segment don't
+    // shift the positions of the segments still to be dispatched
+    RecordedUpdates updates = new RecordedUpdates();
+    for (int i = segmentResults.size() - 1; i >= 0; i--) {
+      segmentResults.get(i)
+          .dispatchUpdatesTo(new OffsetListUpdateCallback(updates, segmentStarts[i]));
+    }
+    result.recordedUpdates = updates;
+    return result;
+  }
+
   private DiffResult(
       @NonNull List<? extends EpoxyModel<?>> previousModels,
       @NonNull List<? extends EpoxyModel<?>> newModels,
       @Nullable DiffUtil.DiffResult differResult
+  ) {
+    this(previousModels, newModels, differResult, 0);
+  }
+
+  private DiffResult(
+      @NonNull List<? extends EpoxyModel<?>> previousModels,
+      @NonNull List<? extends EpoxyModel<?>> newModels,
+      @Nullable DiffUtil.DiffResult differResult,
+      int differWindowStart
   ) {
     this.previousModels = previousModels;
     this.newModels = newModels;
     this.differResult = differResult;
+    this.differWindowStart = differWindowStart;
   }
 
   public void dispatchTo(Adapter adapter) {
     dispatchTo(new AdapterListUpdateCallback(adapter));
   }
 
+  /**
+   * Works out the update ops of the differ result, including change payloads, so that
+   * {@link #dispatchTo(ListUpdateCallback)} doesn't need to. This is meant to be called on the
+   * diffing thread before the result is handed to the main thread.
+   */
+  void precomputeUpdates() {
+    if (differResult == null || recordedUpdates != null) {
+      return;
+    }
+
+    RecordedUpdates updates = new RecordedUpdates();
+    // The differ result coalesces adjacent ops before they reach the recorder
+    dispatchDifferResult(updates);
+    recordedUpdates = updates;
+  }
+
   public void dispatchTo(ListUpdateCallback callback) {
-    if (differResult != null) {
-      differResult.dispatchUpdatesTo(callback);
+    if (recordedUpdates != null) {
+      recordedUpdates.replay(callback);
+    } else if (differResult != null) {
+      dispatchDifferResult(callback);
     } else if (newModels.isEmpty() && !previousModels.isEmpty()) {
       callback.onRemoved(0, previousModels.size());
     } else if (!newModels.isEmpty() && previousModels.isEmpty()) {
@@ -81,4 +162,115 @@ public class DiffResult {
 
     // Else nothing changed!
   }
+
+  private void dispatchDifferResult(ListUpdateCallback callback) {
+    //noinspection ConstantConditions
+    if (differWindowStart == 0) {
+      differResult.dispatchUpdatesTo(callback);
+    } else {
+      differResult.dispatchUpdatesTo(new OffsetListUpdateCallback(callback, differWindowStart));
+    }
+  }
+
+  /**
+   * Records update ops in a flat array of ints, with three ints per op: the op type and its two
+   * arguments. Change payloads are kept in a parallel list.
+   */
+  private static class RecordedUpdates implements ListUpdateCallback {
+    private static final int INSERTED = 0;
+    private static final int REMOVED = 1;
+    private static final int MOVED = 2;
+    private static final int CHANGED = 3;
+
+    private int[] ops = new int[3 * 8];
+    private int opCount;
+    private final ArrayList<Object> payloads = new ArrayList<>();
+
+    @Override
+    public void onInserted(int position, int count) {
+      add(INSERTED, position, count, null);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+      add(REMOVED, position, count, null);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+      add(MOVED, fromPosition, toPosition, null);
+    }
+
+    @Override
+    public void onChanged(int position, int count, @Nullable Object payload) {
+      add(CHANGED, position, count, payload);
+    }
+
+    private void add(int type, int first, int second, @Nullable Object payload) {
+      int index = opCount * 3;
+      if (index == ops.length) {
+        ops = Arrays.copyOf(ops, ops.length * 2);
+      }
+
+      ops[index] = type;
+      ops[index + 1] = first;
+      ops[index + 2] = second;
+      payloads.add(payload);
+      opCount++;
+    }
+
+    void replay(ListUpdateCallback callback) {
+      for (int i = 0; i < opCount; i++) {
+        int first = ops[i * 3 + 1];
+        int second = ops[i * 3 + 2];
+        switch (ops[i * 3]) {
+          case INSERTED:
+            callback.onInserted(first, second);
+            break;
+          case REMOVED:
+            callback.onRemoved(first, second);
+            break;
+          case MOVED:
+            callback.onMoved(first, second);
+            break;
+          case CHANGED:
+            callback.onChanged(first, second, payloads.get(i));
+            break;
+          default:
+            throw new IllegalStateException("Unknown update op type: " + ops[i * 3]);
+        }
+      }
+    }
+  }
+
+  /** Shifts the positions of all update ops by a fixed offset before forwarding them. */
+  private static class OffsetListUpdateCallback implements ListUpdateCallback {
+    private final ListUpdateCallback callback;
+    private final int offset;
+
+    OffsetListUpdateCallback(ListUpdateCallback callback, int offset) {
+      this.callback = callback;
+      this.offset = offset;
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+      callback.onInserted(position + offset, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+      callback.onRemoved(position + offset, count);
+    }
+
+    @Override
+    public void onMoved(int fromPosition, int toPosition) {
+      callback.onMoved(fromPosition + offset, toPosition + offset);
+    }
+
+    @Override
+    public void onChanged(int position, int count, @Nullable Object payload) {
+      callback.onChanged(position + offset, count, payload);
+    }
+  }
 }
@@ -7,6 +7,11 @@ import android.os.HandlerThread;
 import android.os.Looper;
 import android.os.Message;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import androidx.annotation.MainThread;
 
 /**
@@ -31,6 +36,7 @@ public final class EpoxyAsyncUtil {
       createHandler(Looper.getMainLooper(), true);
 
   private static Handler asyncBackgroundHandler;
+  private static Executor modelBuildingWorkerExecutor;
 
   /**
    * A Handler class that uses a separate background thread dedicated to Epoxy. Additionally,
@@ -48,6 +54,32 @@ public final class EpoxyAsyncUtil {
     return asyncBackgroundHandler;
   }
 
+  /**
+   * A thread pool with a thread per available processor, used by default to build sections of
+   * models in parallel with {@link EpoxyController#addSectionsInParallel(java.util.List)}.
+   */
+  public static synchronized Executor getModelBuildingWorkerExecutor() {
+    // This is initialized lazily so we don't create the threads unless they will be used.
+    if (modelBuildingWorkerExecutor == null) {
+      int threadCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+      modelBuildingWorkerExecutor =
+          Executors.newFixedThreadPool(threadCount, new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread =
+                  new Thread(runnable, "epoxy-model-builder-" + threadNumber.incrementAndGet());
+              // Idle workers shouldn't keep the process alive
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+    }
+
+    return modelBuildingWorkerExecutor;
+  }
+
   /**
    * Create a Handler with the given Looper
    *
@@ -1,7 +1,10 @@
 package com.airbnb.epoxy;
 
+import android.os.Build;
 import android.os.Bundle;
 import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
 import android.view.View;
 
 import com.airbnb.epoxy.stickyheader.StickyHeaderCallbacks;
@@ -11,15 +14,21 @@ import org.jetbrains.annotations.NotNull;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Set;
+import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.GridLayoutManager.SpanSizeLookup;
 
@@ -60,6 +69,10 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
   public static Handler defaultDiffingHandler = MainThreadExecutor.INSTANCE.handler;
   private static boolean filterDuplicatesDefault = false;
   private static boolean globalDebugLoggingEnabled = false;
+  private static boolean partialDiffingDefault = false;
+  private static boolean modelPoolingDefault = false;
+  private static boolean frameAlignedModelBuildingDefault = false;
+  private static boolean incrementalChangeDispatchDefault = false;
 
   private final EpoxyControllerAdapter adapter;
   private EpoxyDiffLogger debugObserver;
@@ -74,6 +87,13 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
 
   // Volatile because -> write only on main thread, read from builder thread
   private volatile boolean filterDuplicates = filterDuplicatesDefault;
+  private volatile boolean frameAlignedModelBuilding = frameAlignedModelBuildingDefault;
+  /** Only used on the main thread. Created the first time a frame aligned build is requested. */
+  @Nullable private FrameAlignedModelBuild frameAlignedModelBuild;
+  // Volatile because -> write only on main thread, read from builder thread
+  @Nullable private volatile Executor parallelSectionExecutor;
+  // Volatile because -> write only on main thread, read from builder thread
+  @Nullable private volatile ModelPool modelPool;
   /**
    * This is used to track whether we are currently building models. If it is non null it means
    * a thread is in the building models method. We store the thread so we can know which one
@@ -102,6 +122,11 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
   private ControllerModelList modelsBeingBuilt;
   private List<ModelInterceptorCallback> modelInterceptorCallbacks;
   private EpoxyModel<?> stagedModel;
+  /** Sections added in the last successful model build, by section id. */
+  private Map<Object, ModelSection> previousSections = Collections.emptyMap();
+  /** Sections added so far in the current model build, by section id. */
+  private Map<Object, ModelSection> sectionsBeingBuilt;
+  private boolean buildingSection;
 
   //////////////////////////////////////////////////////////////////////////////////////////
 
@@ -113,6 +138,9 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     adapter = new EpoxyControllerAdapter(this, diffingHandler);
     modelBuildHandler = modelBuildingHandler;
     setDebugLoggingEnabled(globalDebugLoggingEnabled);
+    setPartialDiffingEnabled(partialDiffingDefault);
+    setModelPoolingEnabled(modelPoolingDefault);
+    setIncrementalChangeDispatchEnabled(incrementalChangeDispatchDefault);
   }
 
   /**
@@ -128,13 +156,19 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
   @Retention(RetentionPolicy.SOURCE)
   @IntDef({RequestedModelBuildType.NONE,
       RequestedModelBuildType.NEXT_FRAME,
-      RequestedModelBuildType.DELAYED})
+      RequestedModelBuildType.DELAYED,
+      RequestedModelBuildType.FRAME_ALIGNED})
   private @interface RequestedModelBuildType {
     int NONE = 0;
     /** A request has been made to build models immediately. It is posted. */
     int NEXT_FRAME = 1;
     /** A request has been made to build models after a delay. It is post delayed. */
     int DELAYED = 2;
+    /**
+     * A request has been made to build models on the next frame that no build or diff is in
+     * progress. A frame callback is posted, which posts the build.
+     */
+    int FRAME_ALIGNED = 3;
   }
 
   /**
@@ -228,7 +262,17 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
 
     if (requestedModelBuildType == RequestedModelBuildType.DELAYED) {
       cancelPendingModelBuild();
-    } else if (requestedModelBuildType == RequestedModelBuildType.NEXT_FRAME) {
+    } else if (requestedModelBuildType == RequestedModelBuildType.NEXT_FRAME
+        || requestedModelBuildType == RequestedModelBuildType.FRAME_ALIGNED) {
+      return;
+    }
+
+    if (delayMs == 0 && canAlignModelBuildToFrame()) {
+      if (frameAlignedModelBuild == null) {
+        frameAlignedModelBuild = new FrameAlignedModelBuild();
+      }
+      requestedModelBuildType = RequestedModelBuildType.FRAME_ALIGNED;
+      frameAlignedModelBuild.schedule();
       return;
     }
 
@@ -249,12 +293,83 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     // Additionally, it is crucial to guarantee that the state of requestedModelBuildType is in sync
     // with the modelBuildHandler, otherwise we could end up in a state where we think a model build
     // is queued, but it isn't, and model building never happens - stuck forever.
-    if (requestedModelBuildType != RequestedModelBuildType.NONE) {
+    if (requestedModelBuildType == RequestedModelBuildType.FRAME_ALIGNED) {
+      requestedModelBuildType = RequestedModelBuildType.NONE;
+      frameAlignedModelBuild.cancel();
+    } else if (requestedModelBuildType != RequestedModelBuildType.NONE) {
       requestedModelBuildType = RequestedModelBuildType.NONE;
       modelBuildHandler.removeCallbacks(buildModelsRunnable);
     }
   }
 
+  /**
+   * Choreographer is only available on API 16+, and frame callbacks can only be posted from the
+   * main thread, which is where model builds are normally requested from.
+   */
+  private boolean canAlignModelBuildToFrame() {
+    return frameAlignedModelBuilding
+        && Build.VERSION.SDK_INT >= 16
+        && Looper.myLooper() == Looper.getMainLooper();
+  }
+
+  /**
+   * Called when a model build, or the diff of its models, has finished so that a frame aligned
+   * build that was waiting on it can be scheduled.
+   */
+  synchronized void onPreviousModelBuildFinished() {
+    if (requestedModelBuildType == RequestedModelBuildType.FRAME_ALIGNED) {
+      frameAlignedModelBuild.resumeIfWaiting();
+    }
+  }
+
+  /**
+   * Posts the model build on the next frame instead of immediately, so that all of the requests
+   * made during a frame result in a single build. If a previous build or diff is still in progress
+   * when the frame arrives, the build waits until it finishes and then runs on the following frame.
+   * Building the current state before then would only produce models that are replaced before they
+   * are shown, so waiting lets all requests made in the meantime be handled by one build of the
+   * newest state.
+   */
+  @RequiresApi(16)
+  private class FrameAlignedModelBuild implements Choreographer.FrameCallback {
+    private final Choreographer choreographer = Choreographer.getInstance();
+    private boolean waitingForPreviousBuild;
+
+    void schedule() {
+      waitingForPreviousBuild = false;
+      choreographer.postFrameCallback(this);
+    }
+
+    void cancel() {
+      waitingForPreviousBuild = false;
+      choreographer.removeFrameCallback(this);
+    }
+
+    void resumeIfWaiting() {
+      if (waitingForPreviousBuild) {
+        schedule();
+      }
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      synchronized (EpoxyController.this) {
+        if (requestedModelBuildType != RequestedModelBuildType.FRAME_ALIGNED) {
+          return;
+        }
+
+        if (threadBuildingModels != null || adapter.isDiffInProgress()) {
+          // Nothing is posted until the previous build or diff reports that it has finished
+          waitingForPreviousBuild = true;
+          return;
+        }
+
+        requestedModelBuildType = RequestedModelBuildType.NEXT_FRAME;
+        modelBuildHandler.post(buildModelsRunnable);
+      }
+    }
+  }
+
   private final Runnable buildModelsRunnable = new Runnable() {
     @Override
     public void run() {
@@ -268,6 +383,7 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
       helper.resetAutoModels();
 
       modelsBeingBuilt = new ControllerModelList(getExpectedModelCount());
+      sectionsBeingBuilt = null;
 
       timer.start("Models built");
 
@@ -282,15 +398,24 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
       } catch (Throwable throwable) {
         timer.stop();
         modelsBeingBuilt = null;
+        sectionsBeingBuilt = null;
+        buildingSection = false;
         hasBuiltModelsEver = true;
         threadBuildingModels = null;
         stagedModel = null;
+        onPreviousModelBuildFinished();
         throw throwable;
       }
 
       addCurrentlyStagedModelIfExists();
       timer.stop();
 
+      // Sections that weren't added in this build are dropped so their models aren't leaked
+      previousSections = sectionsBeingBuilt != null
+          ? sectionsBeingBuilt
+          : Collections.<Object, ModelSection>emptyMap();
+      sectionsBeingBuilt = null;
+
       runInterceptors();
       filterDuplicatesIfNeeded(modelsBeingBuilt);
       modelsBeingBuilt.freeze();
@@ -303,6 +428,7 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
       modelsBeingBuilt = null;
       hasBuiltModelsEver = true;
       threadBuildingModels = null;
+      onPreviousModelBuildFinished();
     }
   };
 
@@ -329,29 +455,12 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
 
   int getFirstIndexOfModelInBuildingList(EpoxyModel<?> model) {
     assertIsBuildingModels();
-
-    int size = modelsBeingBuilt.size();
-    for (int i = 0; i < size; i++) {
-      if (modelsBeingBuilt.get(i) == model) {
-        return i;
-      }
-    }
-
-    return -1;
+    return modelsBeingBuilt.firstPositionOf(model);
   }
 
   boolean isModelAddedMultipleTimes(EpoxyModel<?> model) {
     assertIsBuildingModels();
-
-    int modelCount = 0;
-    int size = modelsBeingBuilt.size();
-    for (int i = 0; i < size; i++) {
-      if (modelsBeingBuilt.get(i) == model) {
-        modelCount++;
-      }
-    }
-
-    return modelCount > 1;
+    return modelsBeingBuilt.isAddedMultipleTimes(model);
   }
 
   void addAfterInterceptorCallback(ModelInterceptorCallback callback) {
@@ -447,6 +556,24 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     return modelsBeingBuilt.size();
   }
 
+  /**
+   * Returns a model of the given class that was previously removed from this controller, so it can
+   * be reused instead of creating a new model. The model has been reset with {@link
+   * EpoxyModel#reset()} and given a new default id, so it should be used like a newly created
+   * model. Returns null if pooling is disabled or no model of this class is available, in which
+   * case a new model should be created.
+   * <p>
+   * This can only be called from within {@link #buildModels()}.
+   *
+   * @see #setModelPoolingEnabled(boolean)
+   */
+  @Nullable
+  protected <T extends EpoxyModel<?>> T getPooledModel(@NonNull Class<T> modelClass) {
+    assertIsBuildingModels();
+    ModelPool modelPool = this.modelPool;
+    return modelPool != null ? modelPool.obtain(modelClass) : null;
+  }
+
   private void assertIsBuildingModels() {
     if (!isBuildingModels()) {
       throw new IllegalEpoxyUsage("Can only call this when inside the `buildModels` method");
@@ -491,6 +618,205 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     }
   }
 
+  /**
+   * Add a section of models whose contents only depend on the given key. The first time a section
+   * with this id is added the builder is run to add the section's models, as it would be if the
+   * models were added directly in {@link #buildModels()}. On later model builds, if the section is
+   * added with a key that is equal to the key from the previous model build, the builder is not run
+   * and the models it added last time are reused instead.
+   * <p>
+   * This allows screens made of many independent sections to skip creating the models for
+   * sections whose data hasn't changed. The reused models are the same instances that are already
+   * in the adapter, so the differ also finds them unchanged very quickly.
+   * <p>
+   * The key must capture all of the data used to build the section, and must correctly implement
+   * equals, otherwise changes to the section will be missed. Reused models are already added to
+   * the adapter, so they must not be changed by {@link Interceptor}s. Sections cannot be nested.
+   * Can only be called from inside {@link EpoxyController#buildModels()}.
+   *
+   * @param sectionId Uniquely identifies the section in the list of models.
+   * @param key       The data the section depends on. If this is equal to the key the section was
+   *                  previously built with then the previously built models are reused.
+   * @param builder   Adds the models of this section to the controller.
+   */
+  public void addSection(@NonNull Object sectionId, @NonNull Object key,
+      @NonNull SectionBuilder builder) {
+    assertIsBuildingModels();
+
+    if (buildingSection) {
+      throw new IllegalEpoxyUsage("Sections cannot be nested (section id: " + sectionId + ")");
+    }
+
+    if (sectionsBeingBuilt == null) {
+      sectionsBeingBuilt = new HashMap<>();
+    } else if (sectionsBeingBuilt.containsKey(sectionId)) {
+      throw new IllegalEpoxyUsage(
+          "A section with this id was already added. Section ids must be unique! (section id: "
+              + sectionId + ")");
+    }
+
+    // Make sure a model that was staged before the section isn't included in the section
+    addCurrentlyStagedModelIfExists();
+
+    ModelSection previousSection = previousSections.get(sectionId);
+    if (previousSection != null && previousSection.key.equals(key)) {
+      // Recording the reused models lets the differ skip them
+      modelsBeingBuilt.addRun(previousSection.models, modelsBeingBuilt.size());
+      modelsBeingBuilt.addAll(previousSection.models);
+      sectionsBeingBuilt.put(sectionId, previousSection);
+      return;
+    }
+
+    int sectionStart = modelsBeingBuilt.size();
+    buildingSection = true;
+    try {
+      builder.buildSection();
+      addCurrentlyStagedModelIfExists();
+    } finally {
+      buildingSection = false;
+    }
+
+    List<EpoxyModel<?>> sectionModels =
+        new ArrayList<>(modelsBeingBuilt.subList(sectionStart, modelsBeingBuilt.size()));
+    modelsBeingBuilt.addRun(sectionModels, sectionStart);
+    sectionsBeingBuilt.put(sectionId, new ModelSection(key, sectionModels));
+  }
+
+  /**
+   * Builds the given sections concurrently, and then adds the models of each section in the order
+   * the sections are given, as if they had been added one after another in {@link #buildModels()}.
+   * <p>
+   * This is useful for screens with several large, independent sections where creating the models
+   * is expensive, since multi core devices can then build the sections at the same time. The first
+   * section is built on the model building thread, and the others are built on the executor set
+   * with {@link #setParallelSectionExecutor(Executor)}.
+   * <p>
+   * Each builder runs on an arbitrary thread, so it must only read data that is safe to access
+   * from multiple threads, and must return its models instead of adding them to the controller.
+   * {@link AutoModel} fields cannot be used in these sections. Models are validated and added to
+   * the controller on the model building thread once all of the sections are built.
+   * Can only be called from inside {@link EpoxyController#buildModels()}.
+   */
+  public void addSectionsInParallel(
+      @NonNull List<? extends ParallelSectionBuilder> sectionBuilders) {
+    assertIsBuildingModels();
+
+    if (buildingSection) {
+      throw new IllegalEpoxyUsage("Sections cannot be nested");
+    }
+
+    int sectionCount = sectionBuilders.size();
+    if (sectionCount == 0) {
+      return;
+    }
+
+    // Make sure a model that was staged before the sections is added before them
+    addCurrentlyStagedModelIfExists();
+
+    Executor executor = parallelSectionExecutor;
+    if (executor == null) {
+      executor = EpoxyAsyncUtil.getModelBuildingWorkerExecutor();
+    }
+
+    List<FutureTask<List<? extends EpoxyModel<?>>>> tasks = new ArrayList<>(sectionCount - 1);
+    for (int i = 1; i < sectionCount; i++) {
+      final ParallelSectionBuilder sectionBuilder = sectionBuilders.get(i);
+      FutureTask<List<? extends EpoxyModel<?>>> task =
+          new FutureTask<>(new Callable<List<? extends EpoxyModel<?>>>() {
+            @Override
+            public List<? extends EpoxyModel<?>> call() {
+              return sectionBuilder.buildSection();
+            }
+          });
+      tasks.add(task);
+      executor.execute(task);
+    }
+
+    boolean sectionsAdded = false;
+    try {
+      // Build the first section on this thread instead of idling while the workers run
+      List<? extends EpoxyModel<?>> firstSectionModels;
+      buildingSection = true;
+      try {
+        firstSectionModels = sectionBuilders.get(0).buildSection();
+      } finally {
+        buildingSection = false;
+      }
+
+      add(firstSectionModels);
+
+      for (FutureTask<List<? extends EpoxyModel<?>>> task : tasks) {
+        add(getSectionModels(task));
+      }
+      sectionsAdded = true;
+    } finally {
+      if (!sectionsAdded) {
+        // The build is failing, so don't leave the workers building sections that won't be used.
+        // Sections that are already running finish, since the worker threads are shared.
+        for (FutureTask<List<? extends EpoxyModel<?>>> task : tasks) {
+          task.cancel(false);
+        }
+      }
+    }
+  }
+
+  private static List<? extends EpoxyModel<?>> getSectionModels(
+      FutureTask<List<? extends EpoxyModel<?>>> task) {
+    try {
+      return task.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while building models", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new IllegalStateException("Failed to build models", cause);
+    }
+  }
+
+  /**
+   * Set the executor used to build sections added with {@link #addSectionsInParallel(List)}. If
+   * this is null, which is the default, a shared pool with a thread per available processor is
+   * used.
+   *
+   * @see EpoxyAsyncUtil#getModelBuildingWorkerExecutor()
+   */
+  public void setParallelSectionExecutor(@Nullable Executor executor) {
+    parallelSectionExecutor = executor;
+  }
+
+  /** Builds the models of a section. Used with {@link #addSectionsInParallel(List)}. */
+  public interface ParallelSectionBuilder {
+    /**
+     * Create the models for this section and return them in the order they should be added. This
+     * may be run on any thread, so it must not add the models to the controller directly.
+     */
+    @NonNull
+    List<? extends EpoxyModel<?>> buildSection();
+  }
+
+  /** Adds the models of a section. Used with {@link #addSection(Object, Object, SectionBuilder)} */
+  public interface SectionBuilder {
+    /** Add the models for this section, as would be done in {@link #buildModels()}. */
+    void buildSection();
+  }
+
+  /** The models built for a section, and the key they were built with. */
+  private static class ModelSection {
+    final Object key;
+    final List<EpoxyModel<?>> models;
+
+    ModelSection(Object key, List<EpoxyModel<?>> models) {
+      this.key = key;
+      this.models = models;
+    }
+  }
+
   /**
    * Method to actually add the model to the list being built. Should be called after all
    * validations are done.
@@ -560,21 +886,21 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     }
 
     timer.start("Duplicates filtered");
-    Set<Long> modelIds = new HashSet<>(models.size());
+    // The position of the first model with each id. Duplicates are always after the original and
+    // only duplicates are removed, so these positions stay correct as duplicates are removed.
+    LongIntMap positionOfId = new LongIntMap(models.size());
 
     ListIterator<EpoxyModel<?>> modelIterator = models.listIterator();
     while (modelIterator.hasNext()) {
       EpoxyModel<?> model = modelIterator.next();
-      if (!modelIds.add(model.id())) {
+      int indexOfOriginal = positionOfId.get(model.id(), -1);
+      if (indexOfOriginal == -1) {
+        positionOfId.put(model.id(), modelIterator.previousIndex(), -1);
+      } else {
         int indexOfDuplicate = modelIterator.previousIndex();
         modelIterator.remove();
 
-        int indexOfOriginal = findPositionOfDuplicate(models, model);
         EpoxyModel<?> originalModel = models.get(indexOfOriginal);
-        if (indexOfDuplicate <= indexOfOriginal) {
-          // Adjust for the original positions of the models before the duplicate was removed
-          indexOfOriginal++;
-        }
 
         onExceptionSwallowed(
             new IllegalEpoxyUsage("Two models have the same ID. ID's must be unique!"
@@ -587,18 +913,6 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     timer.stop();
   }
 
-  private int findPositionOfDuplicate(List<EpoxyModel<?>> models, EpoxyModel<?> duplicateModel) {
-    int size = models.size();
-    for (int i = 0; i < size; i++) {
-      EpoxyModel<?> model = models.get(i);
-      if (model.id() == duplicateModel.id()) {
-        return i;
-      }
-    }
-
-    throw new IllegalArgumentException("No duplicates in list");
-  }
-
   /**
    * If set to true, Epoxy will search for models with duplicate ids added during {@link
    * #buildModels()} and remove any duplicates found. If models with the same id are found, the
@@ -626,6 +940,121 @@ public abstract class EpoxyController implements ModelCollector, StickyHeaderCal
     EpoxyController.filterDuplicatesDefault = filterDuplicatesByDefault;
   }
 
+  /**
+   * If set to true, models at the start and end of the list that have not changed since the
+   * previous model build are skipped when diffing, and the diff is only run on the models in
+   * between. This is useful for long lists where each model build only changes a few models, as
+   * the diff then takes time proportional to the size of the change instead of the whole list.
+   * <p>
+   * Models are compared with their id and {@link EpoxyModel#equals(Object)} to decide if they have
+   * changed, so the dispatched changes leave the adapter in the same state as a full diff.
+   */
+  public void setPartialDiffingEnabled(boolean partialDiffingEnabled) {
+    adapter.setPartialDiffEnabled(partialDiffingEnabled);
+  }
+
+  public boolean isPartialDiffingEnabled() {
+    return adapter.isPartialDiffEnabled();
+  }
+
+  /**
+   * {@link #setPartialDiffingEnabled(boolean)} is disabled in each EpoxyController by default. It
+   * can be toggled individually in each controller, or alternatively you can use this to change the
+   * default value for all EpoxyControllers.
+   */
+  public static void setGlobalPartialDiffingDefault(boolean partialDiffingByDefault) {
+    EpoxyController.partialDiffingDefault = partialDiffingByDefault;
+  }
+
+  /**
+   * If set to true, generated models that are removed from the adapter by a model build are kept in
+   * a pool once they are no longer bound to a view, and can be reused in a later model build with
+   * {@link #getPooledModel(Class)}. This reduces garbage collection when models are rebuilt
+   * frequently, such as for a screen showing live data.
+   * <p>
+   * Only generated models are pooled. When this is enabled a model instance must not be kept and
+   * added again in a later model build, since it may be reset and reused once it is removed.
+   */
+  public void setModelPoolingEnabled(boolean modelPoolingEnabled) {
+    if (modelPoolingEnabled == isModelPoolingEnabled()) {
+      return;
+    }
+
+    modelPool =
+        modelPoolingEnabled ? new ModelPool(ModelPool.DEFAULT_MAX_MODELS_PER_CLASS) : null;
+    adapter.setModelPool(modelPool);
+  }
+
+  public boolean isModelPoolingEnabled() {
+    return modelPool != null;
+  }
+
+  /**
+   * If set to true, calls to {@link #requestModelBuild()} are aligned to display frames. Models are
+   * built at most once per frame, and if the models from a previous build are still being built or
+   * diffed then the next build waits until they are done, so that a burst of requests only builds
+   * the newest state instead of every intermediate state. This reduces wasted work when the data
+   * for a screen changes many times a second.
+   * <p>
+   * The first model build still happens synchronously, and {@link #requestDelayedModelBuild(int)}
+   * with a non zero delay is not affected. Builds are only aligned to frames when requested from
+   * the main thread on API 16+, otherwise they are posted immediately as usual.
+   */
+  public void setFrameAlignedModelBuildingEnabled(boolean frameAlignedModelBuildingEnabled) {
+    this.frameAlignedModelBuilding = frameAlignedModelBuildingEnabled;
+  }
+
+  public boolean isFrameAlignedModelBuildingEnabled() {
+    return frameAlignedModelBuilding;
+  }
+
+  /**
+   * {@link #setFrameAlignedModelBuildingEnabled(boolean)} is disabled in each EpoxyController by
+   * default. It can be toggled individually in each controller, or alternatively you can use this
+   * to change the default value for all EpoxyControllers.
+   */
+  public static void setGlobalFrameAlignedModelBuildingDefault(
+      boolean frameAlignedModelBuildingByDefault) {
+    EpoxyController.frameAlignedModelBuildingDefault = frameAlignedModelBuildingByDefault;
+  }
+
+  /**
+   * If set to true, when a model build changes many of the items that are on screen the changed
+   * items are rebound over several frames instead of all in the next frame, limited by a per frame
+   * time budget based on how long items take to bind. This keeps scrolling smooth when most of the
+   * screen changes at once. Inserts, removals and moves are still applied right away, and items
+   * that aren't bound are not delayed.
+   * <p>
+   * Until their change is applied, changed items keep showing their previous models. This has no
+   * effect below API 16.
+   */
+  public void setIncrementalChangeDispatchEnabled(boolean incrementalChangeDispatchEnabled) {
+    adapter.setIncrementalChangeDispatchEnabled(incrementalChangeDispatchEnabled);
+  }
+
+  public boolean isIncrementalChangeDispatchEnabled() {
+    return adapter.isIncrementalChangeDispatchEnabled();
+  }
+
+  /**
+   * {@link #setIncrementalChangeDispatchEnabled(boolean)} is disabled in each EpoxyController by
+   * default. It can be toggled individually in each controller, or alternatively you can use this
+   * to change the default value for all EpoxyControllers.
+   */
+  public static void setGlobalIncrementalChangeDispatchDefault(
+      boolean incrementalChangeDispatchByDefault) {
+    EpoxyController.incrementalChangeDispatchDefault = incrementalChangeDispatchByDefault;
+  }
+
+  /**
+   * {@link #setModelPoolingEnabled(boolean)} is disabled in each EpoxyController by default. It can
+   * be toggled individually in each controller, or alternatively you can use this to change the
+   * default value for all EpoxyControllers.
+   */
+  public static void setGlobalModelPoolingDefault(boolean modelPoolingByDefault) {
+    EpoxyController.modelPoolingDefault = modelPoolingByDefault;
+  }
+
   /**
    * If enabled, DEBUG logcat messages will be printed to show when models are rebuilt, the time
    * taken to build them, the time taken to diff them, and the item change outcomes from the
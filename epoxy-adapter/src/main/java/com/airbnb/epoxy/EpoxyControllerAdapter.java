@@ -8,7 +8,10 @@ import com.airbnb.epoxy.AsyncEpoxyDiffer.ResultCallback;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
@@ -22,6 +25,14 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
   private final EpoxyController epoxyController;
   private int itemCount;
   private final List<OnModelBuildFinishedListener> modelBuildListeners = new ArrayList<>();
+  @Nullable private volatile ModelPool modelPool;
+  /**
+   * Models that were removed from the adapter but are still bound to a view holder, such as while
+   * their removal is animated. They are released to the model pool once they are unbound.
+   */
+  private final List<EpoxyModel<?>> modelsPendingRelease = new ArrayList<>();
+  /** Set if diff results are dispatched incrementally, otherwise they are dispatched at once. */
+  @Nullable private IncrementalChangeDispatcher incrementalChangeDispatcher;
 
   EpoxyControllerAdapter(@NonNull EpoxyController epoxyController, Handler diffingHandler) {
     this.epoxyController = epoxyController;
@@ -77,6 +88,56 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     differ.submitList(models);
   }
 
+  /** @see AsyncEpoxyDiffer#setPartialDiffEnabled(boolean) */
+  void setPartialDiffEnabled(boolean partialDiffEnabled) {
+    differ.setPartialDiffEnabled(partialDiffEnabled);
+  }
+
+  boolean isPartialDiffEnabled() {
+    return differ.isPartialDiffEnabled();
+  }
+
+  /**
+   * Models that are removed by a diff are released to this pool once they are no longer bound to a
+   * view holder. Set to null to disable pooling.
+   */
+  void setModelPool(@Nullable ModelPool modelPool) {
+    this.modelPool = modelPool;
+  }
+
+  /**
+   * If enabled, changes to bound items in a diff result are spread across frames instead of all
+   * being dispatched at once. This has no effect below API 16.
+   *
+   * @see IncrementalChangeDispatcher
+   */
+  @UiThread
+  void setIncrementalChangeDispatchEnabled(boolean enabled) {
+    if (enabled == isIncrementalChangeDispatchEnabled()) {
+      return;
+    }
+
+    if (enabled) {
+      incrementalChangeDispatcher = new IncrementalChangeDispatcher(this, notifyBlocker);
+    } else {
+      flushPendingChanges();
+      incrementalChangeDispatcher = null;
+    }
+  }
+
+  boolean isIncrementalChangeDispatchEnabled() {
+    return incrementalChangeDispatcher != null;
+  }
+
+  /** Dispatches any changes that were deferred by incremental change dispatching. */
+  private void flushPendingChanges() {
+    if (incrementalChangeDispatcher != null) {
+      notifyBlocker.allowChanges();
+      incrementalChangeDispatcher.dispatchPendingChanges();
+      notifyBlocker.blockChanges();
+    }
+  }
+
   /**
    * @return True if a diff operation is in progress.
    */
@@ -87,14 +148,67 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
   // Called on diff results from the differ
   @Override
   public void onResult(@NonNull DiffResult result) {
+    // Deferred changes have positions in the current models, so they go out before the new result
+    flushPendingChanges();
+    onCurrentModelsReplaced();
+
     itemCount = result.newModels.size();
     notifyBlocker.allowChanges();
-    result.dispatchTo(this);
+    if (incrementalChangeDispatcher != null) {
+      incrementalChangeDispatcher.dispatch(result);
+    } else {
+      result.dispatchTo(this);
+    }
     notifyBlocker.blockChanges();
 
     for (int i = modelBuildListeners.size() - 1; i >= 0; i--) {
       modelBuildListeners.get(i).onModelBuildFinished(result);
     }
+
+    if (modelPool != null) {
+      addRemovedModelsToPendingRelease(result);
+    }
+    releaseUnboundModels();
+    epoxyController.onPreviousModelBuildFinished();
+  }
+
+  private void addRemovedModelsToPendingRelease(DiffResult result) {
+    if (result.previousModels.isEmpty()) {
+      return;
+    }
+
+    Set<EpoxyModel<?>> modelsToSkip =
+        Collections.newSetFromMap(new IdentityHashMap<EpoxyModel<?>, Boolean>());
+    modelsToSkip.addAll(result.newModels);
+
+    for (EpoxyModel<?> model : result.previousModels) {
+      // Adding the model to the skipped set also guards against pooling the same instance twice
+      if (modelsToSkip.add(model) && ModelPool.canPool(model)) {
+        modelsPendingRelease.add(model);
+      }
+    }
+  }
+
+  private void releaseUnboundModels() {
+    if (modelsPendingRelease.isEmpty()) {
+      return;
+    }
+
+    ModelPool modelPool = this.modelPool;
+    if (modelPool == null) {
+      modelsPendingRelease.clear();
+      return;
+    }
+
+    for (int i = modelsPendingRelease.size() - 1; i >= 0; i--) {
+      EpoxyModel<?> model = modelsPendingRelease.get(i);
+      if (model.boundViewHolderCount == 0 && model.viewsBeingPreinflatedCount == 0) {
+        int lastIndex = modelsPendingRelease.size() - 1;
+        modelsPendingRelease.set(i, modelsPendingRelease.get(lastIndex));
+        modelsPendingRelease.remove(lastIndex);
+        modelPool.release(model);
+      }
+    }
   }
 
   public void addModelBuildListener(OnModelBuildFinishedListener listener) {
@@ -105,6 +219,18 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     modelBuildListeners.remove(listener);
   }
 
+  @Override
+  public void onBindViewHolder(EpoxyViewHolder holder, int position, List<Object> payloads) {
+    if (incrementalChangeDispatcher == null) {
+      super.onBindViewHolder(holder, position, payloads);
+      return;
+    }
+
+    long bindStart = System.nanoTime();
+    super.onBindViewHolder(holder, position, payloads);
+    incrementalChangeDispatcher.onItemBound(System.nanoTime() - bindStart);
+  }
+
   @Override
   boolean diffPayloadsEnabled() {
     return true;
@@ -117,6 +243,9 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
   @Override
   public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+    // Holders of a detached adapter may never be recycled, so the pending models would otherwise
+    // be held forever. They are dropped rather than released since they may still be bound.
+    modelsPendingRelease.clear();
     epoxyController.onDetachedFromRecyclerViewInternal(recyclerView);
   }
 
@@ -136,11 +265,14 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
   protected void onModelBound(@NonNull EpoxyViewHolder holder, @NonNull EpoxyModel<?> model,
       int position, @Nullable EpoxyModel<?> previouslyBoundModel) {
     epoxyController.onModelBound(holder, model, position, previouslyBoundModel);
+    // A rebind may have replaced a removed model that was waiting to be pooled
+    releaseUnboundModels();
   }
 
   @Override
   protected void onModelUnbound(@NonNull EpoxyViewHolder holder, @NonNull EpoxyModel<?> model) {
     epoxyController.onModelUnbound(holder, model);
+    releaseUnboundModels();
   }
 
   /** Get an unmodifiable copy of the current models set on the adapter. */
@@ -165,26 +297,13 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
    */
   @Nullable
   public EpoxyModel<?> getModelById(long id) {
-    for (EpoxyModel<?> model : getCurrentModels()) {
-      if (model.id() == id) {
-        return model;
-      }
-    }
-
-    return null;
+    int position = getModelPositionById(id);
+    return position != -1 ? getCurrentModels().get(position) : null;
   }
 
   @Override
   public int getModelPosition(@NonNull EpoxyModel<?> targetModel) {
-    int size = getCurrentModels().size();
-    for (int i = 0; i < size; i++) {
-      EpoxyModel<?> model = getCurrentModels().get(i);
-      if (model.id() == targetModel.id()) {
-        return i;
-      }
-    }
-
-    return -1;
+    return getModelPositionById(targetModel.id());
   }
 
   @NonNull
@@ -195,6 +314,7 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
   @UiThread
   void moveModel(int fromPosition, int toPosition) {
+    flushPendingChanges();
     ArrayList<EpoxyModel<?>> updatedList = new ArrayList<>(getCurrentModels());
 
     updatedList.add(toPosition, updatedList.remove(fromPosition));
@@ -203,6 +323,7 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
     notifyBlocker.blockChanges();
 
     boolean interruptedDiff = differ.forceListOverride(updatedList);
+    epoxyController.onPreviousModelBuildFinished();
 
     if (interruptedDiff) {
       // The move interrupted a model rebuild/diff that was in progress,
@@ -225,7 +346,8 @@ public final class EpoxyControllerAdapter extends BaseEpoxyAdapter implements Re
 
         @Override
         public Object getChangePayload(EpoxyModel<?> oldItem, EpoxyModel<?> newItem) {
-          return new DiffPayload(oldItem);
+          return new DiffPayload(oldItem, newItem, newItem.getChangedAttributes(oldItem),
+              newItem.getChangedAttributeMask(oldItem));
         }
       };
 
@@ -7,6 +7,7 @@ import android.view.ViewGroup;
 import com.airbnb.epoxy.EpoxyController.ModelInterceptorCallback;
 import com.airbnb.epoxy.VisibilityState.Visibility;
 
+import java.util.BitSet;
 import java.util.List;
 
 import androidx.annotation.FloatRange;
@@ -47,6 +48,17 @@ public abstract class EpoxyModel<T> {
    * doesn't change after being diffed.
    */
   boolean addedToAdapter;
+  /**
+   * Set once the controller this model was added to has finished building models. The model can't
+   * be changed after that, so generated models are free to memoize their hashCode.
+   */
+  boolean frozen;
+  /**
+   * The hashCode memoized by a generated model with {@link #cacheHashCode(int)}, or 0 if it hasn't
+   * been computed since the model last changed. A single int field is used so that the hashCode can
+   * safely be read from the diffing thread without synchronization.
+   */
+  private int cachedHashCode;
   /**
    * The first controller this model was added to. A reference is kept in debug mode in order to run
    * validations. The model is allowed to be added to other controllers, but we only keep a
@@ -63,6 +75,23 @@ public abstract class EpoxyModel<T> {
   private int hashCodeWhenAdded;
   private boolean hasDefaultId;
   @Nullable private SpanSizeOverrideCallback spanSizeOverride;
+  /**
+   * The number of view holders this model is currently bound to. A model that was removed from a
+   * controller can only be reused by a {@link ModelPool} once it is no longer bound.
+   */
+  int boundViewHolderCount;
+  /**
+   * The number of background tasks that are currently building views from this model, such as
+   * those of {@link ViewPreinflater}. A removed model isn't pooled until they finish, since
+   * resetting it would change the views they build. Only changed on the main thread.
+   */
+  int viewsBeingPreinflatedCount;
+  /**
+   * The view type that {@link ViewTypeManager} generated for this model's class if the model
+   * doesn't declare one, or 0 until it is first looked up. It is cached on the model so that most
+   * view type lookups don't need the map of generated view types.
+   */
+  int generatedViewType;
 
   protected EpoxyModel(long id) {
     id(id);
@@ -77,6 +106,25 @@ public abstract class EpoxyModel<T> {
     return hasDefaultId;
   }
 
+  /**
+   * Clears the state tying this model to the controller and adapter it was previously used with,
+   * gives it a new default id, and resets its attributes, so that it can be used as if it was newly
+   * created.
+   */
+  void resetForReuse() {
+    firstControllerAddedTo = null;
+    controllerToStageTo = null;
+    currentlyInInterceptors = false;
+    hashCodeWhenAdded = 0;
+    addedToAdapter = false;
+    frozen = false;
+    spanSizeOverride = null;
+
+    id(idCounter--);
+    hasDefaultId = true;
+    reset();
+  }
+
   /**
    * Get the view type to associate with this model in the recyclerview. For models that use a
    * layout resource, the view type is simply the layout resource value by default.
@@ -152,6 +200,59 @@ public abstract class EpoxyModel<T> {
     bind(view);
   }
 
+  /**
+   * Similar to {@link #bind(Object, EpoxyModel)}, but is also given which attributes changed from
+   * the previously bound model, as found by {@link #getChangedAttributes(EpoxyModel)}. This is
+   * implemented by models generated with {@link ModelView} so that only the changed attributes are
+   * set on the view, without having to compare each attribute with the previous model again.
+   * <p>
+   * This is only called if {@link #getChangedAttributes(EpoxyModel)} returned a non null value
+   * while diffing, otherwise {@link #bind(Object, EpoxyModel)} is used.
+   */
+  public void bind(@NonNull T view, @NonNull EpoxyModel<?> previouslyBoundModel,
+      @NonNull BitSet changedAttributes) {
+    bind(view, previouslyBoundModel);
+  }
+
+  /**
+   * Similar to {@link #bind(Object, EpoxyModel, BitSet)}, but the changed attributes are given as
+   * the bits of a long, as found by {@link #getChangedAttributeMask(EpoxyModel)}. This is used for
+   * models with up to 64 attributes so that a BitSet doesn't need to be allocated for every changed
+   * item.
+   * <p>
+   * This is only called if {@link #getChangedAttributes(EpoxyModel)} returned null while diffing.
+   * The mask is only meaningful if this model overrides
+   * {@link #getChangedAttributeMask(EpoxyModel)} and the previous model is of the same type, so the
+   * default implementation ignores it and calls {@link #bind(Object, EpoxyModel)}.
+   */
+  public void bind(@NonNull T view, @NonNull EpoxyModel<?> previouslyBoundModel,
+      long changedAttributeMask) {
+    bind(view, previouslyBoundModel);
+  }
+
+  /**
+   * Returns which attributes of this model differ from the given model that was previously bound
+   * to the view, or null if they can't be determined or are given by {@link
+   * #getChangedAttributeMask(EpoxyModel)} instead. The result is passed to {@link #bind(Object,
+   * EpoxyModel, BitSet)}.
+   * <p>
+   * This is called while diffing, which is usually done on a background thread, so that the
+   * comparison doesn't need to be done on the main thread when the view is rebound.
+   */
+  @Nullable
+  public BitSet getChangedAttributes(@NonNull EpoxyModel<?> previouslyBoundModel) {
+    return null;
+  }
+
+  /**
+   * Same as {@link #getChangedAttributes(EpoxyModel)}, but returns the changed attributes as the
+   * bits of a long for models with up to 64 attributes. The result is passed to {@link
+   * #bind(Object, EpoxyModel, long)}, and is ignored there if it can't be determined.
+   */
+  public long getChangedAttributeMask(@NonNull EpoxyModel<?> previouslyBoundModel) {
+    return -1L;
+  }
+
   /**
    * Called when the view bound to this model is recycled. Subclasses can override this if their
    * view should release resources when it's recycled.
@@ -204,6 +305,7 @@ public abstract class EpoxyModel<T> {
 
     hasDefaultId = false;
     this.id = id;
+    cachedHashCode = 0;
     return this;
   }
 
@@ -432,6 +534,8 @@ public abstract class EpoxyModel<T> {
           getPosition(firstControllerAddedTo, this));
     }
 
+    cachedHashCode = 0;
+
     if (controllerToStageTo != null) {
       controllerToStageTo.setStagedModel(this);
     }
@@ -467,6 +571,30 @@ public abstract class EpoxyModel<T> {
     }
   }
 
+  /**
+   * This is used internally by generated models to memoize their hashCode. Returns the hashCode
+   * saved with {@link #cacheHashCode(int)}, or 0 if it needs to be computed.
+   */
+  protected final int getCachedHashCode() {
+    return cachedHashCode;
+  }
+
+  /**
+   * This is used internally by generated models to memoize their hashCode. The hashCode is only
+   * saved once the model is frozen by a controller, since models used with an {@link EpoxyAdapter}
+   * may have their fields changed directly without calling {@link #onMutation()}. It is also
+   * never saved when "validateEpoxyModelUsage" is enabled, since the hashCode is then recomputed
+   * to detect changes made to the model after it was added.
+   *
+   * @return The given hashCode
+   */
+  protected final int cacheHashCode(int hashCode) {
+    if (frozen && !isDebugValidationEnabled()) {
+      cachedHashCode = hashCode;
+    }
+    return hashCode;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -48,6 +48,9 @@ import com.airbnb.viewmodeladapter.R
  *
  * 9. [setClipToPadding] is set to false by default since that behavior is commonly
  * desired in a scrolling list
+ *
+ * 10. Views can be inflated ahead of time on a background thread. See
+ * [setViewsToPreinflatePerViewType]
  */
 open class EpoxyRecyclerView @JvmOverloads constructor(
     context: Context,
@@ -94,6 +97,10 @@ open class EpoxyRecyclerView @JvmOverloads constructor(
         }
     }
 
+    private var viewsToPreinflatePerViewType = 0
+
+    private var viewPreinflater: ViewPreinflater? = null
+
     private val preloadScrollListeners: MutableList<EpoxyPreloader<*>> = mutableListOf()
 
     private val preloadConfigs: MutableList<PreloadConfig<*, *, *>> = mutableListOf()
@@ -176,6 +183,36 @@ open class EpoxyRecyclerView @JvmOverloads constructor(
         }
     }
 
+    /**
+     * Inflate views ahead of time for the models of the [EpoxyController] set on this RecyclerView.
+     * Each time the controller finishes building models, the given number of views is inflated on
+     * a background thread for each view type that has not been seen before, and the views are added
+     * to this RecyclerView's view pool. This avoids the cost of inflating each view type on the
+     * main thread the first time it is scrolled to.
+     *
+     * The views are inflated with a model of each view type, so models must be able to build their
+     * view off the main thread. Views that fail to inflate are skipped, and are created by
+     * RecyclerView as usual.
+     *
+     * The default is 0, which disables pre-inflation.
+     */
+    fun setViewsToPreinflatePerViewType(viewsToPreinflatePerViewType: Int) {
+        this.viewsToPreinflatePerViewType = viewsToPreinflatePerViewType
+        updateViewPreinflater(epoxyController)
+    }
+
+    private fun updateViewPreinflater(previousController: EpoxyController?) {
+        viewPreinflater?.let { previousController?.removeModelBuildListener(it) }
+        viewPreinflater = null
+
+        val controller = epoxyController ?: return
+        if (viewsToPreinflatePerViewType > 0) {
+            viewPreinflater = ViewPreinflater(this, viewsToPreinflatePerViewType).also {
+                controller.addModelBuildListener(it)
+            }
+        }
+    }
+
     /**
      * If set to true, any adapter set on this recyclerview will be removed when this view is detached
      * from the window. This is useful to prevent leaking a reference to this RecyclerView. This is
@@ -255,10 +292,12 @@ open class EpoxyRecyclerView @JvmOverloads constructor(
     }
 
     /**
-     * Create a new instance of a view pool to use with this recyclerview. By default a [ ] is used.
+     * Create a new instance of a view pool to use with this recyclerview. By default a pool with a
+     * budget of [LruViewPool.DEFAULT_MAX_COST] views is used, which evicts the views of the least
+     * recently used view types first and trims itself when memory is low.
      */
     protected open fun createViewPool(): RecyclerView.RecycledViewPool {
-        return UnboundedViewPool()
+        return LruViewPool()
     }
 
     /**
@@ -411,9 +450,11 @@ open class EpoxyRecyclerView @JvmOverloads constructor(
      */
 
     fun setController(controller: EpoxyController) {
+        val previousController = epoxyController
         epoxyController = controller
         adapter = controller.adapter
         syncSpanCount()
+        updateViewPreinflater(previousController)
     }
 
     /**
@@ -533,8 +574,10 @@ open class EpoxyRecyclerView @JvmOverloads constructor(
      */
     open fun clear() {
         // The controller is cleared so the next time models are set we can create a fresh one.
-        epoxyController?.cancelPendingModelBuild()
+        val previousController = epoxyController
+        previousController?.cancelPendingModelBuild()
         epoxyController = null
+        updateViewPreinflater(previousController)
 
         // We use swapAdapter instead of setAdapter so that the view pool is not cleared.
         // 'removeAndRecycleExistingViews=true' is used in case this is a nested recyclerview
@@ -54,8 +54,17 @@ public class EpoxyViewHolder extends RecyclerView.ViewHolder {
     }
 
     if (previouslyBoundModel != null) {
-      // noinspection unchecked
-      model.bind(objectToBind(), previouslyBoundModel);
+      DiffPayload changes = DiffPayload.getChangedAttributesPayload(payloads, model);
+      if (changes == null) {
+        // noinspection unchecked
+        model.bind(objectToBind(), previouslyBoundModel);
+      } else if (changes.getChangedAttributes() != null) {
+        // noinspection unchecked
+        model.bind(objectToBind(), previouslyBoundModel, changes.getChangedAttributes());
+      } else {
+        // noinspection unchecked
+        model.bind(objectToBind(), previouslyBoundModel, changes.getChangedAttributeMask());
+      }
     } else if (payloads.isEmpty()) {
       // noinspection unchecked
       model.bind(objectToBind());
@@ -70,7 +79,38 @@ public class EpoxyViewHolder extends RecyclerView.ViewHolder {
       ((GeneratedModel) model).handlePostBind(objectToBind(), position);
     }
 
+    if (epoxyModel != null) {
+      // The holder is being rebound without having been unbound, such as for a model update
+      epoxyModel.boundViewHolderCount--;
+    }
     epoxyModel = model;
+    epoxyModel.boundViewHolderCount++;
+  }
+
+  /**
+   * Binds the model's data to the view without the pre and post bind hooks of generated models, so
+   * that listeners such as {@link OnModelBoundListener} are not called, and without tracking the
+   * model as bound to this holder. This is for views that are only created to be measured, which
+   * must be unbound with {@link #unbindForMeasurement(EpoxyModel)} once they are measured.
+   */
+  void bindForMeasurement(@SuppressWarnings("rawtypes") EpoxyModel model) {
+    if (epoxyHolder == null && model instanceof EpoxyModelWithHolder) {
+      epoxyHolder = ((EpoxyModelWithHolder) model).createNewHolder();
+      epoxyHolder.bindView(itemView);
+    }
+
+    // noinspection unchecked
+    model.bind(objectToBind());
+  }
+
+  /**
+   * Unbinds a view bound with {@link #bindForMeasurement(EpoxyModel)}, so that anything the bind
+   * started, such as an image load, is released. Only the model's unbind is called. Generated
+   * models call their {@link OnModelUnboundListener} from unbind, so that listener is still told.
+   */
+  void unbindForMeasurement(@SuppressWarnings("rawtypes") EpoxyModel model) {
+    // noinspection unchecked
+    model.unbind(objectToBind());
   }
 
   @NonNull
@@ -83,6 +123,7 @@ public class EpoxyViewHolder extends RecyclerView.ViewHolder {
     // noinspection unchecked
     epoxyModel.unbind(objectToBind());
 
+    epoxyModel.boundViewHolderCount--;
     epoxyModel = null;
     payloads = null;
   }
@@ -49,6 +49,16 @@ class EpoxyVisibilityItem {
   private int lastVisibleHeightNotified = NOT_NOTIFIED;
   private int lastVisibleWidthNotified = NOT_NOTIFIED;
 
+  /**
+   * The view's position in its parent when it was last updated, used to skip views that have not
+   * moved. Only valid if {@link #boundsRecorded} is true.
+   */
+  private int left;
+  private int top;
+  private float translationX;
+  private float translationY;
+  private boolean boundsRecorded = false;
+
   EpoxyVisibilityItem(int adapterPosition) {
     reset(adapterPosition);
   }
@@ -70,9 +80,34 @@ class EpoxyVisibilityItem {
     viewportWidth = parent.getWidth();
     visibleHeight = viewDrawn ? localVisibleRect.height() : 0;
     visibleWidth = viewDrawn ? localVisibleRect.width() : 0;
+
+    left = view.getLeft();
+    top = view.getTop();
+    translationX = view.getTranslationX();
+    translationY = view.getTranslationY();
+    // A detached view needs to be updated again if it is reattached
+    boundsRecorded = !detachEvent;
+
     return height > 0 && width > 0;
   }
 
+  /**
+   * @return true if the view has the same size and position in the parent, and the parent has the
+   * same size, as when this item was last updated. In that case updating the item would not change
+   * its visibility, unless the parent itself moved.
+   */
+  boolean hasSameBoundsAsLastUpdate(@NonNull View view, @NonNull RecyclerView parent) {
+    return boundsRecorded
+        && view.getLeft() == left
+        && view.getTop() == top
+        && view.getWidth() == width
+        && view.getHeight() == height
+        && view.getTranslationX() == translationX
+        && view.getTranslationY() == translationY
+        && parent.getWidth() == viewportWidth
+        && parent.getHeight() == viewportHeight;
+  }
+
   int getAdapterPosition() {
     return adapterPosition;
   }
@@ -84,6 +119,7 @@ class EpoxyVisibilityItem {
     adapterPosition = newAdapterPosition;
     lastVisibleHeightNotified = NOT_NOTIFIED;
     lastVisibleWidthNotified = NOT_NOTIFIED;
+    boundsRecorded = false;
   }
 
   void handleVisible(@NonNull EpoxyViewHolder epoxyHolder, boolean detachEvent) {
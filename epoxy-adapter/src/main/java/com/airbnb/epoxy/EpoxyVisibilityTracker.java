@@ -1,7 +1,10 @@
 package com.airbnb.epoxy;
 
+import android.os.Build;
 import android.util.Log;
 import android.util.SparseArray;
+import android.view.Choreographer;
+import android.view.Choreographer.FrameCallback;
 import android.view.View;
 import android.view.View.OnLayoutChangeListener;
 
@@ -15,6 +18,7 @@ import java.util.Map;
 import androidx.annotation.IdRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.recyclerview.widget.RecyclerView.Adapter;
 import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
@@ -106,6 +110,19 @@ public class EpoxyVisibilityTracker {
    * need to re-process all views, else no need (ex: scroll). */
   private boolean visibleDataChanged = false;
 
+  private boolean frameBatchingEnabled = false;
+  /** Created the first time a frame pass is scheduled, since it requires API 16. */
+  @Nullable
+  private FramePass framePass = null;
+  private boolean framePassScheduled = false;
+  /**
+   * Set when the scheduled frame pass needs to update every child, because something other than
+   * the children's bounds changed, such as the position of this RecyclerView in its parent.
+   */
+  private boolean fullFramePassRequested = false;
+  /** True while running a frame pass in which children whose bounds did not change are skipped. */
+  private boolean skipUnchangedChildren = false;
+
   /**
    * Enable or disable visibility changed event. Default is `true`, disable it if you don't need
    * (triggered by every pixel scrolled).
@@ -117,6 +134,22 @@ public class EpoxyVisibilityTracker {
     onChangedEnabled = enabled;
   }
 
+  /**
+   * Enable or disable batching of visibility checks. Default is `false`.
+   * <p>
+   * When enabled, scroll and layout events don't check visibility right away. Instead a single
+   * check is done on the next frame for all of the events received until then, and children whose
+   * size and position have not changed since they were last checked are skipped. This saves a lot
+   * of work during fast flings, where many scroll events can be received per frame.
+   * <p>
+   * Attach and detach events are still processed right away, so that visibility events are sent
+   * before a view is recycled. Batching requires API 16, events are processed right away on lower
+   * API levels.
+   */
+  public void setFrameBatchingEnabled(boolean enabled) {
+    frameBatchingEnabled = enabled;
+  }
+
   /**
    * Attach the tracker.
    *
@@ -141,6 +174,7 @@ public class EpoxyVisibilityTracker {
     recyclerView.removeOnChildAttachStateChangeListener(this.listener);
     setTracker(recyclerView, null);
     attachedRecyclerView = null;
+    cancelFramePass();
   }
 
   /**
@@ -165,7 +199,62 @@ public class EpoxyVisibilityTracker {
    * attached on the horizontal RecyclerView.
    */
   public void requestVisibilityCheck() {
-    processChangeEvent("requestVisibilityCheck");
+    processOrScheduleChangeEvent("requestVisibilityCheck", true);
+  }
+
+  /**
+   * Process a change event right away, or on the next frame if frame batching is enabled.
+   *
+   * @param debug: string for debug usually the source of the call
+   * @param fullPass: true if all children must be processed, even if their bounds didn't change
+   */
+  private void processOrScheduleChangeEvent(String debug, boolean fullPass) {
+    if (!frameBatchingEnabled || Build.VERSION.SDK_INT < 16) {
+      processChangeEvent(debug);
+      return;
+    }
+
+    fullFramePassRequested |= fullPass;
+    if (!framePassScheduled) {
+      if (framePass == null) {
+        framePass = new FramePass();
+      }
+      framePassScheduled = true;
+      framePass.schedule();
+    }
+  }
+
+  private void cancelFramePass() {
+    if (framePassScheduled) {
+      framePassScheduled = false;
+      fullFramePassRequested = false;
+      framePass.cancel();
+    }
+  }
+
+  private void runFramePass() {
+    framePassScheduled = false;
+    skipUnchangedChildren = !fullFramePassRequested;
+    fullFramePassRequested = false;
+    processChangeEvent("Choreographer.doFrame");
+    skipUnchangedChildren = false;
+  }
+
+  @RequiresApi(16)
+  private class FramePass implements FrameCallback {
+
+    void schedule() {
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    void cancel() {
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+      runFramePass();
+    }
   }
 
   /**
@@ -269,7 +358,7 @@ public class EpoxyVisibilityTracker {
             EpoxyVisibilityTracker tracker = nestedTrackers.get(child);
             if (tracker != null) {
               // If view visibility changed and there was a tracker on it then notify it.
-              tracker.processChangeEvent("parent");
+              tracker.processOrScheduleChangeEvent("parent", true);
             }
           }
         }
@@ -317,6 +406,12 @@ public class EpoxyVisibilityTracker {
         && vi.getAdapterPosition() != epoxyHolder.getAdapterPosition()) {
       // EpoxyVisibilityItem being re-used for a different adapter position
       vi.reset(epoxyHolder.getAdapterPosition());
+    } else if (skipUnchangedChildren
+        && !detachEvent
+        && !visibleDataChanged
+        && vi.hasSameBoundsAsLastUpdate(itemView, recyclerView)) {
+      // Nothing that affects the visibility of this view changed since it was last processed
+      return false;
     }
 
     boolean changed = false;
@@ -358,12 +453,12 @@ public class EpoxyVisibilityTracker {
         int left, int top, int right, int bottom,
         int oldLeft, int oldTop, int oldRight, int oldBottom
     ) {
-      processChangeEvent("onLayoutChange");
+      processOrScheduleChangeEvent("onLayoutChange", false);
     }
 
     @Override
     public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
-      processChangeEvent("onScrolled");
+      processOrScheduleChangeEvent("onScrolled", false);
     }
 
     @Override
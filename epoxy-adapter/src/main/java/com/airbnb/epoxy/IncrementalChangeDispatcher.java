@@ -0,0 +1,196 @@
+package com.airbnb.epoxy;
+
+import android.os.Build;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+/**
+ * Dispatches diff results to an adapter while spreading the changes to bound items across frames.
+ * <p>
+ * A change makes RecyclerView rebind the changed item in its next layout if the item is bound, so
+ * a diff that changes most of the screen rebinds all of it in one frame. Here inserts, removals and
+ * moves are dispatched right away, since the adapter already holds the new models and its item
+ * count must match them, along with changes to items that aren't bound. Changes to bound items are
+ * dispatched up to a time budget per frame, estimated from how long binds have been taking, and
+ * the rest are deferred to the following frames with their positions shifted by the ops that were
+ * dispatched after them.
+ * <p>
+ * Until its change is dispatched an item keeps showing its previous model, unless RecyclerView
+ * rebinds it for another reason such as it being scrolled back into view.
+ * <p>
+ * Frames are only available from API 16, so below that all changes are dispatched right away.
+ */
+class IncrementalChangeDispatcher implements ListUpdateCallback, Choreographer.FrameCallback {
+  private static final long FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(8);
+  /** Used as the duration of a bind until binds have been timed. */
+  private static final long INITIAL_BIND_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private static class PendingChange {
+    int position;
+    final int count;
+    @Nullable final Object payload;
+
+    PendingChange(int position, int count, @Nullable Object payload) {
+      this.position = position;
+      this.count = count;
+      this.payload = payload;
+    }
+  }
+
+  private final BaseEpoxyAdapter adapter;
+  /** Changes dispatched in a later frame are outside of the adapter's own dispatch. */
+  private final NotifyBlocker notifyBlocker;
+  /** Changes that have not been dispatched yet, with positions in the adapter's current models. */
+  private final List<PendingChange> pendingChanges = new ArrayList<>();
+  /** The models that are bound to a view, while a diff result is being dispatched. */
+  private final Set<EpoxyModel<?>> boundModels =
+      Collections.newSetFromMap(new IdentityHashMap<EpoxyModel<?>, Boolean>());
+  private long averageBindNanos = INITIAL_BIND_NANOS;
+  private boolean frameCallbackPosted;
+
+  IncrementalChangeDispatcher(BaseEpoxyAdapter adapter, NotifyBlocker notifyBlocker) {
+    this.adapter = adapter;
+    this.notifyBlocker = notifyBlocker;
+  }
+
+  /**
+   * Dispatches the result to the adapter, deferring changes to bound items that don't fit in this
+   * frame's budget. Changes deferred from a previous result are dispatched first.
+   */
+  void dispatch(@NonNull DiffResult result) {
+    dispatchPendingChanges();
+
+    for (EpoxyViewHolder holder : adapter.getBoundViewHolders()) {
+      boundModels.add(holder.getModel());
+    }
+    result.dispatchTo(this);
+    boundModels.clear();
+
+    dispatchChangesForFrame();
+  }
+
+  /** Dispatches all deferred changes now, so the adapter's views show all of its models. */
+  void dispatchPendingChanges() {
+    if (frameCallbackPosted && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+    frameCallbackPosted = false;
+
+    for (PendingChange change : pendingChanges) {
+      adapter.notifyItemRangeChanged(change.position, change.count, change.payload);
+    }
+    pendingChanges.clear();
+  }
+
+  /** Updates the estimate of how long a bind takes, which sets how many changes fit in a frame. */
+  void onItemBound(long bindNanos) {
+    averageBindNanos = (averageBindNanos + bindNanos) / 2;
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    frameCallbackPosted = false;
+    notifyBlocker.allowChanges();
+    dispatchChangesForFrame();
+    notifyBlocker.blockChanges();
+  }
+
+  private void dispatchChangesForFrame() {
+    if (pendingChanges.isEmpty()) {
+      return;
+    }
+
+    int remainingBinds = (int) Math.max(1, FRAME_BUDGET_NANOS / Math.max(1, averageBindNanos));
+    int changesToDispatch = 0;
+    while (changesToDispatch < pendingChanges.size() && remainingBinds > 0) {
+      remainingBinds -= pendingChanges.get(changesToDispatch).count;
+      changesToDispatch++;
+    }
+
+    List<PendingChange> dispatchedChanges = pendingChanges.subList(0, changesToDispatch);
+    for (PendingChange change : dispatchedChanges) {
+      adapter.notifyItemRangeChanged(change.position, change.count, change.payload);
+    }
+    dispatchedChanges.clear();
+
+    if (pendingChanges.isEmpty()) {
+      return;
+    }
+
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+      Choreographer.getInstance().postFrameCallback(this);
+      frameCallbackPosted = true;
+    } else {
+      dispatchPendingChanges();
+    }
+  }
+
+  @Override
+  public void onInserted(int position, int count) {
+    adapter.notifyItemRangeInserted(position, count);
+    for (PendingChange change : pendingChanges) {
+      if (change.position >= position) {
+        change.position += count;
+      }
+    }
+  }
+
+  @Override
+  public void onRemoved(int position, int count) {
+    adapter.notifyItemRangeRemoved(position, count);
+    for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+      PendingChange change = pendingChanges.get(i);
+      if (change.position >= position + count) {
+        change.position -= count;
+      } else if (change.position >= position) {
+        // The change is obsolete once its item is removed
+        pendingChanges.remove(i);
+      }
+    }
+  }
+
+  @Override
+  public void onMoved(int fromPosition, int toPosition) {
+    adapter.notifyItemMoved(fromPosition, toPosition);
+    for (PendingChange change : pendingChanges) {
+      if (change.position == fromPosition) {
+        change.position = toPosition;
+      } else if (fromPosition < toPosition) {
+        if (change.position > fromPosition && change.position <= toPosition) {
+          change.position--;
+        }
+      } else if (change.position >= toPosition && change.position < fromPosition) {
+        change.position++;
+      }
+    }
+  }
+
+  @Override
+  public void onChanged(int position, int count, @Nullable Object payload) {
+    if (count == 1 && !isBound(payload)) {
+      // Nothing is rebound for this change
+      adapter.notifyItemRangeChanged(position, count, payload);
+    } else {
+      pendingChanges.add(new PendingChange(position, count, payload));
+    }
+  }
+
+  private boolean isBound(@Nullable Object payload) {
+    if (!(payload instanceof DiffPayload)) {
+      return true;
+    }
+
+    EpoxyModel<?> previousModel = ((DiffPayload) payload).getSingleModel();
+    return previousModel == null || boundModels.contains(previousModel);
+  }
+}
@@ -1,13 +1,24 @@
 package com.airbnb.epoxy
 
+import android.view.ViewGroup
+
 /**
  * Exposes package private things as internal so files in other packages can use them.
  */
 
 internal fun EpoxyViewHolder.objectToBindInternal() = objectToBind()
+internal fun EpoxyViewHolder.bindForMeasurementInternal(model: EpoxyModel<*>) =
+    bindForMeasurement(model)
+internal fun EpoxyViewHolder.unbindForMeasurementInternal(model: EpoxyModel<*>) =
+    unbindForMeasurement(model)
 
 internal fun EpoxyModel<*>.viewTypeInternal() = viewType
 internal fun BaseEpoxyAdapter.boundViewHoldersInternal() = boundViewHolders
 internal fun BaseEpoxyAdapter.getModelForPositionInternal(position: Int): EpoxyModel<*>? {
     return getModelForPosition(position)
 }
+
+/** Creates a view holder for the model that can be added to the adapter's view pool. */
+internal fun EpoxyModel<*>.createViewHolderInternal(parent: ViewGroup): EpoxyViewHolder {
+    return HelperAdapter().createViewHolder(this, parent, ViewTypeManager.getViewType(this))
+}
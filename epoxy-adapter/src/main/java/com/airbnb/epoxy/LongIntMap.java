@@ -0,0 +1,162 @@
+package com.airbnb.epoxy;
+
+import java.util.Arrays;
+
+/**
+ * A hash map from long keys to int values that uses open addressing with linear probing. Unlike a
+ * {@code HashMap<Long, Integer>} this doesn't box keys or values, and doesn't allocate entry
+ * objects, so once it has grown to the needed capacity it can be cleared and refilled without any
+ * allocations. This is useful for indexing models by their id.
+ */
+class LongIntMap {
+  private static final int MIN_CAPACITY = 16;
+
+  private long[] keys;
+  private int[] values;
+  private boolean[] occupied;
+  private int mask;
+  private int size;
+
+  LongIntMap() {
+    this(MIN_CAPACITY / 2);
+  }
+
+  LongIntMap(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  int size() {
+    return size;
+  }
+
+  /** Returns the value mapped to the key, or valueIfAbsent if there is no mapping. */
+  int get(long key, int valueIfAbsent) {
+    int index = indexOf(key);
+    return index >= 0 ? values[index] : valueIfAbsent;
+  }
+
+  /**
+   * Maps the key to the given value, replacing any existing mapping. Returns the previous value,
+   * or valueIfAbsent if there was no previous mapping.
+   */
+  int put(long key, int value, int valueIfAbsent) {
+    ensureCapacity(size + 1);
+
+    int index = indexOf(key);
+    if (index >= 0) {
+      int previousValue = values[index];
+      values[index] = value;
+      return previousValue;
+    }
+
+    index = -index - 1;
+    occupied[index] = true;
+    keys[index] = key;
+    values[index] = value;
+    size++;
+    return valueIfAbsent;
+  }
+
+  /**
+   * Removes the mapping for the key. Returns the value that was mapped to it, or valueIfAbsent if
+   * there was no mapping.
+   */
+  int remove(long key, int valueIfAbsent) {
+    int index = indexOf(key);
+    if (index < 0) {
+      return valueIfAbsent;
+    }
+
+    int previousValue = values[index];
+    closeGap(index);
+    size--;
+    return previousValue;
+  }
+
+  void clear() {
+    if (size != 0) {
+      Arrays.fill(occupied, false);
+      size = 0;
+    }
+  }
+
+  /** Grows the table if needed so that it can hold the given number of entries. */
+  void ensureCapacity(int expectedSize) {
+    int capacity = capacityFor(expectedSize);
+    if (capacity <= keys.length) {
+      return;
+    }
+
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    boolean[] oldOccupied = occupied;
+    allocate(capacity);
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldOccupied[i]) {
+        int index = -indexOf(oldKeys[i]) - 1;
+        occupied[index] = true;
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  /**
+   * Returns the index of the key if it is in the table. Otherwise returns (-(insertion index) - 1),
+   * which is always negative.
+   */
+  private int indexOf(long key) {
+    int index = hash(key) & mask;
+    while (occupied[index]) {
+      if (keys[index] == key) {
+        return index;
+      }
+      index = (index + 1) & mask;
+    }
+
+    return -index - 1;
+  }
+
+  /**
+   * Removes the entry at the given index, and shifts back any following entries in the same probe
+   * sequence so that lookups don't need tombstones.
+   */
+  private void closeGap(int gap) {
+    int index = (gap + 1) & mask;
+    while (occupied[index]) {
+      int idealIndex = hash(keys[index]) & mask;
+      // The entry can fill the gap if the gap is between its ideal index and its current index
+      if (((index - idealIndex) & mask) >= ((index - gap) & mask)) {
+        keys[gap] = keys[index];
+        values[gap] = values[index];
+        gap = index;
+      }
+      index = (index + 1) & mask;
+    }
+
+    occupied[gap] = false;
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    occupied = new boolean[capacity];
+    mask = capacity - 1;
+  }
+
+  /** The table is kept at most half full so that probe sequences stay short. */
+  private static int capacityFor(int expectedSize) {
+    int capacity = MIN_CAPACITY;
+    while (capacity < expectedSize * 2) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private static int hash(long key) {
+    int hash = (int) (key ^ (key >>> 32));
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+}
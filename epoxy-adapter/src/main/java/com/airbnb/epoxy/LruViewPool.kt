@@ -0,0 +1,142 @@
+package com.airbnb.epoxy
+
+import android.content.ComponentCallbacks2
+import android.content.res.Configuration
+import android.util.SparseIntArray
+import android.view.View
+import android.view.ViewGroup
+import androidx.recyclerview.widget.RecyclerView.RecycledViewPool
+import androidx.recyclerview.widget.RecyclerView.ViewHolder
+import java.util.ArrayDeque
+
+/**
+ * Like its parent, LruViewPool lets you share Views between multiple RecyclerViews. Instead of a
+ * fixed maximum per view type, the pool has a single budget for all of the views it holds, so that
+ * commonly used view types can keep as many views as RecyclerViews need while rarely used view
+ * types don't retain views for the life of the activity.
+ *
+ * Each view is given a cost by [viewCost], which defaults to 1 so that [maxCost] is the maximum
+ * number of views in the pool. [estimateViewHierarchyCost] can be used instead to weigh views by
+ * the size of their view hierarchy. When the budget is exceeded views of the least recently used
+ * view type are evicted first, where a view type is used whenever a view of that type is put in or
+ * taken from the pool.
+ *
+ * The pool also trims itself when the system is low on memory. Register it with
+ * [android.content.Context.registerComponentCallbacks] to receive those callbacks.
+ */
+class LruViewPool @JvmOverloads constructor(
+    private val maxCost: Int = DEFAULT_MAX_COST,
+    private val viewCost: (ViewHolder) -> Int = { 1 }
+) : RecycledViewPool(), ComponentCallbacks2 {
+
+    private class PooledView(val viewHolder: ViewHolder, val cost: Int)
+
+    /** Scrap heaps by view type, iterated from the least to the most recently used type. */
+    private val scrapHeaps = LinkedHashMap<Int, ArrayDeque<PooledView>>(16, 0.75f, true)
+    private val maxViewsPerType = SparseIntArray()
+    private var totalCost = 0
+
+    override fun clear() {
+        scrapHeaps.clear()
+        totalCost = 0
+    }
+
+    override fun setMaxRecycledViews(viewType: Int, max: Int) {
+        maxViewsPerType.put(viewType, max)
+
+        val scrapHeap = scrapHeaps[viewType] ?: return
+        while (scrapHeap.size > max) {
+            totalCost -= scrapHeap.poll().cost
+        }
+    }
+
+    override fun getRecycledViewCount(viewType: Int): Int {
+        // Read without going through the map's get, which would mark the view type as used
+        for ((type, scrapHeap) in scrapHeaps) {
+            if (type == viewType) {
+                return scrapHeap.size
+            }
+        }
+        return 0
+    }
+
+    override fun getRecycledView(viewType: Int): ViewHolder? {
+        val pooledView = scrapHeaps[viewType]?.poll() ?: return null
+        totalCost -= pooledView.cost
+        return pooledView.viewHolder
+    }
+
+    override fun putRecycledView(viewHolder: ViewHolder) {
+        val viewType = viewHolder.itemViewType
+        // Check the cap first so a rejected view neither creates a heap nor marks its type as used
+        if (getRecycledViewCount(viewType) >= maxViewsPerType.get(viewType, Int.MAX_VALUE)) {
+            return
+        }
+
+        val scrapHeap = scrapHeaps.getOrPut(viewType) { ArrayDeque() }
+        val pooledView = PooledView(viewHolder, viewCost(viewHolder))
+        scrapHeap.add(pooledView)
+        totalCost += pooledView.cost
+
+        trimToCost(maxCost)
+    }
+
+    /**
+     * Evicts views until the total cost of the pool is at most the given cost, starting with the
+     * least recently used view types.
+     */
+    fun trimToCost(cost: Int) {
+        val iterator = scrapHeaps.values.iterator()
+        while (totalCost > cost && iterator.hasNext()) {
+            val scrapHeap = iterator.next()
+            while (totalCost > cost && scrapHeap.isNotEmpty()) {
+                totalCost -= scrapHeap.poll().cost
+            }
+            if (scrapHeap.isEmpty()) {
+                iterator.remove()
+            }
+        }
+    }
+
+    override fun onTrimMemory(level: Int) {
+        // UI_HIDDEN is above RUNNING_CRITICAL but only means the app's UI went to the background,
+        // so the pool is halved like for RUNNING_LOW instead of cleared, to avoid re-inflating
+        // every view when the user briefly leaves and returns
+        when {
+            level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND -> clear()
+            level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL -> clear()
+            level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW -> trimToCost(maxCost / 2)
+        }
+    }
+
+    override fun onLowMemory() {
+        clear()
+    }
+
+    override fun onConfigurationChanged(newConfig: Configuration) {
+    }
+
+    companion object {
+        const val DEFAULT_MAX_COST = 200
+
+        /**
+         * A [viewCost] that weighs a view by the number of views in its hierarchy, as an estimate
+         * of how much memory it holds.
+         */
+        @JvmStatic
+        fun estimateViewHierarchyCost(viewHolder: ViewHolder): Int =
+            countViews(viewHolder.itemView)
+
+        private fun countViews(view: View): Int {
+            if (view !is ViewGroup) {
+                return 1
+            }
+
+            var count = 1
+            for (i in 0 until view.childCount) {
+                count += countViews(view.getChildAt(i))
+            }
+            return count
+        }
+    }
+}
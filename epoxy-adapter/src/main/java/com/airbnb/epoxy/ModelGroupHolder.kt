@@ -35,7 +35,7 @@ class ModelGroupHolder : EpoxyHolder() {
 
         rootView = itemView
         childContainer = findChildContainer(rootView)
-        poolReference = ACTIVITY_RECYCLER_POOL.getPool(itemView.context) { UnboundedViewPool() }
+        poolReference = ACTIVITY_RECYCLER_POOL.getPool(itemView.context) { LruViewPool() }
 
         stubs = if (childContainer.childCount != 0) {
             createViewStubData(childContainer)
@@ -223,7 +223,7 @@ private class ViewStubData(
  * A viewholder's viewtype can only be set internally in an adapter when the viewholder
  * is created. To work around that we do the creation in an adapter.
  */
-private class HelperAdapter : RecyclerView.Adapter<EpoxyViewHolder>() {
+internal class HelperAdapter : RecyclerView.Adapter<EpoxyViewHolder>() {
 
     private var model: EpoxyModel<*>? = null
 
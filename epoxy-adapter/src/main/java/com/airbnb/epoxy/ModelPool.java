@@ -0,0 +1,74 @@
+package com.airbnb.epoxy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Holds model instances that were removed from an {@link EpoxyController} so they can be reused in
+ * a later model build instead of allocating new ones. Models are kept per class, up to a maximum
+ * count per class.
+ * <p>
+ * Models are released to the pool on the main thread once they are no longer in the adapter and are
+ * not bound to any view holder, and are obtained on whatever thread is building models, so access
+ * is synchronized.
+ */
+class ModelPool {
+  static final int DEFAULT_MAX_MODELS_PER_CLASS = 64;
+
+  private final Map<Class<?>, ArrayList<EpoxyModel<?>>> pool = new HashMap<>();
+  private final int maxModelsPerClass;
+
+  ModelPool(int maxModelsPerClass) {
+    this.maxModelsPerClass = maxModelsPerClass;
+  }
+
+  /**
+   * Only generated models are pooled, since they are the only ones whose {@link EpoxyModel#reset()}
+   * is guaranteed to clear all of their attributes. Model groups are excluded since resetting them
+   * does not release their nested models.
+   */
+  static boolean canPool(EpoxyModel<?> model) {
+    return model instanceof GeneratedModel && !(model instanceof EpoxyModelGroup);
+  }
+
+  /** Adds the model to the pool, unless the pool for its class is already full. */
+  synchronized void release(@NonNull EpoxyModel<?> model) {
+    Class<?> modelClass = model.getClass();
+    ArrayList<EpoxyModel<?>> models = pool.get(modelClass);
+    if (models == null) {
+      models = new ArrayList<>();
+      pool.put(modelClass, models);
+    }
+
+    if (models.size() < maxModelsPerClass) {
+      models.add(model);
+    }
+  }
+
+  /**
+   * Removes a model of the given class from the pool and resets it so it can be used like a newly
+   * created model. Returns null if there is no pooled model of that class.
+   */
+  @Nullable
+  <T extends EpoxyModel<?>> T obtain(@NonNull Class<T> modelClass) {
+    EpoxyModel<?> model;
+    synchronized (this) {
+      ArrayList<EpoxyModel<?>> models = pool.get(modelClass);
+      if (models == null || models.isEmpty()) {
+        return null;
+      }
+      model = models.remove(models.size() - 1);
+    }
+
+    model.resetForReuse();
+    return modelClass.cast(model);
+  }
+
+  synchronized void clear() {
+    pool.clear();
+  }
+}
@@ -0,0 +1,241 @@
+package com.airbnb.epoxy;
+
+import java.util.Arrays;
+
+/**
+ * Stores the information about each model in a list that we need to determine if it changed.
+ * <p>
+ * Instead of an object per model, the state is kept in parallel primitive arrays that are indexed
+ * by a "state" number, and the order of states in the list is kept in a separate int array. The
+ * arrays are reused across diffs so that once they have grown to the size of the model list, a diff
+ * doesn't need to allocate anything to track model state.
+ * <p>
+ * A state's number does not change while it is in the table, even if its position in the list
+ * does, so state numbers can be used to link states across tables and to index them by id.
+ */
+class ModelStateTable {
+  /** Used for a missing state, such as a state with no pair in the other list. */
+  static final int NONE = -1;
+  private static final int DEFAULT_CAPACITY = 16;
+
+  long[] ids;
+  int[] hashCodes;
+  int[] positions;
+  /** Only set if models are immutable, otherwise the hashCode is used to detect changes. */
+  EpoxyModel<?>[] models;
+
+  /**
+   * The state with the same id in the other table when diffing two lists, or {@link #NONE} if the
+   * item doesn't exist, in the case of insertions or removals. This is an optimization to prevent
+   * having to look up the matching pair by id every time.
+   */
+  int[] pairs;
+
+  /**
+   * How many movement operations have been applied to this item in order to update its position. As
+   * we find more item movements we need to update the position of affected items in the list in
+   * order to correctly calculate the next movement. Instead of iterating through all items in the
+   * list every time a movement operation happens we keep track of how many of these operations have
+   * been applied to an item, and apply all new operations in order when we need to get this item's
+   * up to date position.
+   */
+  int[] lastMoveOps;
+
+  /** The number of state numbers that have been handed out since the table was cleared. */
+  private int stateCount;
+  /** States that were removed from the list and can be reused. */
+  private int[] freeStates = new int[0];
+  private int freeStateCount;
+
+  /** The state at each position of the list. */
+  private int[] list = new int[DEFAULT_CAPACITY];
+  private int size;
+
+  private final LongIntMap idToState = new LongIntMap();
+
+  ModelStateTable() {
+    allocateStates(DEFAULT_CAPACITY);
+  }
+
+  /** The number of states in the list. */
+  int size() {
+    return size;
+  }
+
+  /** The state at the given position of the list. */
+  int stateAt(int position) {
+    return list[position];
+  }
+
+  /** The state with the given id that was indexed with {@link #index(int)}, or {@link #NONE}. */
+  int stateForId(long id) {
+    return idToState.get(id, NONE);
+  }
+
+  /**
+   * Indexes the state by its id. Returns the state that was previously indexed with the same id, or
+   * {@link #NONE} if there was none.
+   */
+  int index(int state) {
+    return idToState.put(ids[state], state, NONE);
+  }
+
+  /** Prepares room for the given number of states without needing to resize. */
+  void ensureCapacity(int expectedSize) {
+    if (expectedSize > ids.length) {
+      allocateStates(expectedSize);
+    }
+    if (expectedSize > list.length) {
+      list = Arrays.copyOf(list, expectedSize);
+    }
+    idToState.ensureCapacity(expectedSize);
+  }
+
+  /**
+   * Creates a new state for the given model. The state is not added to the list or indexed by id
+   * yet.
+   */
+  int newState(EpoxyModel<?> model, int position, boolean immutableModel) {
+    int state = obtainState();
+
+    ids[state] = model.id();
+    positions[state] = position;
+
+    if (immutableModel) {
+      models[state] = model;
+    } else {
+      hashCodes[state] = model.hashCode();
+    }
+
+    return state;
+  }
+
+  /**
+   * Creates a copy of a state in the other table and pairs the two together. The copy is not added
+   * to the list or indexed by id.
+   * <p>
+   * Used for an item inserted into the new list when we need to track moves that effect the
+   * inserted item in the old list.
+   */
+  int pairWithCopy(ModelStateTable otherTable, int otherState) {
+    if (otherTable.pairs[otherState] != NONE) {
+      throw new IllegalStateException("Already paired.");
+    }
+
+    int state = obtainState();
+    ids[state] = otherTable.ids[otherState];
+    hashCodes[state] = otherTable.hashCodes[otherState];
+    positions[state] = otherTable.positions[otherState];
+    models[state] = otherTable.models[otherState];
+    pairs[state] = otherState;
+    otherTable.pairs[otherState] = state;
+
+    return state;
+  }
+
+  /** Adds the state to the end of the list. */
+  void add(int state) {
+    if (size == list.length) {
+      list = Arrays.copyOf(list, size * 2);
+    }
+    list[size++] = state;
+  }
+
+  /**
+   * Makes room in the list for the given number of states at the given position. The new positions
+   * must be filled with {@link #set(int, int)}.
+   */
+  void insertGap(int positionStart, int itemCount) {
+    if (size + itemCount > list.length) {
+      list = Arrays.copyOf(list, Math.max(size * 2, size + itemCount));
+    }
+    System.arraycopy(list, positionStart, list, positionStart + itemCount, size - positionStart);
+    size += itemCount;
+  }
+
+  void set(int position, int state) {
+    list[position] = state;
+  }
+
+  /** Removes the states in the given range from the list and from the id index. */
+  void remove(int positionStart, int itemCount) {
+    int positionEnd = positionStart + itemCount;
+    for (int i = positionStart; i < positionEnd; i++) {
+      int state = list[i];
+      idToState.remove(ids[state], NONE);
+      recycleState(state);
+    }
+
+    System.arraycopy(list, positionEnd, list, positionStart, size - positionEnd);
+    size -= itemCount;
+  }
+
+  void move(int fromPosition, int toPosition) {
+    int state = list[fromPosition];
+    if (fromPosition < toPosition) {
+      System.arraycopy(list, fromPosition + 1, list, fromPosition, toPosition - fromPosition);
+    } else {
+      System.arraycopy(list, toPosition, list, toPosition + 1, fromPosition - toPosition);
+    }
+    list[toPosition] = state;
+  }
+
+  /** Unlinks all states from their pairs. */
+  void clearPairs() {
+    Arrays.fill(pairs, 0, stateCount, NONE);
+  }
+
+  /** Removes all states. The allocated arrays are kept so they can be reused. */
+  void clear() {
+    // Release model references so they can be garbage collected
+    Arrays.fill(models, 0, stateCount, null);
+    stateCount = 0;
+    freeStateCount = 0;
+    size = 0;
+    idToState.clear();
+  }
+
+  private int obtainState() {
+    int state;
+    if (freeStateCount > 0) {
+      state = freeStates[--freeStateCount];
+    } else {
+      if (stateCount == ids.length) {
+        allocateStates(stateCount * 2);
+      }
+      state = stateCount++;
+    }
+
+    hashCodes[state] = 0;
+    models[state] = null;
+    pairs[state] = NONE;
+    lastMoveOps[state] = 0;
+    return state;
+  }
+
+  private void recycleState(int state) {
+    models[state] = null;
+    if (freeStateCount == freeStates.length) {
+      freeStates = Arrays.copyOf(freeStates, Math.max(DEFAULT_CAPACITY, freeStateCount * 2));
+    }
+    freeStates[freeStateCount++] = state;
+  }
+
+  private void allocateStates(int capacity) {
+    if (ids == null) {
+      ids = new long[capacity];
+      hashCodes = new int[capacity];
+      positions = new int[capacity];
+      models = new EpoxyModel<?>[capacity];
+      pairs = new int[capacity];
+      lastMoveOps = new int[capacity];
+    } else {
+      ids = Arrays.copyOf(ids, capacity);
+      hashCodes = Arrays.copyOf(hashCodes, capacity);
+      positions = Arrays.copyOf(positions, capacity);
+      models = Arrays.copyOf(models, capacity);
+      pairs = Arrays.copyOf(pairs, capacity);
+      lastMoveOps = Arrays.copyOf(lastMoveOps, capacity);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.airbnb.epoxy
+
+import android.util.SparseBooleanArray
+import androidx.recyclerview.widget.RecyclerView
+import java.util.concurrent.Executor
+
+/**
+ * Inflates views ahead of time for the view types in an [EpoxyController]'s models, so that
+ * RecyclerView can take them from its view pool instead of inflating them on the main thread the
+ * first time each view type is scrolled to.
+ *
+ * After each model build the new models are grouped by view type, and for each view type that
+ * has not been pre-inflated yet [viewsPerViewType] views are created on a background thread from
+ * the first model of that type. The view holders are then added to the RecyclerView's
+ * [RecyclerView.RecycledViewPool] on the main thread.
+ *
+ * Views that cannot be inflated off the main thread, such as views that create a Handler when
+ * constructed, are skipped and are inflated by RecyclerView as usual. Models are kept out of the
+ * [ModelPool] while views are built from them.
+ */
+internal class ViewPreinflater(
+    private val recyclerView: RecyclerView,
+    private val viewsPerViewType: Int,
+    private val executor: Executor = EpoxyAsyncUtil.getModelBuildingWorkerExecutor()
+) : OnModelBuildFinishedListener {
+
+    /** The view types that have been pre-inflated, or are being pre-inflated. Main thread only. */
+    private val preinflatedViewTypes = SparseBooleanArray()
+
+    override fun onModelBuildFinished(result: DiffResult) {
+        // View types are looked up here since the view type map is only used on the main thread
+        val modelsToInflate = ArrayList<Pair<EpoxyModel<*>, Int>>()
+        for (model in result.newModels) {
+            val viewType = ViewTypeManager.getViewType(model)
+            if (!preinflatedViewTypes.get(viewType)) {
+                preinflatedViewTypes.put(viewType, true)
+                modelsToInflate.add(model to viewType)
+            }
+        }
+
+        if (modelsToInflate.isEmpty()) {
+            return
+        }
+
+        // The models are still used by the worker after this, so they must not be pooled and reset
+        // if the next build removes them
+        modelsToInflate.forEach { (model, _) -> model.viewsBeingPreinflatedCount++ }
+
+        // A separate adapter is used per task, since it holds the model it is creating views for
+        val helperAdapter = HelperAdapter()
+        executor.execute {
+            for ((model, viewType) in modelsToInflate) {
+                val viewHolders = try {
+                    List(viewsPerViewType) {
+                        helperAdapter.createViewHolder(model, recyclerView, viewType)
+                    }
+                } catch (e: RuntimeException) {
+                    // The view needs to be inflated on the main thread
+                    null
+                }
+
+                EpoxyAsyncUtil.MAIN_THREAD_HANDLER.post {
+                    model.viewsBeingPreinflatedCount--
+                    viewHolders?.let { addToViewPool(it) }
+                }
+            }
+        }
+    }
+
+    private fun addToViewPool(viewHolders: List<EpoxyViewHolder>) {
+        if (recyclerView.context.isActivityDestroyed()) {
+            return
+        }
+
+        val viewPool = recyclerView.recycledViewPool
+        viewHolders.forEach { viewPool.putRecycledView(it) }
+    }
+}
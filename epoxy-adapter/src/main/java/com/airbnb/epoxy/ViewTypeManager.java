@@ -1,6 +1,9 @@
 package com.airbnb.epoxy;
 
+import android.util.SparseArray;
+
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import androidx.annotation.VisibleForTesting;
@@ -12,6 +15,12 @@ class ViewTypeManager {
    * look up what view type belongs to which model.
    */
   private EpoxyModel<?> lastModelForViewTypeLookup;
+  /**
+   * A model for each view type that has been seen when the last model didn't match, used to create
+   * views of that type without searching through all of the adapter's models again. These are
+   * cleared when the adapter's models are replaced, so that removed models aren't held onto.
+   */
+  private final SparseArray<EpoxyModel<?>> modelsByViewType = new SparseArray<>();
 
   /**
    * The type map is static so that models of the same class share the same views across different
@@ -35,6 +44,11 @@ class ViewTypeManager {
       return defaultViewType;
     }
 
+    // Generated view types are negative, so 0 means it hasn't been looked up for this model yet
+    if (model.generatedViewType != 0) {
+      return model.generatedViewType;
+    }
+
     // If a model does not specify a view type then we generate a value to use for models of that
     // class.
     Class modelClass = model.getClass();
@@ -46,6 +60,7 @@ class ViewTypeManager {
       VIEW_TYPE_MAP.put(modelClass, viewType);
     }
 
+    model.generatedViewType = viewType;
     return viewType;
   }
 
@@ -62,7 +77,12 @@ class ViewTypeManager {
    * very fast lookup for the correct model.
    * <p>
    * To be safe, we fallback to searching through all models for a view type match. This is slow and
-   * shouldn't be needed, but is a guard against recyclerview behavior changing.
+   * shouldn't be needed, but is a guard against recyclerview behavior changing. The search records
+   * a model for every view type it passes, so later misses are usually a single lookup until the
+   * adapter's models are replaced. An {@link EpoxyAdapter} changes its models in place, so its
+   * searches aren't recorded.
+   *
+   * @see #onModelsReplaced()
    */
   EpoxyModel<?> getModelForViewType(BaseEpoxyAdapter adapter, int viewType) {
     if (lastModelForViewTypeLookup != null
@@ -71,12 +91,25 @@ class ViewTypeManager {
       return lastModelForViewTypeLookup;
     }
 
+    List<? extends EpoxyModel<?>> currentModels = adapter.getCurrentModels();
+    // Models of an EpoxyAdapter are removed from its list without it being replaced
+    boolean canRecordModels = !(currentModels instanceof ModelList);
+
+    EpoxyModel<?> knownModel = modelsByViewType.get(viewType);
+    if (knownModel != null) {
+      return knownModel;
+    }
+
     adapter.onExceptionSwallowed(
         new IllegalStateException("Last model did not match expected view type"));
 
     // To be extra safe in case RecyclerView implementation details change...
-    for (EpoxyModel<?> model : adapter.getCurrentModels()) {
-      if (getViewType(model) == viewType) {
+    for (EpoxyModel<?> model : currentModels) {
+      int modelViewType = getViewType(model);
+      if (canRecordModels && modelsByViewType.get(modelViewType) == null) {
+        modelsByViewType.put(modelViewType, model);
+      }
+      if (modelViewType == viewType) {
         return model;
       }
     }
@@ -89,4 +122,9 @@ class ViewTypeManager {
 
     throw new IllegalStateException("Could not find model for view type: " + viewType);
   }
+
+  /** Drops the models recorded by searches, since they may no longer be in the adapter. */
+  void onModelsReplaced() {
+    modelsByViewType.clear();
+  }
 }
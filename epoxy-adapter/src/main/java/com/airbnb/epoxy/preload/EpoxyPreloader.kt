@@ -3,10 +3,13 @@ package com.airbnb.epoxy.preload
 import android.content.Context
 import android.view.View
 import android.widget.ImageView
+import android.widget.OverScroller
 import androidx.annotation.IdRes
 import androidx.annotation.Px
+import androidx.recyclerview.widget.GridLayoutManager
 import androidx.recyclerview.widget.LinearLayoutManager
 import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
 import com.airbnb.epoxy.BaseEpoxyAdapter
 import com.airbnb.epoxy.EpoxyAdapter
 import com.airbnb.epoxy.EpoxyController
@@ -24,6 +27,13 @@ import com.airbnb.epoxy.getModelForPositionInternal
  * to setup the preloader as a listener.
  *
  * Otherwise there is a [RecyclerView.addEpoxyPreloader] extension for easy usage.
+ *
+ * The number of items preloaded ahead of the visible items adapts to the scroll speed, up to `maxItemsToPreload`.
+ * During a fling the items around the predicted end of the fling are preloaded instead, since the items right after
+ * the visible ones will be scrolled past.
+ *
+ * [LinearLayoutManager], [GridLayoutManager] and [StaggeredGridLayoutManager] are supported. In grids whole rows are
+ * preloaded at a time, so the number of items preloaded is rounded up to the end of a row.
  */
 class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
     private val adapter: BaseEpoxyAdapter,
@@ -38,6 +48,13 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
     private var totalItemCount = -1
     private var scrollState: Int = RecyclerView.SCROLL_STATE_IDLE
 
+    /** Smoothed scroll velocity along the scrolling axis, in pixels per second. */
+    private var scrollVelocityPxPerSecond = 0f
+    private var lastScrollEventNanos = 0L
+
+    /** Used to predict how far a fling will travel, with the same deceleration as RecyclerView's flings. */
+    private var flingPredictor: OverScroller? = null
+
     private val modelPreloaders: Map<Class<out EpoxyModel<*>>, EpoxyModelPreloader<*, *, out P>> =
         modelPreloaders.associateBy { it.modelType }
 
@@ -82,6 +99,9 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
 
     override fun onScrollStateChanged(recyclerView: RecyclerView, newState: Int) {
         scrollState = newState
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            scrollVelocityPxPerSecond = 0f
+        }
     }
 
     override fun onScrolled(recyclerView: RecyclerView, dx: Int, dy: Int) {
@@ -92,27 +112,20 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
             return
         }
 
-        if (dx.isFling() || dy.isFling()) {
-            // We avoid preloading during flings for two reasons
-            // 1. Image requests are expensive and we don't want to drop frames on fling
-            // 2. We'll likely scroll past the preloading item anyway
-            return
-        }
+        updateScrollVelocity(if (Math.abs(dx) > Math.abs(dy)) dx else dy)
 
         // Update item count before anything else because validations depend on it
         totalItemCount = recyclerView.adapter?.itemCount ?: 0
 
-        val layoutManager = recyclerView.layoutManager as LinearLayoutManager
-        val firstVisiblePosition = layoutManager.findFirstVisibleItemPosition()
-        val lastVisiblePosition = layoutManager.findLastVisibleItemPosition()
+        val layoutManager = recyclerView.layoutManager
+        val visibleRange = layoutManager?.findVisibleRange()
 
-        if (firstVisiblePosition.isInvalid() || lastVisiblePosition.isInvalid()) {
+        if (layoutManager == null || visibleRange == null) {
             lastVisibleRange = IntRange.EMPTY
             lastPreloadRange = IntRange.EMPTY
             return
         }
 
-        val visibleRange = IntRange(firstVisiblePosition, lastVisiblePosition)
         if (visibleRange == lastVisibleRange) {
             return
         }
@@ -120,13 +133,27 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
         val isIncreasing =
             visibleRange.first > lastVisibleRange.first || visibleRange.last > lastVisibleRange.last
 
-        val preloadRange =
-            calculatePreloadRange(firstVisiblePosition, lastVisiblePosition, isIncreasing)
+        val visibleRowCount = layoutManager.countRows(visibleRange)
+        val rowSizePx = averageRowSizePx(recyclerView, layoutManager, visibleRowCount)
+
+        val preloadRange = if (dx.isFling() || dy.isFling()) {
+            // The items right after the visible ones will likely be scrolled past, so instead of preloading them we
+            // preload the items that will be visible when the fling ends.
+            calculateFlingLandingRange(recyclerView, layoutManager, visibleRange, visibleRowCount, isIncreasing, rowSizePx)
+        } else {
+            calculatePreloadRange(layoutManager, visibleRange, isIncreasing, preloadWindowSize(rowSizePx))
+        }
 
-        // Start preload for any items that weren't already preloaded
+        // Cancel requests for items that are neither visible nor about to be, such as the items ahead of the visible
+        // ones when the scroll direction reverses, so they don't use bandwidth and decode time that the new preload
+        // window needs. Visible items keep their requests since their views may still be loading the same data.
+        requestHolderFactory.clearRequestsOutside { it in visibleRange || it in preloadRange }
+
+        // Start preload for any items that weren't already preloaded, nearest to the visible items first
         preloadRange
             .subtract(lastPreloadRange)
-            .forEach { preloadAdapterPosition(it) }
+            .sortedBy { if (it < visibleRange.first) visibleRange.first - it else it - visibleRange.last }
+            .forEach { preloadAdapterPosition(it, recyclerView) }
 
         lastVisibleRange = visibleRange
         lastPreloadRange = preloadRange
@@ -138,27 +165,184 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
      */
     private fun Int.isFling() = Math.abs(this) > FLING_THRESHOLD_PX
 
+    private fun updateScrollVelocity(scrollDistancePx: Int) {
+        val now = System.nanoTime()
+        val elapsedNanos = now - lastScrollEventNanos
+        lastScrollEventNanos = now
+
+        if (elapsedNanos <= 0 || elapsedNanos > VELOCITY_RESET_NANOS) {
+            // This is the first scroll event after a pause, so there is nothing to measure velocity against
+            scrollVelocityPxPerSecond = 0f
+            return
+        }
+
+        val currentVelocity = scrollDistancePx * NANOS_PER_SECOND / elapsedNanos
+        scrollVelocityPxPerSecond = (scrollVelocityPxPerSecond + currentVelocity) / 2
+    }
+
+    /**
+     * The range of visible adapter positions, or null if it isn't known. That is the case for layout managers other
+     * than [LinearLayoutManager] (which includes [GridLayoutManager]) and [StaggeredGridLayoutManager], if the adapter
+     * is empty, or if adapter changes have been dispatched since the last layout pass.
+     */
+    private fun RecyclerView.LayoutManager.findVisibleRange(): IntRange? {
+        val first: Int
+        val last: Int
+        when (this) {
+            is LinearLayoutManager -> {
+                first = findFirstVisibleItemPosition()
+                last = findLastVisibleItemPosition()
+            }
+            is StaggeredGridLayoutManager -> {
+                // Each span has its own first and last visible item
+                first = findFirstVisibleItemPositions(null).filter { !it.isInvalid() }.min() ?: RecyclerView.NO_POSITION
+                last = findLastVisibleItemPositions(null).filter { !it.isInvalid() }.max() ?: RecyclerView.NO_POSITION
+            }
+            else -> return null
+        }
+
+        return if (first.isInvalid() || last.isInvalid()) null else IntRange(first, last)
+    }
+
+    /**
+     * True if an adapter position is the first item of a row, so that grids are preloaded a row at a time. Grid rows
+     * come from the layout manager's span size lookup, which for Epoxy adapters is [BaseEpoxyAdapter.getSpanSizeLookup].
+     * Its span indices are cached, unlike its group indices, so rows are found by walking from a known position
+     * instead of by row index. Items in a staggered grid are placed in whichever span is shortest, so each span count
+     * items are treated as a row. Linear layouts have one item per row.
+     */
+    private fun RecyclerView.LayoutManager.isRowStart(position: Int): Boolean = when (this) {
+        is GridLayoutManager -> spanSizeLookup.getSpanIndex(position, spanCount) == 0
+        is StaggeredGridLayoutManager -> position % spanCount == 0
+        else -> true
+    }
+
+    /** The number of rows that the items in the range are laid out in. */
+    private fun RecyclerView.LayoutManager.countRows(range: IntRange): Int =
+        1 + (range.first + 1..range.last).count { isRowStart(it) }
+
+    /** Estimates the size of a row along the scrolling axis from the number of rows that fit in the RecyclerView. */
+    private fun averageRowSizePx(
+        recyclerView: RecyclerView,
+        layoutManager: RecyclerView.LayoutManager,
+        visibleRowCount: Int
+    ): Float {
+        val extent = if (layoutManager.canScrollVertically()) recyclerView.height else recyclerView.width
+        return Math.max(extent, 1).toFloat() / visibleRowCount
+    }
+
+    /**
+     * The number of rows to preload ahead of the visible items. This is the number of rows that will be scrolled
+     * into view in the next [PRELOAD_LOOKAHEAD_MS] at the current scroll speed, so that fast scrolling preloads
+     * further ahead while slow scrolling doesn't start requests for items that won't be shown for a long time.
+     */
+    private fun preloadWindowSize(rowSizePx: Float): Int {
+        val rowsPerSecond = Math.abs(scrollVelocityPxPerSecond) / rowSizePx
+        val rowsInLookahead = Math.ceil(rowsPerSecond * PRELOAD_LOOKAHEAD_MS / 1000.0).toInt()
+        return rowsInLookahead.coerceIn(Math.min(MIN_ROWS_TO_PRELOAD, maxItemsToPreload), maxItemsToPreload)
+    }
+
+    /**
+     * Predicts where the current fling will end from the scroll velocity, and returns the range of items that will
+     * be visible at that point, up to [maxItemsToPreload] items rounded up to a whole row.
+     */
+    private fun calculateFlingLandingRange(
+        recyclerView: RecyclerView,
+        layoutManager: RecyclerView.LayoutManager,
+        visibleRange: IntRange,
+        visibleRowCount: Int,
+        isIncreasing: Boolean,
+        rowSizePx: Float
+    ): IntProgression {
+        val predictor = flingPredictor ?: OverScroller(recyclerView.context).also { flingPredictor = it }
+        predictor.fling(0, 0, 0, Math.abs(scrollVelocityPxPerSecond).toInt(), 0, 0, 0, Int.MAX_VALUE)
+        val remainingDistancePx = predictor.finalY
+        predictor.forceFinished(true)
+
+        val rowsUntilLanding = (remainingDistancePx / rowSizePx).toInt()
+        if (rowsUntilLanding == 0) {
+            // The fling is ending within the visible items
+            return IntRange.EMPTY
+        }
+
+        // Rows in a grid can hold a varying number of items, so the first item at the landing position is estimated
+        // from the average number of items per visible row
+        val itemsPerRow = (visibleRange.last - visibleRange.first + 1).toFloat() / visibleRowCount
+        val itemsUntilLanding = Math.round(rowsUntilLanding * itemsPerRow)
+
+        val from = if (isIncreasing) {
+            Math.max(visibleRange.last + 1, visibleRange.first + itemsUntilLanding)
+        } else {
+            Math.min(visibleRange.first - 1, visibleRange.last - itemsUntilLanding)
+        }
+
+        if (from !in 0 until totalItemCount) {
+            return IntRange.EMPTY
+        }
+
+        val step = if (isIncreasing) 1 else -1
+        return rangeOfRows(layoutManager, layoutManager.startOfRow(from, step), step, visibleRowCount)
+    }
+
     private fun calculatePreloadRange(
-        firstVisiblePosition: Int,
-        lastVisiblePosition: Int,
-        isIncreasing: Boolean
+        layoutManager: RecyclerView.LayoutManager,
+        visibleRange: IntRange,
+        isIncreasing: Boolean,
+        rowsToPreload: Int
+    ): IntProgression {
+        val from = if (isIncreasing) visibleRange.last + 1 else visibleRange.first - 1
+        if (from !in 0 until totalItemCount) {
+            return IntRange.EMPTY
+        }
+
+        return rangeOfRows(layoutManager, from, if (isIncreasing) 1 else -1, rowsToPreload)
+    }
+
+    /** Moves the position back to the first item of its row, in the direction of [step]. */
+    private fun RecyclerView.LayoutManager.startOfRow(position: Int, step: Int): Int {
+        var start = position
+        while ((start - step) in 0 until totalItemCount && isInSameRow(start, start - step)) {
+            start -= step
+        }
+        return start
+    }
+
+    /** True if the item at [other], which is next to [position], is in the same row as it. */
+    private fun RecyclerView.LayoutManager.isInSameRow(position: Int, other: Int): Boolean =
+        !isRowStart(Math.max(position, other))
+
+    /**
+     * The range of items from [from] that covers the given number of rows in the direction of [step]. Rows stop being
+     * added once [maxItemsToPreload] is reached, but the last row is always included in full.
+     */
+    private fun rangeOfRows(
+        layoutManager: RecyclerView.LayoutManager,
+        from: Int,
+        step: Int,
+        rowCount: Int
     ): IntProgression {
-        val from = if (isIncreasing) lastVisiblePosition + 1 else firstVisiblePosition - 1
-        val to = from + if (isIncreasing) maxItemsToPreload - 1 else 1 - maxItemsToPreload
-
-        return IntProgression.fromClosedRange(
-            rangeStart = from.clampToAdapterRange(),
-            rangeEnd = to.clampToAdapterRange(),
-            step = if (isIncreasing) 1 else -1
-        )
+        var to = from
+        var rowsCovered = 1
+        var itemCount = 1
+
+        while ((to + step) in 0 until totalItemCount) {
+            if (!layoutManager.isInSameRow(to, to + step)) {
+                if (rowsCovered >= rowCount || itemCount >= maxItemsToPreload) {
+                    break
+                }
+                rowsCovered++
+            }
+            to += step
+            itemCount++
+        }
+
+        return IntProgression.fromClosedRange(rangeStart = from, rangeEnd = to, step = step)
     }
 
     /** Check if an item index is valid. It may not be if the adapter is empty, or if adapter changes have been dispatched since the last layout pass. */
     private fun Int.isInvalid() = this == RecyclerView.NO_POSITION || this >= totalItemCount
 
-    private fun Int.clampToAdapterRange() = Math.min(totalItemCount - 1, Math.max(this, 0))
-
-    private fun preloadAdapterPosition(position: Int) {
+    private fun preloadAdapterPosition(position: Int, recyclerView: RecyclerView) {
         @Suppress("UNCHECKED_CAST")
         val epoxyModel = adapter.getModelForPositionInternal(position) as? EpoxyModel<Any>
             ?: return
@@ -169,9 +353,9 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
                 ?: return
 
         viewDataCache
-            .dataForModel(preloader, epoxyModel, position)
+            .dataForModel(preloader, epoxyModel, position, recyclerView)
             .forEach { viewData ->
-                val preloadTarget = requestHolderFactory.next()
+                val preloadTarget = requestHolderFactory.next(position)
                 preloader.startPreload(epoxyModel, preloadTarget, viewData)
             }
     }
@@ -193,6 +377,17 @@ class EpoxyPreloader<P : PreloadRequestHolder> private constructor(
          */
         private const val FLING_THRESHOLD_PX = 75
 
+        /** How far ahead in time to preload items, based on the current scroll speed. */
+        private const val PRELOAD_LOOKAHEAD_MS = 1000
+
+        /** The fewest rows to preload ahead of the visible items, even when scrolling slowly. */
+        private const val MIN_ROWS_TO_PRELOAD = 2
+
+        /** Scroll events further apart than this are considered separate scrolls when measuring velocity. */
+        private const val VELOCITY_RESET_NANOS = 100_000_000L
+
+        private const val NANOS_PER_SECOND = 1_000_000_000f
+
         /**
          * Helper to create a preload scroll listener. Add the result to your RecyclerView.
          * for different models or content types.
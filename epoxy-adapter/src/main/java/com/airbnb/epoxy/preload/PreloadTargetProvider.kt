@@ -6,17 +6,40 @@ internal class PreloadTargetProvider<P : PreloadRequestHolder>(
     maxPreload: Int,
     requestHolderFactory: () -> P
 ) {
-    private val queue = ArrayDeque<P>((0 until maxPreload).map { requestHolderFactory() })
+    /** Request holders that are not being used for any position. */
+    private val available = ArrayDeque<P>((0 until maxPreload).map { requestHolderFactory() })
 
-    internal fun next(): P {
-        val result = queue.poll()
-        queue.offer(result)
+    /** Request holders with the adapter position their request was started for, oldest request first. */
+    private val inUse = ArrayDeque<Pair<Int, P>>(maxPreload)
+
+    /**
+     * Returns a cleared request holder to use for preloading the item at the given position. If all holders are in
+     * use the one with the oldest request is reused.
+     */
+    internal fun next(position: Int): P {
+        val result = available.poll() ?: inUse.poll().second
+        inUse.offer(position to result)
         result.clear()
         return result
     }
 
+    /** Clears the requests for any positions that [shouldKeep] returns false for. */
+    internal fun clearRequestsOutside(shouldKeep: (Int) -> Boolean) {
+        val iterator = inUse.iterator()
+        while (iterator.hasNext()) {
+            val (position, holder) = iterator.next()
+            if (!shouldKeep(position)) {
+                iterator.remove()
+                holder.clear()
+                available.offer(holder)
+            }
+        }
+    }
+
     fun clearAll() {
-        queue.forEach { it.clear() }
+        inUse.forEach { available.offer(it.second) }
+        inUse.clear()
+        available.forEach { it.clear() }
     }
 }
 
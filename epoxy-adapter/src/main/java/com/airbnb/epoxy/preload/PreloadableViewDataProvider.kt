@@ -1,16 +1,25 @@
 package com.airbnb.epoxy.preload
 
 import android.view.View
+import android.view.ViewGroup
 import androidx.core.view.ViewCompat
+import androidx.recyclerview.widget.RecyclerView
 import com.airbnb.epoxy.BaseEpoxyAdapter
 import com.airbnb.epoxy.EpoxyModel
+import com.airbnb.epoxy.bindForMeasurementInternal
 import com.airbnb.epoxy.boundViewHoldersInternal
+import com.airbnb.epoxy.createViewHolderInternal
 import com.airbnb.epoxy.objectToBindInternal
+import com.airbnb.epoxy.unbindForMeasurementInternal
 import com.airbnb.epoxy.viewTypeInternal
 
 /**
  * In order to preload content we need to know the size of the view that they it be loaded into.
  * This class provides the view size, as well as other view metadata that might be necessary to construct the preload request.
+ *
+ * The view data is taken from a bound view of the same configuration when there is one. Otherwise a view is created,
+ * bound and measured off screen at the size it would have in the RecyclerView, so that even the first item of a view
+ * type can be preloaded.
  */
 internal class PreloadableViewDataProvider(
     val adapter: BaseEpoxyAdapter,
@@ -35,15 +44,18 @@ internal class PreloadableViewDataProvider(
     fun <T : EpoxyModel<*>, U : ViewMetadata?, P : PreloadRequestHolder> dataForModel(
         preloader: EpoxyModelPreloader<T, U, P>,
         epoxyModel: T,
-        position: Int
+        position: Int,
+        recyclerView: RecyclerView
     ): List<ViewData<U>> {
         val cacheKey = cacheKey(preloader, epoxyModel, position)
 
         @Suppress("UNCHECKED_CAST")
         return cache.getOrPut(cacheKey) {
-            // Look up view data based on currently bound views. This can be null if a matching view type is not found.
+            // Look up view data based on currently bound views, or measure a view off screen if none match.
+            // This can be null if the RecyclerView hasn't been laid out yet.
             // In that case we save the null so we know to try the lookup again next time.
             findViewData(preloader, epoxyModel, cacheKey)
+                ?: measureViewData(preloader, epoxyModel, cacheKey, recyclerView)
         } as? List<ViewData<U>> ?: return emptyList()
     }
 
@@ -74,7 +86,7 @@ internal class PreloadableViewDataProvider(
         // It is a bit tricky to get details on the view to be preloaded, since the view doesn't necessarily exist at the time of preload.
         // This approach looks at currently bound views and tries to get one who's cache key is the same as what we need.
         // This should mostly work, since RecyclerViews are generally the same type of views shown repeatedly.
-        // If a model is only shown sporadically we may never be able to get data about it with this approach, which we could address in the future.
+        // If a model is only shown sporadically there may not be a bound view to use, so measureViewData is used instead.
 
         val holderMatch = adapter.boundViewHoldersInternal().find {
             val boundModel = it.model
@@ -91,8 +103,71 @@ internal class PreloadableViewDataProvider(
 
         val rootView = holderMatch?.itemView ?: return null
 
-        val boundObject = holderMatch.objectToBindInternal() // Allows usage of view holder models
+        return viewDataFromView(preloader, epoxyModel, rootView, holderMatch.objectToBindInternal())
+    }
+
+    /**
+     * Binds the model's data to a new view outside of the RecyclerView and measures and lays it out at the size it
+     * would have in the RecyclerView, to get view data for models that have no bound view with the same configuration.
+     */
+    private fun <T : EpoxyModel<*>, U : ViewMetadata?, P : PreloadRequestHolder> measureViewData(
+        preloader: EpoxyModelPreloader<T, U, P>,
+        epoxyModel: T,
+        cacheKey: CacheKey,
+        recyclerView: RecyclerView
+    ): List<ViewData<U>>? {
+        val layoutManager = recyclerView.layoutManager ?: return null
+        if (recyclerView.width == 0 || recyclerView.height == 0) {
+            // The size of the view depends on the size of the RecyclerView
+            return null
+        }
 
+        // Listeners on the model are not told about this bind, since the view is never shown
+        val holder = epoxyModel.createViewHolderInternal(recyclerView)
+        holder.bindForMeasurementInternal(epoxyModel)
+
+        val view = holder.itemView
+        val layoutParams = view.layoutParams ?: layoutManager.generateDefaultLayoutParams()
+        val margins = layoutParams as? ViewGroup.MarginLayoutParams
+        val horizontalMargins = (margins?.leftMargin ?: 0) + (margins?.rightMargin ?: 0)
+        val verticalMargins = (margins?.topMargin ?: 0) + (margins?.bottomMargin ?: 0)
+
+        // Items are given their share of the spans across the RecyclerView, and are not limited along the scrolling axis
+        val spanCount = if (adapter.isMultiSpan) adapter.spanCount else 1
+        val vertical = layoutManager.canScrollVertically()
+        val width = recyclerView.width - recyclerView.paddingLeft - recyclerView.paddingRight
+        val height = recyclerView.height - recyclerView.paddingTop - recyclerView.paddingBottom
+        val widthSpec = RecyclerView.LayoutManager.getChildMeasureSpec(
+            if (vertical) width * cacheKey.spanSize / spanCount else width,
+            View.MeasureSpec.EXACTLY,
+            horizontalMargins,
+            layoutParams.width,
+            !vertical
+        )
+        val heightSpec = RecyclerView.LayoutManager.getChildMeasureSpec(
+            if (vertical) height else height * cacheKey.spanSize / spanCount,
+            View.MeasureSpec.EXACTLY,
+            verticalMargins,
+            layoutParams.height,
+            vertical
+        )
+        view.measure(widthSpec, heightSpec)
+        view.layout(0, 0, view.measuredWidth, view.measuredHeight)
+
+        val viewData = viewDataFromView(preloader, epoxyModel, view, holder.objectToBindInternal())
+
+        // Release anything the bind started, such as image loads. The view is then dropped rather than recycled, since
+        // it was never tracked as bound.
+        holder.unbindForMeasurementInternal(epoxyModel)
+        return viewData
+    }
+
+    private fun <T : EpoxyModel<*>, U : ViewMetadata?, P : PreloadRequestHolder> viewDataFromView(
+        preloader: EpoxyModelPreloader<T, U, P>,
+        epoxyModel: T,
+        rootView: View,
+        boundObject: Any // Allows usage of view holder models
+    ): List<ViewData<U>> {
         val preloadableViews: List<View> = when {
             preloader.preloadableViewIds.isNotEmpty() -> rootView.findViews(
                 preloader.preloadableViewIds,
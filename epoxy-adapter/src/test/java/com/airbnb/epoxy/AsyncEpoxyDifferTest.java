@@ -0,0 +1,110 @@
+package com.airbnb.epoxy;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.airbnb.epoxy.AsyncEpoxyDiffer.ResultCallback;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.DiffUtil.ItemCallback;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class AsyncEpoxyDifferTest {
+
+  private final List<DiffResult> results = new ArrayList<>();
+  private final ResultCallback resultCallback = new ResultCallback() {
+    @Override
+    public void onResult(@NonNull DiffResult result) {
+      results.add(result);
+    }
+  };
+  /** Diffs run on the main looper so that the test controls when they run. */
+  private final Handler diffHandler = new Handler(Looper.getMainLooper());
+
+  @Test
+  public void queuedDiffIsDroppedWhenNewListSubmitted() {
+    AsyncEpoxyDiffer differ =
+        new AsyncEpoxyDiffer(diffHandler, resultCallback, new IdCallback());
+    differ.submitList(models(0, 10));
+
+    // Block the diff executor so both lists are queued before either is diffed
+    ShadowLooper.pauseMainLooper();
+    differ.submitList(models(5, 10));
+    List<TestModel> finalModels = models(10, 10);
+    differ.submitList(finalModels);
+    ShadowLooper.unPauseMainLooper();
+
+    // The initial insert and the last submitted list are the only results dispatched
+    assertEquals(2, results.size());
+    assertSame(finalModels, results.get(1).newModels);
+    assertEquals(finalModels, differ.getCurrentList());
+  }
+
+  @Test
+  public void runningDiffIsCanceledWhenNewListSubmitted() {
+    final List<TestModel> finalModels = models(0, 10);
+    final List<TestModel> canceledModels = models(1000, 200);
+    final int[] callsAfterSubmit = {0};
+
+    final AsyncEpoxyDiffer[] differ = new AsyncEpoxyDiffer[1];
+    differ[0] = new AsyncEpoxyDiffer(diffHandler, resultCallback, new IdCallback() {
+      boolean submitted;
+
+      @Override
+      public boolean areItemsTheSame(EpoxyModel<?> oldItem, EpoxyModel<?> newItem) {
+        if (canceledModels.contains(newItem)) {
+          if (submitted) {
+            callsAfterSubmit[0]++;
+          } else {
+            // Supersede the diff while it is running. The new diff is queued behind this one.
+            submitted = true;
+            differ[0].submitList(finalModels);
+          }
+        }
+        return super.areItemsTheSame(oldItem, newItem);
+      }
+    });
+    differ[0].submitList(models(0, 200));
+
+    differ[0].submitList(canceledModels);
+
+    // Diffing two lists with no shared items compares far more pairs than the check interval, so
+    // the diff only runs to completion if it isn't canceled
+    assertTrue(callsAfterSubmit[0] <= 256);
+    assertEquals(2, results.size());
+    assertSame(finalModels, results.get(1).newModels);
+    assertEquals(finalModels, differ[0].getCurrentList());
+  }
+
+  private static List<TestModel> models(int firstId, int count) {
+    List<TestModel> models = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      models.add(new TestModel(firstId + i));
+    }
+    return models;
+  }
+
+  private static class IdCallback extends ItemCallback<EpoxyModel<?>> {
+    @Override
+    public boolean areItemsTheSame(EpoxyModel<?> oldItem, EpoxyModel<?> newItem) {
+      return oldItem.id() == newItem.id();
+    }
+
+    @Override
+    public boolean areContentsTheSame(EpoxyModel<?> oldItem, EpoxyModel<?> newItem) {
+      return oldItem.equals(newItem);
+    }
+  }
+}
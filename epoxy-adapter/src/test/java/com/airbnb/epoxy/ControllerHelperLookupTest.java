@@ -0,0 +1,89 @@
+package com.airbnb.epoxy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Collections;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class ControllerHelperLookupTest {
+
+  public static class RegisteredController extends EpoxyController {
+    @Override
+    protected void buildModels() {
+
+    }
+  }
+
+  /** Not public, so a registry can't create its helper and it is found with reflection. */
+  static class NonPublicController extends RegisteredController {
+
+  }
+
+  static class RegisteredControllerHelper extends ControllerHelper<RegisteredController> {
+    @Override
+    public void resetAutoModels() {
+
+    }
+  }
+
+  /** Named the way the processor names helpers, so that reflection finds it. */
+  static class NonPublicController_EpoxyHelper extends ControllerHelper<NonPublicController> {
+    public NonPublicController_EpoxyHelper(NonPublicController controller) {
+
+    }
+
+    @Override
+    public void resetAutoModels() {
+
+    }
+  }
+
+  static class TestRegistry implements ControllerHelperRegistry {
+    @Nullable
+    @Override
+    public ControllerHelper<?> createHelper(@NonNull Class<?> controllerClass,
+        @NonNull EpoxyController controller) {
+      if (controllerClass == RegisteredController.class) {
+        return new RegisteredControllerHelper();
+      }
+      return null;
+    }
+  }
+
+  @Before
+  public void setUp() {
+    ControllerHelperLookup.setRegistriesForTesting(
+        Collections.<ControllerHelperRegistry>singletonList(new TestRegistry()));
+  }
+
+  @After
+  public void tearDown() {
+    ControllerHelperLookup.setRegistriesForTesting(
+        Collections.<ControllerHelperRegistry>emptyList());
+  }
+
+  @Test
+  public void registeredControllerUsesRegistry() {
+    ControllerHelper helper =
+        ControllerHelperLookup.getHelperForController(new RegisteredController());
+
+    assertTrue(helper instanceof RegisteredControllerHelper);
+  }
+
+  @Test
+  public void nonPublicSubclassOfRegisteredControllerUsesOwnHelper() {
+    ControllerHelper helper =
+        ControllerHelperLookup.getHelperForController(new NonPublicController());
+
+    assertTrue(helper instanceof NonPublicController_EpoxyHelper);
+  }
+}
@@ -0,0 +1,52 @@
+package com.airbnb.epoxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+public class ControllerModelListTest {
+
+  private final ControllerModelList modelList = new ControllerModelList(10);
+
+  @Test
+  public void testFirstPositionOf() {
+    TestModel model = new TestModel();
+    modelList.add(new TestModel());
+    assertEquals(-1, modelList.firstPositionOf(model));
+
+    modelList.add(model);
+    modelList.add(model);
+    assertEquals(1, modelList.firstPositionOf(model));
+  }
+
+  @Test
+  public void testIsAddedMultipleTimes() {
+    TestModel model = new TestModel();
+    modelList.add(model);
+    assertFalse(modelList.isAddedMultipleTimes(model));
+
+    modelList.addAll(Arrays.asList(new TestModel(), model));
+    assertTrue(modelList.isAddedMultipleTimes(model));
+  }
+
+  @Test
+  public void testIndexIsUpdatedAfterOtherChanges() {
+    TestModel model = new TestModel();
+    modelList.add(new TestModel());
+    modelList.add(model);
+    assertEquals(1, modelList.firstPositionOf(model));
+
+    modelList.remove(0);
+    assertEquals(0, modelList.firstPositionOf(model));
+
+    modelList.set(0, new TestModel());
+    assertEquals(-1, modelList.firstPositionOf(model));
+  }
+}
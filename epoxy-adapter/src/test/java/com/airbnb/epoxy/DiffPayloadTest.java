@@ -9,10 +9,12 @@ import org.robolectric.annotation.Config;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
 
+import static com.airbnb.epoxy.DiffPayload.getChangedAttributesPayload;
 import static com.airbnb.epoxy.DiffPayload.getModelFromPayload;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNull;
@@ -227,6 +229,48 @@ public class DiffPayloadTest {
     assertEquals(model2Payload2, model2FromPayload2);
   }
 
+  @Test
+  public void getChangedAttributesFromPayload() {
+    TestModel previousModel = new TestModel(1);
+    TestModel newModel = new TestModel(1);
+    BitSet changedAttributes = new BitSet();
+    DiffPayload diffPayload = new DiffPayload(previousModel, newModel, changedAttributes, -1L);
+
+    List<Object> payloads = payloadsWithDiffPayloads(diffPayload);
+
+    assertEquals(previousModel, getModelFromPayload(payloads, 1));
+    DiffPayload changes = getChangedAttributesPayload(payloads, newModel);
+    assertEquals(changedAttributes, changes.getChangedAttributes());
+    assertNull(getChangedAttributesPayload(payloads, new TestModel(1)));
+  }
+
+  @Test
+  public void getChangedAttributeMaskFromPayload() {
+    TestModel previousModel = new TestModel(1);
+    TestModel newModel = new TestModel(1);
+    DiffPayload diffPayload = new DiffPayload(previousModel, newModel, null, 0b101L);
+
+    DiffPayload changes = getChangedAttributesPayload(payloadsWithDiffPayloads(diffPayload),
+        newModel);
+
+    assertNull(changes.getChangedAttributes());
+    assertEquals(0b101L, changes.getChangedAttributeMask());
+  }
+
+  @Test
+  public void noChangedAttributesForMultipleDiffPayloads() {
+    TestModel firstModel = new TestModel(1);
+    TestModel secondModel = new TestModel(1);
+    TestModel thirdModel = new TestModel(1);
+    DiffPayload diffPayload1 = new DiffPayload(firstModel, secondModel, null, 0);
+    DiffPayload diffPayload2 = new DiffPayload(secondModel, thirdModel, null, 0);
+
+    // The attributes of the second diff were compared against a model that was never bound
+    List<Object> payloads = payloadsWithDiffPayloads(diffPayload1, diffPayload2);
+
+    assertNull(getChangedAttributesPayload(payloads, thirdModel));
+  }
+
   static class DiffPayloadMatcher implements ArgumentMatcher<DiffPayload> {
 
     private final DiffPayload expectedPayload;
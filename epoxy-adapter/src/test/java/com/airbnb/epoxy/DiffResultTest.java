@@ -0,0 +1,115 @@
+package com.airbnb.epoxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.ListUpdateCallback;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(RobolectricTestRunner.class)
+public class DiffResultTest {
+
+  private final List<TestModel> previousModels = new ArrayList<>();
+  private final List<TestModel> newModels = new ArrayList<>();
+
+  private void setUpModels() {
+    for (int i = 0; i < 8; i++) {
+      previousModels.add(new TestModel(i));
+    }
+
+    newModels.addAll(previousModels);
+    newModels.remove(1);
+    newModels.set(2, new TestModel(3).incrementValue());
+    newModels.add(4, new TestModel(100));
+    newModels.add(newModels.remove(6));
+  }
+
+  @Test
+  public void precomputedUpdatesMatchDifferResult() {
+    setUpModels();
+    DiffResult result = DiffResult.diff(previousModels, newModels, diff(0));
+
+    List<String> expected = record(result);
+    result.precomputeUpdates();
+
+    assertFalse(expected.isEmpty());
+    assertEquals(expected, record(result));
+  }
+
+  @Test
+  public void precomputedUpdatesIncludeWindowOffset() {
+    setUpModels();
+    DiffResult result = DiffResult.partialDiff(previousModels, newModels, diff(1), 1);
+
+    List<String> expected = record(result);
+    result.precomputeUpdates();
+
+    assertEquals(expected, record(result));
+  }
+
+  private DiffUtil.DiffResult diff(final int windowStart) {
+    return DiffUtil.calculateDiff(new DiffUtil.Callback() {
+      @Override
+      public int getOldListSize() {
+        return previousModels.size() - windowStart;
+      }
+
+      @Override
+      public int getNewListSize() {
+        return newModels.size() - windowStart;
+      }
+
+      @Override
+      public boolean areItemsTheSame(int oldItemPosition, int newItemPosition) {
+        return previousModels.get(oldItemPosition + windowStart).id()
+            == newModels.get(newItemPosition + windowStart).id();
+      }
+
+      @Override
+      public boolean areContentsTheSame(int oldItemPosition, int newItemPosition) {
+        return previousModels.get(oldItemPosition + windowStart)
+            .equals(newModels.get(newItemPosition + windowStart));
+      }
+
+      @Nullable
+      @Override
+      public Object getChangePayload(int oldItemPosition, int newItemPosition) {
+        return newModels.get(newItemPosition + windowStart);
+      }
+    });
+  }
+
+  private static List<String> record(DiffResult result) {
+    final List<String> ops = new ArrayList<>();
+    result.dispatchTo(new ListUpdateCallback() {
+      @Override
+      public void onInserted(int position, int count) {
+        ops.add("insert " + position + " " + count);
+      }
+
+      @Override
+      public void onRemoved(int position, int count) {
+        ops.add("remove " + position + " " + count);
+      }
+
+      @Override
+      public void onMoved(int fromPosition, int toPosition) {
+        ops.add("move " + fromPosition + " " + toPosition);
+      }
+
+      @Override
+      public void onChanged(int position, int count, @Nullable Object payload) {
+        ops.add("change " + position + " " + count + " " + payload);
+      }
+    });
+    return ops;
+  }
+}
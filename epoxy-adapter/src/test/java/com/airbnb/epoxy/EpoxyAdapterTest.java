@@ -49,6 +49,33 @@ public class EpoxyAdapterTest {
     checkDifferState();
   }
 
+  @Test
+  public void testModelPositionById() {
+    TestModel firstModel = new TestModel();
+    TestModel secondModel = new TestModel();
+    testAdapter.addModels(firstModel, secondModel);
+    assertEquals(1, testAdapter.getModelPositionById(secondModel.id()));
+
+    testAdapter.removeModel(firstModel);
+    assertEquals(-1, testAdapter.getModelPositionById(firstModel.id()));
+    assertEquals(0, testAdapter.getModelPositionById(secondModel.id()));
+
+    testAdapter.models.set(0, firstModel);
+    assertEquals(0, testAdapter.getModelPositionById(firstModel.id()));
+    assertEquals(-1, testAdapter.getModelPositionById(secondModel.id()));
+  }
+
+  @Test
+  public void testModelPositionWithDuplicateIds() {
+    TestModel firstModel = new TestModel(1);
+    TestModel secondModel = new TestModel(1);
+    testAdapter.addModels(firstModel, secondModel);
+
+    assertEquals(0, testAdapter.getModelPosition(firstModel));
+    assertEquals(1, testAdapter.getModelPosition(secondModel));
+    assertEquals(-1, testAdapter.getModelPosition(new TestModel(1)));
+  }
+
   @Test
   public void testAddModels() {
     List<TestModel> list = new ArrayList<>();
@@ -1,21 +1,35 @@
 package com.airbnb.epoxy;
 
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.view.View;
+
 import com.airbnb.epoxy.EpoxyController.Interceptor;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
+import org.robolectric.Shadows;
 import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import androidx.recyclerview.widget.RecyclerView.AdapterDataObserver;
 
 import static junit.framework.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -120,6 +134,39 @@ public class EpoxyControllerTest {
     assertTrue(exceptionSwallowed);
   }
 
+  @Test
+  public void duplicatePositionsReportedWhenFiltered() {
+    final List<String> messages = new ArrayList<>();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        long[] ids = {1, 2, 1, 3, 2};
+        for (long id : ids) {
+          new TestModel()
+              .id(id)
+              .addTo(this);
+        }
+      }
+
+      @Override
+      protected void onExceptionSwallowed(RuntimeException exception) {
+        messages.add(exception.getMessage());
+      }
+    };
+
+    controller.setFilterDuplicates(true);
+    controller.requestModelBuild();
+
+    assertEquals(3, controller.getAdapter().getItemCount());
+    assertEquals(2, messages.size());
+    // Positions are in the list with the previous duplicates already removed
+    assertTrue(messages.get(0).contains("Original has position 0"));
+    assertTrue(messages.get(0).contains("Duplicate has position 2"));
+    assertTrue(messages.get(1).contains("Original has position 1"));
+    assertTrue(messages.get(1).contains("Duplicate has position 3"));
+  }
+
   boolean interceptorCalled;
 
   @Test
@@ -348,6 +395,273 @@ public class EpoxyControllerTest {
     assertEquals(testModels, adapter.getCurrentModels());
   }
 
+  @Test
+  public void partialDiffingOffsetsChanges() {
+    AdapterDataObserver observer = mock(AdapterDataObserver.class);
+    final List<TestModel> testModels = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      testModels.add(new TestModel(i));
+    }
+
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        add(testModels);
+      }
+    };
+
+    controller.setPartialDiffingEnabled(true);
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+    adapter.registerAdapterDataObserver(observer);
+    controller.requestModelBuild();
+    verify(observer).onItemRangeInserted(0, 6);
+
+    testModels.set(2, testModels.get(2).clone().incrementValue());
+    controller.requestModelBuild();
+    verify(observer).onItemRangeChanged(eq(2), eq(1), any());
+
+    testModels.add(4, new TestModel(10));
+    controller.requestModelBuild();
+    verify(observer).onItemRangeInserted(4, 1);
+
+    testModels.remove(1);
+    controller.requestModelBuild();
+    verify(observer).onItemRangeRemoved(1, 1);
+
+    assertEquals(testModels, adapter.getCurrentModels());
+    verifyNoMoreInteractions(observer);
+  }
+
+  @Test
+  public void sectionIsReusedWhileKeyIsEqual() {
+    final int[] sectionBuildCount = {0};
+    final String[] sectionKey = {"key"};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        new TestModel(1)
+            .addTo(this);
+
+        addSection("section", sectionKey[0], new SectionBuilder() {
+          @Override
+          public void buildSection() {
+            sectionBuildCount[0]++;
+            add(new TestModel(2));
+            add(new TestModel(3));
+          }
+        });
+      }
+    };
+
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+    controller.requestModelBuild();
+    assertEquals(1, sectionBuildCount[0]);
+    assertEquals(3, adapter.getItemCount());
+    EpoxyModel<?> sectionModel = adapter.getModelAtPosition(1);
+
+    controller.requestModelBuild();
+    assertEquals(1, sectionBuildCount[0]);
+    assertEquals(3, adapter.getItemCount());
+    assertTrue(sectionModel == adapter.getModelAtPosition(1));
+
+    sectionKey[0] = "new key";
+    controller.requestModelBuild();
+    assertEquals(2, sectionBuildCount[0]);
+    assertEquals(3, adapter.getItemCount());
+    assertFalse(sectionModel == adapter.getModelAtPosition(1));
+  }
+
+  @Test
+  public void modelsAroundReusedSectionAreDiffed() {
+    AdapterDataObserver observer = mock(AdapterDataObserver.class);
+    final int[] value = {0};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        add(new TestModel(1).value(value[0]));
+        if (value[0] > 0) {
+          add(new TestModel(2));
+        }
+
+        addSection("section", "key", new SectionBuilder() {
+          @Override
+          public void buildSection() {
+            add(new TestModel(3));
+            add(new TestModel(4));
+          }
+        });
+
+        add(new TestModel(5).value(value[0]));
+      }
+    };
+
+    controller.requestModelBuild();
+    controller.getAdapter().registerAdapterDataObserver(observer);
+
+    value[0]++;
+    controller.requestModelBuild();
+
+    assertEquals(5, controller.getAdapter().getItemCount());
+    verify(observer).onItemRangeInserted(1, 1);
+    verify(observer).onItemRangeChanged(eq(0), eq(1), any());
+    verify(observer).onItemRangeChanged(eq(3), eq(1), any());
+    verifyNoMoreInteractions(observer);
+  }
+
+  @Test
+  public void modelMovedAcrossReusedSection() {
+    final boolean[] moved = {false};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        if (!moved[0]) {
+          add(new TestModel(1));
+        }
+
+        addSection("section", "key", new SectionBuilder() {
+          @Override
+          public void buildSection() {
+            add(new TestModel(2));
+            add(new TestModel(3));
+          }
+        });
+
+        if (moved[0]) {
+          add(new TestModel(1));
+        }
+        add(new TestModel(4));
+      }
+    };
+
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+    controller.requestModelBuild();
+    EpoxyModel<?> sectionModel = adapter.getModelAtPosition(1);
+
+    moved[0] = true;
+    controller.requestModelBuild();
+
+    assertEquals(4, adapter.getItemCount());
+    assertEquals(2, adapter.getModelAtPosition(0).id());
+    assertEquals(3, adapter.getModelAtPosition(1).id());
+    assertEquals(1, adapter.getModelAtPosition(2).id());
+    assertEquals(4, adapter.getModelAtPosition(3).id());
+    assertSame(sectionModel, adapter.getModelAtPosition(0));
+  }
+
+  @Test(expected = IllegalEpoxyUsage.class)
+  public void sectionIdsMustBeUnique() {
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        SectionBuilder builder = new SectionBuilder() {
+          @Override
+          public void buildSection() {
+            add(new TestModel());
+          }
+        };
+
+        addSection("section", "key", builder);
+        addSection("section", "key", builder);
+      }
+    };
+
+    controller.requestModelBuild();
+  }
+
+  @Test
+  public void parallelSectionsAreAddedInOrder() {
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        new TestModel(0)
+            .addTo(this);
+
+        List<ParallelSectionBuilder> sections = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+          final int sectionNumber = i;
+          sections.add(new ParallelSectionBuilder() {
+            @Override
+            public List<? extends EpoxyModel<?>> buildSection() {
+              List<TestModel> models = new ArrayList<>();
+              models.add(new TestModel(sectionNumber * 10));
+              models.add(new TestModel(sectionNumber * 10 + 1));
+              return models;
+            }
+          });
+        }
+
+        addSectionsInParallel(sections);
+      }
+    };
+
+    controller.requestModelBuild();
+
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+    assertEquals(9, adapter.getItemCount());
+    assertEquals(0, adapter.getModelAtPosition(0).id());
+    for (int i = 1; i <= 4; i++) {
+      assertEquals(i * 10, adapter.getModelAtPosition(i * 2 - 1).id());
+      assertEquals(i * 10 + 1, adapter.getModelAtPosition(i * 2).id());
+    }
+  }
+
+  @Test
+  public void remainingParallelSectionsAreCanceledWhenASectionThrows() {
+    final List<Runnable> queuedSections = new ArrayList<>();
+    final int[] sectionsBuilt = {0};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        List<ParallelSectionBuilder> sections = new ArrayList<>();
+        sections.add(new ParallelSectionBuilder() {
+          @Override
+          public List<? extends EpoxyModel<?>> buildSection() {
+            throw new IllegalStateException("Section failed");
+          }
+        });
+        for (int i = 0; i < 2; i++) {
+          sections.add(new ParallelSectionBuilder() {
+            @Override
+            public List<? extends EpoxyModel<?>> buildSection() {
+              sectionsBuilt[0]++;
+              return Collections.singletonList(new TestModel());
+            }
+          });
+        }
+
+        addSectionsInParallel(sections);
+      }
+    };
+    // Hold the other sections so they haven't started when the first section throws
+    controller.setParallelSectionExecutor(new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        queuedSections.add(command);
+      }
+    });
+
+    try {
+      controller.requestModelBuild();
+      fail("The section exception should be rethrown");
+    } catch (IllegalStateException e) {
+      assertEquals("Section failed", e.getMessage());
+    }
+
+    assertEquals(2, queuedSections.size());
+    for (Runnable section : queuedSections) {
+      assertTrue(((Future<?>) section).isCancelled());
+      section.run();
+    }
+    assertEquals(0, sectionsBuilt[0]);
+  }
+
   @Test
   public void testDuplicateFilteringDisabledByDefault() {
     EpoxyController controller = new EpoxyController() {
@@ -405,6 +719,172 @@ public class EpoxyControllerTest {
   }
 
   @Test
+  public void testFrameAlignedModelBuildingCanBeToggled() {
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+
+      }
+    };
+
+    assertFalse(controller.isFrameAlignedModelBuildingEnabled());
+
+    controller.setFrameAlignedModelBuildingEnabled(true);
+    assertTrue(controller.isFrameAlignedModelBuildingEnabled());
+
+    controller.setFrameAlignedModelBuildingEnabled(false);
+    assertFalse(controller.isFrameAlignedModelBuildingEnabled());
+  }
+
+  @Test
+  public void testGlobalFrameAlignedModelBuildingDefault() {
+    EpoxyController.setGlobalFrameAlignedModelBuildingDefault(true);
+
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+
+      }
+    };
+
+    assertTrue(controller.isFrameAlignedModelBuildingEnabled());
+
+    controller.setFrameAlignedModelBuildingEnabled(false);
+    assertFalse(controller.isFrameAlignedModelBuildingEnabled());
+
+    // Reset static field for future tests
+    EpoxyController.setGlobalFrameAlignedModelBuildingDefault(false);
+  }
+
+  @Test
+  public void frameAlignedRequestsInOneFrameBuildModelsOnce() {
+    final int[] buildCount = {0};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        buildCount[0]++;
+        new TestModel(buildCount[0]).addTo(this);
+      }
+    };
+    controller.setFrameAlignedModelBuildingEnabled(true);
+    controller.requestModelBuild();
+    assertEquals(1, buildCount[0]);
+
+    // Requests made before the frame arrives are combined into one build
+    ShadowLooper.pauseMainLooper();
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+    assertEquals(1, buildCount[0]);
+
+    ShadowLooper.unPauseMainLooper();
+    assertEquals(2, buildCount[0]);
+  }
+
+  @Test
+  public void frameAlignedModelBuildWaitsForDiffInProgress() {
+    HandlerThread diffThread = new HandlerThread("diff");
+    diffThread.start();
+    ShadowLooper diffLooper = Shadows.shadowOf(diffThread.getLooper());
+
+    final int[] buildCount = {0};
+    EpoxyController controller = new EpoxyController(new Handler(Looper.getMainLooper()),
+        new Handler(diffThread.getLooper())) {
+
+      @Override
+      protected void buildModels() {
+        buildCount[0]++;
+        new TestModel(buildCount[0]).addTo(this);
+      }
+    };
+    controller.setFrameAlignedModelBuildingEnabled(true);
+    controller.requestModelBuild();
+
+    // Block the diff of the second build so it stays in progress
+    diffLooper.pause();
+    controller.requestModelBuild();
+    assertEquals(2, buildCount[0]);
+    assertTrue(controller.getAdapter().isDiffInProgress());
+
+    controller.requestModelBuild();
+    assertEquals(2, buildCount[0]);
+    assertTrue(controller.hasPendingModelBuild());
+
+    // The waiting build runs once the diff finishes
+    diffLooper.unPause();
+    assertEquals(3, buildCount[0]);
+    assertEquals(3, controller.getAdapter().getModelAtPosition(0).id());
+
+    diffThread.quit();
+  }
+
+  @Test
+  public void testIncrementalChangeDispatchCanBeToggled() {
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+
+      }
+    };
+
+    assertFalse(controller.isIncrementalChangeDispatchEnabled());
+
+    controller.setIncrementalChangeDispatchEnabled(true);
+    assertTrue(controller.isIncrementalChangeDispatchEnabled());
+
+    controller.setIncrementalChangeDispatchEnabled(false);
+    assertFalse(controller.isIncrementalChangeDispatchEnabled());
+  }
+
+  @Test
+  public void testGlobalIncrementalChangeDispatchDefault() {
+    EpoxyController.setGlobalIncrementalChangeDispatchDefault(true);
+
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+
+      }
+    };
+
+    assertTrue(controller.isIncrementalChangeDispatchEnabled());
+
+    controller.setIncrementalChangeDispatchEnabled(false);
+    assertFalse(controller.isIncrementalChangeDispatchEnabled());
+
+    // Reset static field for future tests
+    EpoxyController.setGlobalIncrementalChangeDispatchDefault(false);
+  }
+
+  @Test
+  public void incrementalChangeDispatchDoesNotDelayChangesToUnboundItems() {
+    AdapterDataObserver observer = mock(AdapterDataObserver.class);
+    final int[] value = {0};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        add(new TestModel(1).value(value[0]));
+        add(new TestModel(2).value(value[0]));
+      }
+    };
+    controller.setIncrementalChangeDispatchEnabled(true);
+    controller.requestModelBuild();
+
+    controller.getAdapter().registerAdapterDataObserver(observer);
+    value[0]++;
+    controller.requestModelBuild();
+
+    verify(observer).onItemRangeChanged(eq(0), eq(1), any());
+    verify(observer).onItemRangeChanged(eq(1), eq(1), any());
+  }
+
+    @Test
   public void testDebugLoggingCanBeToggled() {
     EpoxyController controller = new EpoxyController() {
 
@@ -502,4 +982,187 @@ public class EpoxyControllerTest {
     // Model build should happen synchronously in tests
     assertFalse(controller.hasPendingModelBuild());
   }
+
+  @Test
+  public void hashCodeIsCachedOnceModelsAreFrozen() {
+    final HashCountingModel model = new HashCountingModel();
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        model.addTo(this);
+      }
+    };
+
+    model.hashCode();
+    model.hashCode();
+    assertEquals(2, model.hashCodeComputations);
+
+    controller.requestModelBuild();
+    model.hashCode();
+    int computations = model.hashCodeComputations;
+    model.hashCode();
+    assertEquals(computations, model.hashCodeComputations);
+
+    model.layout(1);
+    model.hashCode();
+    assertEquals(computations + 1, model.hashCodeComputations);
+  }
+
+  @Test
+  public void removedModelsAreReusedOncePooled() {
+    final PooledModel model = new PooledModel();
+    final List<EpoxyModel<?>> obtainedModels = new ArrayList<>();
+    final boolean[] addModel = {true};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        if (addModel[0]) {
+          model.addTo(this);
+        } else {
+          obtainedModels.add(getPooledModel(PooledModel.class));
+        }
+      }
+    };
+    controller.setModelPoolingEnabled(true);
+
+    controller.requestModelBuild();
+    long originalId = model.id();
+    model.layout(1);
+    addModel[0] = false;
+    // The first build removes the model from the adapter, which releases it to the pool
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+
+    assertNull(obtainedModels.get(0));
+    assertSame(model, obtainedModels.get(1));
+    assertTrue(originalId != model.id());
+    assertEquals(0, model.getLayout());
+  }
+
+  @Test
+  public void boundModelsAreNotPooled() {
+    final PooledModel model = new PooledModel();
+    final List<EpoxyModel<?>> obtainedModels = new ArrayList<>();
+    final boolean[] addModel = {true};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        if (addModel[0]) {
+          model.addTo(this);
+        } else {
+          obtainedModels.add(getPooledModel(PooledModel.class));
+        }
+      }
+    };
+    controller.setModelPoolingEnabled(true);
+
+    controller.requestModelBuild();
+    model.boundViewHolderCount = 1;
+    addModel[0] = false;
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+
+    // The model is released once a later result finds it unbound
+    model.boundViewHolderCount = 0;
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+
+    assertNull(obtainedModels.get(0));
+    assertNull(obtainedModels.get(1));
+    assertNull(obtainedModels.get(2));
+    assertSame(model, obtainedModels.get(3));
+  }
+
+  @Test
+  public void modelsBeingPreinflatedAreNotPooled() {
+    final PooledModel model = new PooledModel();
+    final List<EpoxyModel<?>> obtainedModels = new ArrayList<>();
+    final boolean[] addModel = {true};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        if (addModel[0]) {
+          model.addTo(this);
+        } else {
+          obtainedModels.add(getPooledModel(PooledModel.class));
+        }
+      }
+    };
+    controller.setModelPoolingEnabled(true);
+
+    controller.requestModelBuild();
+    model.viewsBeingPreinflatedCount = 1;
+    addModel[0] = false;
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+
+    // The model is released once a later result finds its views are built
+    model.viewsBeingPreinflatedCount = 0;
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+
+    assertNull(obtainedModels.get(0));
+    assertNull(obtainedModels.get(1));
+    assertNull(obtainedModels.get(2));
+    assertSame(model, obtainedModels.get(3));
+  }
+
+  @Test
+  public void modelsAreNotPooledByDefault() {
+    final PooledModel model = new PooledModel();
+    final List<EpoxyModel<?>> obtainedModels = new ArrayList<>();
+    final boolean[] addModel = {true};
+    EpoxyController controller = new EpoxyController() {
+
+      @Override
+      protected void buildModels() {
+        if (addModel[0]) {
+          model.addTo(this);
+        } else {
+          obtainedModels.add(getPooledModel(PooledModel.class));
+        }
+      }
+    };
+
+    assertFalse(controller.isModelPoolingEnabled());
+    controller.requestModelBuild();
+    addModel[0] = false;
+    controller.requestModelBuild();
+    controller.requestModelBuild();
+
+    assertNull(obtainedModels.get(1));
+  }
+
+  /** Only generated models are pooled. */
+  private static class PooledModel extends TestModel implements GeneratedModel<View> {
+
+    @Override
+    public void handlePreBind(EpoxyViewHolder holder, View objectToBind, int position) {
+
+    }
+
+    @Override
+    public void handlePostBind(View objectToBind, int position) {
+
+    }
+  }
+
+  /** Memoizes its hashCode the same way that generated models do. */
+  private static class HashCountingModel extends TestModel {
+    int hashCodeComputations;
+
+    @Override
+    public int hashCode() {
+      int result = getCachedHashCode();
+      if (result != 0) {
+        return result;
+      }
+      hashCodeComputations++;
+      return cacheHashCode(super.hashCode());
+    }
+  }
 }
@@ -23,6 +23,7 @@ import org.robolectric.Robolectric
 import org.robolectric.RobolectricTestRunner
 import org.robolectric.annotation.Config
 import org.robolectric.shadows.ShadowLog
+import org.robolectric.shadows.ShadowLooper
 
 /**
  * This class test the EpoxyVisibilityTracker by using a RecyclerView that scroll vertically. The
@@ -635,6 +636,56 @@ class EpoxyVisibilityTrackerTest {
         }
     }
 
+    /**
+     * Test that with frame batching enabled, several scrolls in one frame are processed in a single
+     * visibility pass that ends with the same events as processing each scroll right away.
+     */
+    @Test
+    fun testFrameBatchingScrollsInOneFrame() {
+        val unbatchedHelper = scrollThreeTimesInOneFrame()
+
+        epoxyVisibilityTracker.detach(recyclerView)
+        setup()
+        epoxyVisibilityTracker.setFrameBatchingEnabled(true)
+        val batchedHelper = scrollThreeTimesInOneFrame()
+
+        // The first and third items change size with every scroll. Their changes are sent once per
+        // scroll, or once for the frame when batching
+        for (index in intArrayOf(0, 2)) {
+            Assert.assertEquals(3, unbatchedHelper[index].visibilityChangedCount)
+            Assert.assertEquals(1, batchedHelper[index].visibilityChangedCount)
+        }
+
+        batchedHelper.forEachIndexed { index, helper ->
+            with(unbatchedHelper[index]) {
+                helper.assert(
+                    visibleHeight = visibleHeight,
+                    percentVisibleHeight = percentVisibleHeight,
+                    visible = visible,
+                    fullImpression = fullImpression,
+                    visitedStates = visitedStates.toIntArray()
+                )
+            }
+
+            log("$index valid")
+        }
+    }
+
+    /**
+     * Scroll three quarters of an item while the main looper is paused, so that all of the scroll
+     * events are received before the next frame.
+     */
+    private fun scrollThreeTimesInOneFrame(): List<AssertHelper> {
+        val testHelper = buildTestData(10, TWO_AND_HALF_VISIBLE)
+        testHelper.forEach { it.visibilityChangedCount = 0 }
+
+        ShadowLooper.pauseMainLooper()
+        repeat(3) { recyclerView.scrollBy(0, itemHeight / 4) }
+        ShadowLooper.unPauseMainLooper()
+
+        return testHelper
+    }
+
     /**
      * Attach an EpoxyController on the RecyclerView
      */
@@ -739,6 +790,7 @@ class EpoxyVisibilityTrackerTest {
             helper.percentVisibleWidth = pw
             helper.visibleHeight = vh
             helper.visibleWidth = vw
+            helper.visibilityChangedCount++
             if (ph.toInt() != 100) helper.fullImpression = false
         }
 
@@ -768,6 +820,7 @@ class EpoxyVisibilityTrackerTest {
         var visible = false
         var focused = false
         var fullImpression = false
+        var visibilityChangedCount = 0
 
         fun assert(
             id: Int? = null,
@@ -0,0 +1,82 @@
+package com.airbnb.epoxy;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class LongIntMapTest {
+
+  private static final int ABSENT = -1;
+  private final LongIntMap map = new LongIntMap();
+
+  @Test
+  public void putAndGet() {
+    assertEquals(ABSENT, map.put(1, 10, ABSENT));
+    assertEquals(ABSENT, map.put(Long.MAX_VALUE, 20, ABSENT));
+
+    assertEquals(10, map.get(1, ABSENT));
+    assertEquals(20, map.get(Long.MAX_VALUE, ABSENT));
+    assertEquals(ABSENT, map.get(2, ABSENT));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  public void putReplacesExistingValue() {
+    map.put(1, 10, ABSENT);
+
+    assertEquals(10, map.put(1, 11, ABSENT));
+    assertEquals(11, map.get(1, ABSENT));
+    assertEquals(1, map.size());
+  }
+
+  @Test
+  public void remove() {
+    map.put(1, 10, ABSENT);
+
+    assertEquals(10, map.remove(1, ABSENT));
+    assertEquals(ABSENT, map.remove(1, ABSENT));
+    assertEquals(ABSENT, map.get(1, ABSENT));
+    assertEquals(0, map.size());
+  }
+
+  @Test
+  public void clear() {
+    for (int i = 0; i < 100; i++) {
+      map.put(i, i, ABSENT);
+    }
+
+    map.clear();
+
+    assertEquals(0, map.size());
+    assertEquals(ABSENT, map.get(5, ABSENT));
+  }
+
+  @Test
+  public void matchesHashMapWithCollidingKeys() {
+    // Keys that only differ in their upper bits exercise probing and removal of collided entries
+    Map<Long, Integer> expected = new HashMap<>();
+    Random random = new Random(10);
+
+    for (int i = 0; i < 10000; i++) {
+      long key = ((long) random.nextInt(200)) << 32;
+
+      if (random.nextBoolean()) {
+        Integer previous = expected.put(key, i);
+        assertEquals(previous == null ? ABSENT : previous, map.put(key, i, ABSENT));
+      } else {
+        Integer previous = expected.remove(key);
+        assertEquals(previous == null ? ABSENT : previous, map.remove(key, ABSENT));
+      }
+
+      assertEquals(expected.size(), map.size());
+    }
+
+    for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+      assertEquals((int) entry.getValue(), map.get(entry.getKey(), ABSENT));
+    }
+  }
+}
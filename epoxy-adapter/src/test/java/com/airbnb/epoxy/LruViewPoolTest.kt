@@ -0,0 +1,121 @@
+package com.airbnb.epoxy
+
+import android.content.ComponentCallbacks2
+import android.view.View
+import android.view.ViewGroup
+import android.widget.FrameLayout
+import androidx.test.core.app.ApplicationProvider
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotNull
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+@Config(sdk = [21])
+@RunWith(RobolectricTestRunner::class)
+class LruViewPoolTest {
+
+    private class ModelWithView : EpoxyModelWithView<View>() {
+        override fun buildView(parent: ViewGroup): View = View(parent.context)
+    }
+
+    private val parent = FrameLayout(ApplicationProvider.getApplicationContext())
+    private val helperAdapter = HelperAdapter()
+
+    private fun viewHolder(viewType: Int): EpoxyViewHolder =
+        helperAdapter.createViewHolder(ModelWithView(), parent, viewType)
+
+    @Test
+    fun leastRecentlyUsedViewTypesAreEvictedFirst() {
+        val pool = LruViewPool(maxCost = 3)
+
+        pool.putRecycledView(viewHolder(1))
+        pool.putRecycledView(viewHolder(1))
+        pool.putRecycledView(viewHolder(2))
+        pool.putRecycledView(viewHolder(3))
+
+        assertEquals(1, pool.getRecycledViewCount(1))
+        assertEquals(1, pool.getRecycledViewCount(2))
+        assertEquals(1, pool.getRecycledViewCount(3))
+
+        // Taking a view marks its type as used, so type 2 is now the least recently used
+        assertNotNull(pool.getRecycledView(1))
+        pool.putRecycledView(viewHolder(1))
+        pool.putRecycledView(viewHolder(3))
+
+        assertEquals(1, pool.getRecycledViewCount(1))
+        assertEquals(0, pool.getRecycledViewCount(2))
+        assertEquals(2, pool.getRecycledViewCount(3))
+    }
+
+    @Test
+    fun viewsAreWeighedByCost() {
+        val pool = LruViewPool(maxCost = 4) { it.itemViewType }
+
+        pool.putRecycledView(viewHolder(2))
+        pool.putRecycledView(viewHolder(2))
+        pool.putRecycledView(viewHolder(1))
+
+        assertEquals(1, pool.getRecycledViewCount(2))
+        assertEquals(1, pool.getRecycledViewCount(1))
+    }
+
+    @Test
+    fun maxRecycledViewsPerType() {
+        val pool = LruViewPool()
+        pool.setMaxRecycledViews(1, 1)
+
+        pool.putRecycledView(viewHolder(1))
+        pool.putRecycledView(viewHolder(1))
+
+        assertEquals(1, pool.getRecycledViewCount(1))
+    }
+
+    @Test
+    fun rejectedViewDoesNotMarkTypeAsUsed() {
+        val pool = LruViewPool(maxCost = 2)
+        pool.setMaxRecycledViews(1, 1)
+
+        pool.putRecycledView(viewHolder(1))
+        pool.putRecycledView(viewHolder(2))
+        // Type 1 is full, so this view is dropped and type 1 stays the least recently used
+        pool.putRecycledView(viewHolder(1))
+        pool.putRecycledView(viewHolder(3))
+
+        assertEquals(0, pool.getRecycledViewCount(1))
+        assertEquals(1, pool.getRecycledViewCount(2))
+        assertEquals(1, pool.getRecycledViewCount(3))
+    }
+
+    @Test
+    fun trimsOnMemoryPressure() {
+        val pool = LruViewPool(maxCost = 4)
+        repeat(4) { pool.putRecycledView(viewHolder(it)) }
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+        assertEquals(0, pool.getRecycledViewCount(0))
+        assertEquals(0, pool.getRecycledViewCount(1))
+        assertEquals(1, pool.getRecycledViewCount(2))
+        assertEquals(1, pool.getRecycledViewCount(3))
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL)
+        assertEquals(0, pool.getRecycledViewCount(3))
+    }
+
+    @Test
+    fun uiHiddenHalvesPoolInsteadOfClearing() {
+        val pool = LruViewPool(maxCost = 4)
+        repeat(4) { pool.putRecycledView(viewHolder(it)) }
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+        assertEquals(0, pool.getRecycledViewCount(0))
+        assertEquals(0, pool.getRecycledViewCount(1))
+        assertEquals(1, pool.getRecycledViewCount(2))
+        assertEquals(1, pool.getRecycledViewCount(3))
+
+        pool.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND)
+        assertEquals(0, pool.getRecycledViewCount(2))
+        assertEquals(0, pool.getRecycledViewCount(3))
+    }
+}
@@ -0,0 +1,70 @@
+package com.airbnb.epoxy
+
+import android.view.View
+import android.view.ViewGroup
+import androidx.recyclerview.widget.RecyclerView
+import androidx.test.core.app.ApplicationProvider
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import org.robolectric.shadows.ShadowLooper
+import java.util.concurrent.Executor
+
+@Config(sdk = [21])
+@RunWith(RobolectricTestRunner::class)
+class ViewPreinflaterTest {
+
+    private class ModelWithView : EpoxyModelWithView<View>() {
+        override fun buildView(parent: ViewGroup): View = View(parent.context)
+    }
+
+    private class OtherModelWithView : EpoxyModelWithView<View>() {
+        override fun buildView(parent: ViewGroup): View = View(parent.context)
+    }
+
+    private val recyclerView = RecyclerView(ApplicationProvider.getApplicationContext())
+    private val preinflater = ViewPreinflater(recyclerView, 2, Executor { it.run() })
+
+    @Test
+    fun viewsAreAddedToPoolForEachViewType() {
+        val model = ModelWithView()
+        val otherModel = OtherModelWithView()
+
+        val models = listOf(model, ModelWithView(), otherModel)
+
+        preinflater.onModelBuildFinished(DiffResult.inserted(models))
+        ShadowLooper.idleMainLooper()
+
+        val viewPool = recyclerView.recycledViewPool
+        assertEquals(2, viewPool.getRecycledViewCount(ViewTypeManager.getViewType(model)))
+        assertEquals(2, viewPool.getRecycledViewCount(ViewTypeManager.getViewType(otherModel)))
+    }
+
+    @Test
+    fun viewTypesArePreinflatedOnce() {
+        val model = ModelWithView()
+
+        preinflater.onModelBuildFinished(DiffResult.inserted(listOf(model)))
+        preinflater.onModelBuildFinished(DiffResult.inserted(listOf(ModelWithView())))
+        ShadowLooper.idleMainLooper()
+
+        val viewType = ViewTypeManager.getViewType(model)
+        assertEquals(2, recyclerView.recycledViewPool.getRecycledViewCount(viewType))
+    }
+
+    @Test
+    fun modelsAreMarkedWhileViewsAreBuilt() {
+        val tasks = mutableListOf<Runnable>()
+        val deferredPreinflater = ViewPreinflater(recyclerView, 2, Executor { tasks.add(it) })
+        val model = ModelWithView()
+
+        deferredPreinflater.onModelBuildFinished(DiffResult.inserted(listOf(model)))
+        assertEquals(1, model.viewsBeingPreinflatedCount)
+
+        tasks.forEach { it.run() }
+        ShadowLooper.idleMainLooper()
+        assertEquals(0, model.viewsBeingPreinflatedCount)
+    }
+}
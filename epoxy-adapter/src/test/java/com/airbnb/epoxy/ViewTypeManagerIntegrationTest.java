@@ -9,6 +9,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import androidx.annotation.NonNull;
 import androidx.test.core.app.ApplicationProvider;
 
@@ -118,6 +121,46 @@ public class ViewTypeManagerIntegrationTest {
     verify(modelToAdd).buildView(null);
   }
 
+  @Test
+  public void fallbackLookupRemembersModelsByViewType() {
+    final List<RuntimeException> swallowedExceptions = new ArrayList<>();
+    EpoxyController controller = new EpoxyController() {
+      @Override
+      protected void buildModels() {
+        new ModelWithViewType().id(1).addTo(this);
+        new ModelWithViewType2().id(2).addTo(this);
+      }
+
+      @Override
+      protected void onExceptionSwallowed(@NonNull RuntimeException exception) {
+        swallowedExceptions.add(exception);
+      }
+    };
+    controller.requestModelBuild();
+    EpoxyControllerAdapter adapter = controller.getAdapter();
+
+    adapter.onCreateViewHolder(null, 2);
+    assertEquals(1, swallowedExceptions.size());
+
+    // The model for view type 1 was passed during the first search, so no search is needed
+    adapter.onCreateViewHolder(null, 1);
+    assertEquals(1, swallowedExceptions.size());
+
+    // Recorded models are dropped once the models are rebuilt
+    controller.requestModelBuild();
+    adapter.onCreateViewHolder(null, 1);
+    assertEquals(2, swallowedExceptions.size());
+  }
+
+  @Test
+  public void generatedViewTypeIsCachedOnModel() {
+    ModelWithoutViewType model = new ModelWithoutViewType();
+    int viewType = ViewTypeManager.getViewType(model);
+
+    assertEquals(viewType, model.generatedViewType);
+    assertEquals(viewType, ViewTypeManager.getViewType(model));
+  }
+
   @Test
   public void viewTypesSharedAcrossAdapters() {
     SimpleEpoxyAdapter adapter1 = new SimpleEpoxyAdapter();
@@ -0,0 +1,266 @@
+package com.airbnb.epoxy.preload
+
+import android.content.Context
+import android.view.View
+import android.view.ViewGroup
+import androidx.recyclerview.widget.GridLayoutManager
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.recyclerview.widget.StaggeredGridLayoutManager
+import androidx.test.core.app.ApplicationProvider
+import com.airbnb.epoxy.EpoxyModelWithView
+import com.airbnb.epoxy.SimpleEpoxyAdapter
+import org.junit.Assert.assertEquals
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+import org.robolectric.shadows.ShadowLooper
+import java.util.concurrent.TimeUnit
+
+@Config(sdk = [21])
+@RunWith(RobolectricTestRunner::class)
+class EpoxyPreloaderTest {
+
+    private class PreloadableView(context: Context) : View(context), Preloadable {
+        override val viewsToPreload: List<View> = listOf(this)
+    }
+
+    private class ItemModel(position: Int) : EpoxyModelWithView<View>() {
+        init {
+            id(position.toLong())
+        }
+
+        override fun buildView(parent: ViewGroup): View = PreloadableView(parent.context).apply {
+            layoutParams = RecyclerView.LayoutParams(RecyclerView.LayoutParams.MATCH_PARENT, ITEM_HEIGHT)
+        }
+    }
+
+    /** Holds the position of the item it preloads, or -1 once its request is cleared. */
+    private class PositionRequestHolder : PreloadRequestHolder {
+        var position = -1
+
+        override fun clear() {
+            position = -1
+        }
+    }
+
+    /** Reports the visible range it is given, so that tests don't depend on laying out children. */
+    private interface TestLayoutManager {
+        var visibleRange: IntRange
+    }
+
+    private class TestLinearLayoutManager(context: Context) : LinearLayoutManager(context), TestLayoutManager {
+        override var visibleRange = IntRange.EMPTY
+
+        override fun findFirstVisibleItemPosition() = visibleRange.first
+        override fun findLastVisibleItemPosition() = visibleRange.last
+    }
+
+    private class TestGridLayoutManager(
+        context: Context,
+        spanCount: Int
+    ) : GridLayoutManager(context, spanCount), TestLayoutManager {
+        override var visibleRange = IntRange.EMPTY
+
+        override fun findFirstVisibleItemPosition() = visibleRange.first
+        override fun findLastVisibleItemPosition() = visibleRange.last
+    }
+
+    private class TestStaggeredGridLayoutManager(
+        spanCount: Int
+    ) : StaggeredGridLayoutManager(spanCount, VERTICAL), TestLayoutManager {
+        override var visibleRange = IntRange.EMPTY
+
+        // Each span reports its own first and last visible item
+        override fun findFirstVisibleItemPositions(into: IntArray?) =
+            IntArray(spanCount) { visibleRange.first + it }
+
+        override fun findLastVisibleItemPositions(into: IntArray?) =
+            IntArray(spanCount) { visibleRange.last - it }
+    }
+
+    private val context: Context = ApplicationProvider.getApplicationContext()
+    private val requestHolders = mutableListOf<PositionRequestHolder>()
+    private val preloadedPositions = mutableListOf<Int>()
+
+    private val recyclerView = RecyclerView(context).apply {
+        // Laid out before the adapter is set, so no children are bound and preloaded views are measured off screen
+        layout(0, 0, 100, 4 * ITEM_HEIGHT)
+        adapter = SimpleEpoxyAdapter().apply { addModels((0 until ITEM_COUNT).map { ItemModel(it) }) }
+    }
+
+    private fun preloader(maxItemsToPreload: Int): EpoxyPreloader<PositionRequestHolder> =
+        EpoxyPreloader.with(
+            recyclerView.adapter as SimpleEpoxyAdapter,
+            { PositionRequestHolder().also { requestHolders.add(it) } },
+            { _, e -> throw e },
+            maxItemsToPreload,
+            listOf(
+                EpoxyModelPreloader.with<ItemModel, PositionRequestHolder> { model, holder, _ ->
+                    holder.position = model.id().toInt()
+                    preloadedPositions.add(holder.position)
+                }
+            )
+        )
+
+    /** By default this scrolls slower than a fling, so the window is the rows after the visible items. */
+    private fun EpoxyPreloader<*>.scrollTo(layoutManager: TestLayoutManager, visibleRange: IntRange, dy: Int = 10) {
+        layoutManager.visibleRange = visibleRange
+        onScrolled(recyclerView, 0, dy)
+    }
+
+    /** Advances the clock that scroll velocity is measured with. */
+    private fun advanceTime(millis: Long) {
+        ShadowLooper.idleMainLooper(millis, TimeUnit.MILLISECONDS)
+    }
+
+    private val positionsWithRequests: Set<Int>
+        get() = requestHolders.map { it.position }.filter { it != -1 }.toSet()
+
+    @Test
+    fun requestsAheadAreClearedWhenScrollReverses() {
+        val layoutManager = TestLinearLayoutManager(context)
+        recyclerView.layoutManager = layoutManager
+        // With two items at most the window size doesn't depend on the scroll speed
+        val preloader = preloader(maxItemsToPreload = 2)
+
+        preloader.scrollTo(layoutManager, 10..13)
+        assertEquals(listOf(14, 15), preloadedPositions)
+        assertEquals(setOf(14, 15), positionsWithRequests)
+
+        preloadedPositions.clear()
+        preloader.scrollTo(layoutManager, 9..12)
+
+        // The items before the visible ones are preloaded nearest first, and the requests ahead are canceled
+        assertEquals(listOf(8, 7), preloadedPositions)
+        assertEquals(setOf(8, 7), positionsWithRequests)
+    }
+
+    @Test
+    fun cancelPreloadRequestsClearsAllRequests() {
+        val layoutManager = TestLinearLayoutManager(context)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 2)
+
+        preloader.scrollTo(layoutManager, 0..3)
+        assertEquals(setOf(4, 5), positionsWithRequests)
+
+        preloader.cancelPreloadRequests()
+        assertEquals(emptySet<Int>(), positionsWithRequests)
+    }
+
+    @Test
+    fun gridPreloadsWholeRows() {
+        val layoutManager = TestGridLayoutManager(context, spanCount = 3)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 4)
+
+        preloader.scrollTo(layoutManager, 0..5)
+
+        // The second row is started before the limit of four items is reached, so it is preloaded in full
+        assertEquals((6..11).toList(), preloadedPositions)
+    }
+
+    @Test
+    fun gridRowsFollowSpanSizes() {
+        val layoutManager = TestGridLayoutManager(context, spanCount = 3).apply {
+            spanSizeLookup = object : GridLayoutManager.SpanSizeLookup() {
+                override fun getSpanSize(position: Int) = if (position == 6) 3 else 1
+            }
+        }
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 4)
+
+        preloader.scrollTo(layoutManager, 0..5)
+
+        // Item 6 fills a row on its own, followed by a row of three items
+        assertEquals((6..9).toList(), preloadedPositions)
+    }
+
+    @Test
+    fun gridPreloadsWholeRowsWhenScrollingBack() {
+        val layoutManager = TestGridLayoutManager(context, spanCount = 3)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 4)
+
+        preloader.scrollTo(layoutManager, 12..17)
+        preloadedPositions.clear()
+        preloader.scrollTo(layoutManager, 9..14)
+
+        // Rows are walked backwards from the item before the visible ones, nearest first
+        assertEquals((8 downTo 3).toList(), preloadedPositions)
+    }
+
+    @Test
+    fun staggeredGridPreloadsOneItemPerSpanForEachRow() {
+        val layoutManager = TestStaggeredGridLayoutManager(spanCount = 2)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 3)
+
+        // The spans report 0..3 as the visible range
+        preloader.scrollTo(layoutManager, 0..3)
+
+        assertEquals((4..7).toList(), preloadedPositions)
+    }
+
+    @Test
+    fun windowGrowsWithScrollSpeed() {
+        val layoutManager = TestLinearLayoutManager(context)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 10)
+
+        // The first scroll after a pause has no velocity, so the fewest rows are preloaded
+        advanceTime(1000)
+        preloader.scrollTo(layoutManager, 0..3)
+        assertEquals(listOf(4, 5), preloadedPositions)
+
+        // 10px in 16ms averages to 312.5px/s, which scrolls 6.25 rows of 50px into view in the next second
+        preloadedPositions.clear()
+        advanceTime(16)
+        preloader.scrollTo(layoutManager, 1..4, dy = 10)
+        assertEquals((6..11).toList(), preloadedPositions)
+
+        // 50px in 16ms averages to over 30 rows a second, which is limited to the maximum
+        preloadedPositions.clear()
+        advanceTime(16)
+        preloader.scrollTo(layoutManager, 2..5, dy = 50)
+        assertEquals((12..15).toList(), preloadedPositions)
+    }
+
+    @Test
+    fun flingPreloadsItemsWhereItLands() {
+        val layoutManager = TestLinearLayoutManager(context)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 4)
+
+        advanceTime(1000)
+        preloader.scrollTo(layoutManager, 0..3)
+        assertEquals(listOf(4, 5), preloadedPositions)
+
+        // 100px in 16ms averages to 3125px/s, which the platform fling deceleration stops after about 1405px at mdpi.
+        // That is 28 rows of 50px, so the items after the visible ones are skipped.
+        preloadedPositions.clear()
+        advanceTime(16)
+        preloader.scrollTo(layoutManager, 2..5, dy = 100)
+        assertEquals((30..33).toList(), preloadedPositions)
+    }
+
+    @Test
+    fun flingEndingInVisibleItemsPreloadsNothing() {
+        val layoutManager = TestLinearLayoutManager(context)
+        recyclerView.layoutManager = layoutManager
+        val preloader = preloader(maxItemsToPreload = 4)
+
+        // Without a measured velocity the fling isn't predicted to move past the visible items
+        advanceTime(1000)
+        preloader.scrollTo(layoutManager, 0..3, dy = 100)
+
+        assertEquals(emptyList<Int>(), preloadedPositions)
+    }
+
+    companion object {
+        private const val ITEM_HEIGHT = 50
+        private const val ITEM_COUNT = 100
+    }
+}
@@ -0,0 +1,63 @@
+package com.airbnb.epoxy.preload
+
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertNotSame
+import org.junit.Assert.assertSame
+import org.junit.Assert.assertTrue
+import org.junit.Test
+
+class PreloadTargetProviderTest {
+
+    private class TestRequestHolder : PreloadRequestHolder {
+        var clearCount = 0
+
+        override fun clear() {
+            clearCount++
+        }
+    }
+
+    private val provider = PreloadTargetProvider(2) { TestRequestHolder() }
+
+    @Test
+    fun availableHoldersAreUsedBeforeTheOldestInUse() {
+        val first = provider.next(0)
+        val second = provider.next(1)
+        assertNotSame(first, second)
+
+        // Every holder is in use, so the one with the oldest request is cleared and reused
+        val clearsBeforeReuse = first.clearCount
+        assertSame(first, provider.next(2))
+        assertEquals(clearsBeforeReuse + 1, first.clearCount)
+    }
+
+    @Test
+    fun requestsOutsideTheKeptPositionsAreCleared() {
+        val first = provider.next(0)
+        val second = provider.next(1)
+        val firstClears = first.clearCount
+        val secondClears = second.clearCount
+
+        provider.clearRequestsOutside { it == 1 }
+
+        assertEquals(firstClears + 1, first.clearCount)
+        assertEquals(secondClears, second.clearCount)
+        // The cleared holder is available again, so it is used before the kept request's holder
+        assertSame(first, provider.next(2))
+        assertSame(second, provider.next(3))
+    }
+
+    @Test
+    fun clearAllReturnsHoldersInUse() {
+        val first = provider.next(0)
+        val firstClears = first.clearCount
+
+        provider.clearAll()
+        assertEquals(firstClears + 1, first.clearCount)
+
+        // Both holders are available, so neither request replaces the other
+        val next = provider.next(1)
+        val last = provider.next(2)
+        assertNotSame(next, last)
+        assertTrue(first === next || first === last)
+    }
+}
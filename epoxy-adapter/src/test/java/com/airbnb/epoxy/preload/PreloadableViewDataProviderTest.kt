@@ -0,0 +1,81 @@
+package com.airbnb.epoxy.preload
+
+import android.content.Context
+import android.view.View
+import android.view.ViewGroup
+import androidx.recyclerview.widget.LinearLayoutManager
+import androidx.recyclerview.widget.RecyclerView
+import androidx.test.core.app.ApplicationProvider
+import com.airbnb.epoxy.EpoxyModelWithView
+import com.airbnb.epoxy.EpoxyViewHolder
+import com.airbnb.epoxy.GeneratedModel
+import com.airbnb.epoxy.SimpleEpoxyAdapter
+import org.junit.Assert.assertEquals
+import org.junit.Assert.assertTrue
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.RobolectricTestRunner
+import org.robolectric.annotation.Config
+
+@Config(sdk = [21])
+@RunWith(RobolectricTestRunner::class)
+class PreloadableViewDataProviderTest {
+
+    private class PreloadableView(context: Context) : View(context), Preloadable {
+        override val viewsToPreload: List<View> = listOf(this)
+    }
+
+    /** Counts its binds, and its bind listener calls the same way that generated models make them. */
+    private class CountingModel : EpoxyModelWithView<View>(), GeneratedModel<View> {
+        var bindCount = 0
+        var unbindCount = 0
+        var bindListenerCount = 0
+
+        override fun buildView(parent: ViewGroup): View = PreloadableView(parent.context).apply {
+            layoutParams = RecyclerView.LayoutParams(RecyclerView.LayoutParams.MATCH_PARENT, 50)
+        }
+
+        override fun handlePreBind(holder: EpoxyViewHolder, objectToBind: View, position: Int) {
+        }
+
+        override fun bind(view: View) {
+            super.bind(view)
+            bindCount++
+        }
+
+        override fun handlePostBind(objectToBind: View, position: Int) {
+            bindListenerCount++
+        }
+
+        override fun unbind(view: View) {
+            super.unbind(view)
+            unbindCount++
+        }
+    }
+
+    @Test
+    fun measuredViewIsUnboundWithoutCallingBindListeners() {
+        val recyclerView = RecyclerView(ApplicationProvider.getApplicationContext()).apply {
+            layoutManager = LinearLayoutManager(context)
+            layout(0, 0, 100, 200)
+        }
+        val model = CountingModel()
+        val adapter = SimpleEpoxyAdapter().apply { addModels(model) }
+        val errors = mutableListOf<RuntimeException>()
+        val provider = PreloadableViewDataProvider(adapter) { _, e -> errors.add(e) }
+        val preloader = EpoxyModelPreloader.with<CountingModel, PreloadRequestHolder> { _, _, _ -> }
+
+        // No view is bound for the model, so one is measured off screen
+        val viewData = provider.dataForModel(preloader, model, 0, recyclerView)
+
+        assertTrue(errors.isEmpty())
+        assertEquals(1, viewData.size)
+        assertEquals(100, viewData[0].width)
+        assertEquals(50, viewData[0].height)
+
+        assertEquals(1, model.bindCount)
+        assertEquals(0, model.bindListenerCount)
+        // Anything the bind started is released once the view is measured
+        assertEquals(1, model.unbindCount)
+    }
+}
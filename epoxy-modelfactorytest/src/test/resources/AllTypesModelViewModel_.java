@@ -17,13 +17,12 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 import java.util.List;
 
 /**
  * Generated file. Do not modify! */
 public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> implements GeneratedModel<AllTypesModelView>, AllTypesModelViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(15);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<AllTypesModelViewModel_, AllTypesModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -108,31 +107,31 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(8)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 8)) == 0)) {
     	throw new IllegalStateException("A value is required for setBoxedIntValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(1)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) == 0)) {
     	throw new IllegalStateException("A value is required for setBoxedBooleanValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(3)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 3)) == 0)) {
     	throw new IllegalStateException("A value is required for setBoxedDoubleValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(6)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 6)) == 0)) {
     	throw new IllegalStateException("A value is required for setEpoxyModelList");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(10)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 10)) == 0)) {
     	throw new IllegalStateException("A value is required for setBoxedLongValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(14)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 14)) == 0)) {
     	throw new IllegalStateException("A value is required for setStringList");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(13)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 13)) == 0)) {
     	throw new IllegalStateException("A value is required for setStringValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(11)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 11)) == 0)) {
     	throw new IllegalStateException("A value is required for setOnClickListener");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(2)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) == 0)) {
     	throw new IllegalStateException("A value is required for setCharSequenceValue");
     }
   }
@@ -233,6 +232,131 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof AllTypesModelViewModel_)) {
+      return -1L;
+    }
+    AllTypesModelViewModel_ that = (AllTypesModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((booleanValue_Boolean != that.booleanValue_Boolean)) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((boxedIntValue_Integer != null ? !boxedIntValue_Integer.equals(that.boxedIntValue_Integer) : that.boxedIntValue_Integer != null)) {
+      changedAttributes |= (1L << 8);
+    }
+    if ((boxedBooleanValue_Boolean != null ? !boxedBooleanValue_Boolean.equals(that.boxedBooleanValue_Boolean) : that.boxedBooleanValue_Boolean != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    if ((boxedDoubleValue_Double != null ? !boxedDoubleValue_Double.equals(that.boxedDoubleValue_Double) : that.boxedDoubleValue_Double != null)) {
+      changedAttributes |= (1L << 3);
+    }
+    if ((epoxyModelList_List != null ? !epoxyModelList_List.equals(that.epoxyModelList_List) : that.epoxyModelList_List != null)) {
+      changedAttributes |= (1L << 6);
+    }
+    if ((boxedLongValue_Long != null ? !boxedLongValue_Long.equals(that.boxedLongValue_Long) : that.boxedLongValue_Long != null)) {
+      changedAttributes |= (1L << 10);
+    }
+    if ((longValue_Long != that.longValue_Long)) {
+      changedAttributes |= (1L << 9);
+    }
+    if ((stringList_List != null ? !stringList_List.equals(that.stringList_List) : that.stringList_List != null)) {
+      changedAttributes |= (1L << 14);
+    }
+    if ((stringValue_String != null ? !stringValue_String.equals(that.stringValue_String) : that.stringValue_String != null)) {
+      changedAttributes |= (1L << 13);
+    }
+    if (((onClickListener_OnClickListener == null) != (that.onClickListener_OnClickListener == null))) {
+      changedAttributes |= (1L << 11);
+    }
+    if ((intValue_Int != that.intValue_Int)) {
+      changedAttributes |= (1L << 7);
+    }
+    if ((drawableRes_Int != that.drawableRes_Int)) {
+      changedAttributes |= (1L << 5);
+    }
+    if ((Double.compare(that.doubleValue_Double, doubleValue_Double) != 0)) {
+      changedAttributes |= (1L << 4);
+    }
+    if ((rawRes_Int != that.rawRes_Int)) {
+      changedAttributes |= (1L << 12);
+    }
+    if ((charSequenceValue_CharSequence != null ? !charSequenceValue_CharSequence.equals(that.charSequenceValue_CharSequence) : that.charSequenceValue_CharSequence != null)) {
+      changedAttributes |= (1L << 2);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final AllTypesModelView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof AllTypesModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setBooleanValue(booleanValue_Boolean);
+    }
+
+    if (((changedAttributes & (1L << 8)) != 0)) {
+      object.setBoxedIntValue(boxedIntValue_Integer);
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.setBoxedBooleanValue(boxedBooleanValue_Boolean);
+    }
+
+    if (((changedAttributes & (1L << 3)) != 0)) {
+      object.setBoxedDoubleValue(boxedDoubleValue_Double);
+    }
+
+    if (((changedAttributes & (1L << 6)) != 0)) {
+      object.setEpoxyModelList(epoxyModelList_List);
+    }
+
+    if (((changedAttributes & (1L << 10)) != 0)) {
+      object.setBoxedLongValue(boxedLongValue_Long);
+    }
+
+    if (((changedAttributes & (1L << 9)) != 0)) {
+      object.setLongValue(longValue_Long);
+    }
+
+    if (((changedAttributes & (1L << 14)) != 0)) {
+      object.setStringList(stringList_List);
+    }
+
+    if (((changedAttributes & (1L << 13)) != 0)) {
+      object.setStringValue(stringValue_String);
+    }
+
+    if (((changedAttributes & (1L << 11)) != 0)) {
+      object.setOnClickListener(onClickListener_OnClickListener);
+    }
+
+    if (((changedAttributes & (1L << 7)) != 0)) {
+      object.setIntValue(intValue_Int);
+    }
+
+    if (((changedAttributes & (1L << 5)) != 0)) {
+      object.setDrawableRes(drawableRes_Int);
+    }
+
+    if (((changedAttributes & (1L << 4)) != 0)) {
+      object.setDoubleValue(doubleValue_Double);
+    }
+
+    if (((changedAttributes & (1L << 12)) != 0)) {
+      object.setRawRes(rawRes_Int);
+    }
+
+    if (((changedAttributes & (1L << 2)) != 0)) {
+      object.setCharSequenceValue(charSequenceValue_CharSequence);
+    }
+  }
+
   @Override
   public void handlePostBind(final AllTypesModelView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -326,7 +450,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * @see AllTypesModelView#setBooleanValue(boolean)
    */
   public AllTypesModelViewModel_ booleanValue(boolean booleanValue) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.booleanValue_Boolean = booleanValue;
     return this;
@@ -345,7 +469,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (boxedBooleanValue == null) {
       throw new IllegalArgumentException("boxedBooleanValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.boxedBooleanValue_Boolean = boxedBooleanValue;
     return this;
@@ -365,7 +489,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (charSequenceValue == null) {
       throw new IllegalArgumentException("charSequenceValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     onMutation();
     this.charSequenceValue_CharSequence = charSequenceValue;
     return this;
@@ -385,7 +509,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (boxedDoubleValue == null) {
       throw new IllegalArgumentException("boxedDoubleValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(3);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 3);
     onMutation();
     this.boxedDoubleValue_Double = boxedDoubleValue;
     return this;
@@ -402,7 +526,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * @see AllTypesModelView#setDoubleValue(double)
    */
   public AllTypesModelViewModel_ doubleValue(double doubleValue) {
-    assignedAttributes_epoxyGeneratedModel.set(4);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 4);
     onMutation();
     this.doubleValue_Double = doubleValue;
     return this;
@@ -418,7 +542,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * @see AllTypesModelView#setDrawableRes(int)
    */
   public AllTypesModelViewModel_ drawableRes(@DrawableRes int drawableRes) {
-    assignedAttributes_epoxyGeneratedModel.set(5);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 5);
     onMutation();
     this.drawableRes_Int = drawableRes;
     return this;
@@ -439,7 +563,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (epoxyModelList == null) {
       throw new IllegalArgumentException("epoxyModelList cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(6);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 6);
     onMutation();
     this.epoxyModelList_List = epoxyModelList;
     return this;
@@ -456,7 +580,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * @see AllTypesModelView#setIntValue(int)
    */
   public AllTypesModelViewModel_ intValue(int intValue) {
-    assignedAttributes_epoxyGeneratedModel.set(7);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 7);
     onMutation();
     this.intValue_Int = intValue;
     return this;
@@ -475,7 +599,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (boxedIntValue == null) {
       throw new IllegalArgumentException("boxedIntValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(8);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 8);
     onMutation();
     this.boxedIntValue_Integer = boxedIntValue;
     return this;
@@ -492,7 +616,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * @see AllTypesModelView#setLongValue(long)
    */
   public AllTypesModelViewModel_ longValue(long longValue) {
-    assignedAttributes_epoxyGeneratedModel.set(9);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 9);
     onMutation();
     this.longValue_Long = longValue;
     return this;
@@ -511,7 +635,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (boxedLongValue == null) {
       throw new IllegalArgumentException("boxedLongValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(10);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 10);
     onMutation();
     this.boxedLongValue_Long = boxedLongValue;
     return this;
@@ -526,7 +650,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public AllTypesModelViewModel_ onClickListener(
       @NonNull final OnModelClickListener<AllTypesModelViewModel_, AllTypesModelView> onClickListener) {
-    assignedAttributes_epoxyGeneratedModel.set(11);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 11);
     onMutation();
     if (onClickListener == null) {
       this.onClickListener_OnClickListener = null;
@@ -546,7 +670,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (onClickListener == null) {
       throw new IllegalArgumentException("onClickListener cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(11);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 11);
     onMutation();
     this.onClickListener_OnClickListener = onClickListener;
     return this;
@@ -563,7 +687,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
    * @see AllTypesModelView#setRawRes(int)
    */
   public AllTypesModelViewModel_ rawRes(@RawRes int rawRes) {
-    assignedAttributes_epoxyGeneratedModel.set(12);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 12);
     onMutation();
     this.rawRes_Int = rawRes;
     return this;
@@ -583,7 +707,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (stringValue == null) {
       throw new IllegalArgumentException("stringValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(13);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 13);
     onMutation();
     this.stringValue_String = stringValue;
     return this;
@@ -603,7 +727,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     if (stringList == null) {
       throw new IllegalArgumentException("stringList cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(14);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 14);
     onMutation();
     this.stringList_List = stringList;
     return this;
@@ -693,7 +817,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.booleanValue_Boolean = false;
     this.boxedBooleanValue_Boolean = null;
     this.charSequenceValue_CharSequence = null;
@@ -787,7 +911,11 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -809,7 +937,7 @@ public class AllTypesModelViewModel_ extends EpoxyModel<AllTypesModelView> imple
     _result = 31 * _result + rawRes_Int;
     _result = 31 * _result + (stringValue_String != null ? stringValue_String.hashCode() : 0);
     _result = 31 * _result + (stringList_List != null ? stringList_List.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -235,13 +235,17 @@ public class BasicModelWithFinalAttribute_ extends BasicModelWithFinalAttribute
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + value;
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
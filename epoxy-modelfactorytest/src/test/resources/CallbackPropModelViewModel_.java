@@ -8,12 +8,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class CallbackPropModelViewModel_ extends EpoxyModel<CallbackPropModelView> implements GeneratedModel<CallbackPropModelView>, CallbackPropModelViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<CallbackPropModelViewModel_, CallbackPropModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -60,6 +59,33 @@ public class CallbackPropModelViewModel_ extends EpoxyModel<CallbackPropModelVie
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof CallbackPropModelViewModel_)) {
+      return -1L;
+    }
+    CallbackPropModelViewModel_ that = (CallbackPropModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((onClickListener_OnClickListener == null) != (that.onClickListener_OnClickListener == null))) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final CallbackPropModelView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof CallbackPropModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setOnClickListener(onClickListener_OnClickListener);
+    }
+  }
+
   @Override
   public void handlePostBind(final CallbackPropModelView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -152,7 +178,7 @@ public class CallbackPropModelViewModel_ extends EpoxyModel<CallbackPropModelVie
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public CallbackPropModelViewModel_ onClickListener(
       @Nullable final OnModelClickListener<CallbackPropModelViewModel_, CallbackPropModelView> onClickListener) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     if (onClickListener == null) {
       this.onClickListener_OnClickListener = null;
@@ -170,7 +196,7 @@ public class CallbackPropModelViewModel_ extends EpoxyModel<CallbackPropModelVie
    */
   public CallbackPropModelViewModel_ onClickListener(
       @Nullable View.OnClickListener onClickListener) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.onClickListener_OnClickListener = onClickListener;
     return this;
@@ -261,7 +287,7 @@ public class CallbackPropModelViewModel_ extends EpoxyModel<CallbackPropModelVie
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.onClickListener_OnClickListener = (View.OnClickListener) null;
     super.reset();
     return this;
@@ -299,13 +325,17 @@ public class CallbackPropModelViewModel_ extends EpoxyModel<CallbackPropModelVie
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onClickListener_OnClickListener != null ? 1 : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
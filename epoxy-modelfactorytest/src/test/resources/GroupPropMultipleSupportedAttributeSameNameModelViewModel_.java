@@ -9,12 +9,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends EpoxyModel<GroupPropMultipleSupportedAttributeSameNameModelView> implements GeneratedModel<GroupPropMultipleSupportedAttributeSameNameModelView>, GroupPropMultipleSupportedAttributeSameNameModelViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<GroupPropMultipleSupportedAttributeSameNameModelViewModel_, GroupPropMultipleSupportedAttributeSameNameModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -48,10 +47,10 @@ public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends
   @Override
   public void bind(final GroupPropMultipleSupportedAttributeSameNameModelView object) {
     super.bind(object);
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
       object.setTitleString(titleString_String);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
       object.setTitleInt(titleInt_Int);
     }
     else {
@@ -69,18 +68,59 @@ public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends
     GroupPropMultipleSupportedAttributeSameNameModelViewModel_ that = (GroupPropMultipleSupportedAttributeSameNameModelViewModel_) previousModel;
     super.bind(object);
 
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(0) || (titleString_String != null ? !titleString_String.equals(that.titleString_String) : that.titleString_String != null)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0) || (titleString_String != null ? !titleString_String.equals(that.titleString_String) : that.titleString_String != null)) {
         object.setTitleString(titleString_String);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
       if ((titleInt_Int != that.titleInt_Int)) {
         object.setTitleInt(titleInt_Int);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(0) || that.assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      object.setTitleInt(titleInt_Int);
+    }
+  }
+
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof GroupPropMultipleSupportedAttributeSameNameModelViewModel_)) {
+      return -1L;
+    }
+    GroupPropMultipleSupportedAttributeSameNameModelViewModel_ that = (GroupPropMultipleSupportedAttributeSameNameModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || (titleString_String != null ? !titleString_String.equals(that.titleString_String) : that.titleString_String != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) || (titleInt_Int != that.titleInt_Int)) {
+      changedAttributes |= (1L << 1);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final GroupPropMultipleSupportedAttributeSameNameModelView object,
+      EpoxyModel previousModel, long changedAttributes) {
+    if (!(previousModel instanceof GroupPropMultipleSupportedAttributeSameNameModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((changedAttributes & (1L << 0)) != 0)) {
+        object.setTitleString(titleString_String);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      if (((changedAttributes & (1L << 1)) != 0)) {
+        object.setTitleInt(titleInt_Int);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 0)) != 0) || ((changedAttributes & (1L << 1)) != 0)) {
       object.setTitleInt(titleInt_Int);
     }
   }
@@ -185,8 +225,8 @@ public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends
     if (titleString == null) {
       throw new IllegalArgumentException("titleString cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
-    assignedAttributes_epoxyGeneratedModel.clear(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 1);
     this.titleInt_Int = 0;
     onMutation();
     this.titleString_String = titleString;
@@ -204,8 +244,8 @@ public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends
    * @see GroupPropMultipleSupportedAttributeSameNameModelView#setTitleInt(int)
    */
   public GroupPropMultipleSupportedAttributeSameNameModelViewModel_ titleInt(int titleInt) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
-    assignedAttributes_epoxyGeneratedModel.clear(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 0);
     this.titleString_String = null;
     onMutation();
     this.titleInt_Int = titleInt;
@@ -298,7 +338,7 @@ public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.titleString_String = null;
     this.titleInt_Int = 0;
     super.reset();
@@ -340,14 +380,18 @@ public class GroupPropMultipleSupportedAttributeSameNameModelViewModel_ extends
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (titleString_String != null ? titleString_String.hashCode() : 0);
     _result = 31 * _result + titleInt_Int;
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
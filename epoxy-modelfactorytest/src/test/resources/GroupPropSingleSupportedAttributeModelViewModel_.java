@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel<GroupPropSingleSupportedAttributeModelView> implements GeneratedModel<GroupPropSingleSupportedAttributeModelView>, GroupPropSingleSupportedAttributeModelViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<GroupPropSingleSupportedAttributeModelViewModel_, GroupPropSingleSupportedAttributeModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -39,7 +38,7 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0) && !assignedAttributes_epoxyGeneratedModel.get(1)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0) && ((assignedAttributes_epoxyGeneratedModel & (1L << 1)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitle");
     }
   }
@@ -53,7 +52,7 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
   @Override
   public void bind(final GroupPropSingleSupportedAttributeModelView object) {
     super.bind(object);
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
       object.setTitle(title_String);
     }
     else {
@@ -71,13 +70,50 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
     GroupPropSingleSupportedAttributeModelViewModel_ that = (GroupPropSingleSupportedAttributeModelViewModel_) previousModel;
     super.bind(object);
 
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(0) || (title_String != null ? !title_String.equals(that.title_String) : that.title_String != null)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0) || (title_String != null ? !title_String.equals(that.title_String) : that.title_String != null)) {
         object.setTitle(title_String);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(1) || (title_Object != null ? !title_Object.equals(that.title_Object) : that.title_Object != null)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) == 0) || (title_Object != null ? !title_Object.equals(that.title_Object) : that.title_Object != null)) {
+        object.setTitle(title_Object);
+      }
+    }
+  }
+
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof GroupPropSingleSupportedAttributeModelViewModel_)) {
+      return -1L;
+    }
+    GroupPropSingleSupportedAttributeModelViewModel_ that = (GroupPropSingleSupportedAttributeModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || (title_String != null ? !title_String.equals(that.title_String) : that.title_String != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) || (title_Object != null ? !title_Object.equals(that.title_Object) : that.title_Object != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final GroupPropSingleSupportedAttributeModelView object,
+      EpoxyModel previousModel, long changedAttributes) {
+    if (!(previousModel instanceof GroupPropSingleSupportedAttributeModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((changedAttributes & (1L << 0)) != 0)) {
+        object.setTitle(title_String);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      if (((changedAttributes & (1L << 1)) != 0)) {
         object.setTitle(title_Object);
       }
     }
@@ -182,8 +218,8 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
-    assignedAttributes_epoxyGeneratedModel.clear(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 1);
     this.title_Object = null;
     onMutation();
     this.title_String = title;
@@ -204,8 +240,8 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(1);
-    assignedAttributes_epoxyGeneratedModel.clear(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 0);
     this.title_String = null;
     onMutation();
     this.title_Object = title;
@@ -298,7 +334,7 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_String = null;
     this.title_Object = null;
     super.reset();
@@ -340,14 +376,18 @@ public class GroupPropSingleSupportedAttributeModelViewModel_ extends EpoxyModel
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (title_String != null ? title_String.hashCode() : 0);
     _result = 31 * _result + (title_Object != null ? title_Object.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
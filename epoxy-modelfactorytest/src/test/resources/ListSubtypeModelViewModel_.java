@@ -11,12 +11,11 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.util.ArrayList;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class ListSubtypeModelViewModel_ extends EpoxyModel<ListSubtypeModelView> implements GeneratedModel<ListSubtypeModelView>, ListSubtypeModelViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<ListSubtypeModelViewModel_, ListSubtypeModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -35,7 +34,7 @@ public class ListSubtypeModelViewModel_ extends EpoxyModel<ListSubtypeModelView>
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setStringArrayList");
     }
   }
@@ -66,6 +65,33 @@ public class ListSubtypeModelViewModel_ extends EpoxyModel<ListSubtypeModelView>
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof ListSubtypeModelViewModel_)) {
+      return -1L;
+    }
+    ListSubtypeModelViewModel_ that = (ListSubtypeModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((stringArrayList_ArrayList != null ? !stringArrayList_ArrayList.equals(that.stringArrayList_ArrayList) : that.stringArrayList_ArrayList != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final ListSubtypeModelView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof ListSubtypeModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setStringArrayList(stringArrayList_ArrayList);
+    }
+  }
+
   @Override
   public void handlePostBind(final ListSubtypeModelView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -162,7 +188,7 @@ public class ListSubtypeModelViewModel_ extends EpoxyModel<ListSubtypeModelView>
     if (stringArrayList == null) {
       throw new IllegalArgumentException("stringArrayList cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.stringArrayList_ArrayList = stringArrayList;
     return this;
@@ -253,7 +279,7 @@ public class ListSubtypeModelViewModel_ extends EpoxyModel<ListSubtypeModelView>
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.stringArrayList_ArrayList = null;
     super.reset();
     return this;
@@ -291,13 +317,17 @@ public class ListSubtypeModelViewModel_ extends EpoxyModel<ListSubtypeModelView>
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (stringArrayList_ArrayList != null ? stringArrayList_ArrayList.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -19,7 +19,6 @@ import java.lang.Runnable;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
 import java.lang.ref.WeakReference;
-import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -29,7 +28,7 @@ public class StyleableModelViewModel_ extends EpoxyModel<StyleableModelView> imp
 
   private static WeakReference<Style> parisStyleReference_default;
 
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<StyleableModelViewModel_, StyleableModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -52,7 +51,7 @@ public class StyleableModelViewModel_ extends EpoxyModel<StyleableModelView> imp
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitle");
     }
   }
@@ -119,6 +118,42 @@ public class StyleableModelViewModel_ extends EpoxyModel<StyleableModelView> imp
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof StyleableModelViewModel_)) {
+      return -1L;
+    }
+    StyleableModelViewModel_ that = (StyleableModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (!Objects.equals(style, that.style)) {
+      changedAttributes |= (1L << 1);
+    }
+    if ((title_String != null ? !title_String.equals(that.title_String) : that.title_String != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final StyleableModelView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof StyleableModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      StyleableModelViewStyleApplier styleApplier = new StyleableModelViewStyleApplier(object);
+      styleApplier.apply(style);
+      object.setTag(R.id.epoxy_saved_view_style, style);
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setTitle(title_String);
+    }
+  }
+
   @Override
   public void handlePostBind(final StyleableModelView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -209,7 +244,7 @@ public class StyleableModelViewModel_ extends EpoxyModel<StyleableModelView> imp
   }
 
   public StyleableModelViewModel_ style(Style style) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.style = style;
     return this;
@@ -242,7 +277,7 @@ public class StyleableModelViewModel_ extends EpoxyModel<StyleableModelView> imp
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.title_String = title;
     return this;
@@ -331,7 +366,7 @@ public class StyleableModelViewModel_ extends EpoxyModel<StyleableModelView> imp
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_String = null;
     this.style = DEFAULT_PARIS_STYLE;
     super.reset();
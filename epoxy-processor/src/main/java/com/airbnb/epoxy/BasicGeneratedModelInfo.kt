@@ -23,6 +23,7 @@ internal class BasicGeneratedModelInfo(
     init {
         this.superClassName = ParameterizedTypeName.get(superClassElement.asType())
         this.superClassElement = superClassElement
+        originatingElement = superClassElement
         generatedClassName = buildGeneratedModelName(superClassElement)
 
         for (typeParameterElement in superClassElement.typeParameters) {
@@ -61,6 +61,8 @@ object ClassNames {
     @JvmField
     val EPOXY_CONTROLLER_HELPER = get(PKG_EPOXY, "ControllerHelper")!!
     @JvmField
+    val EPOXY_CONTROLLER_HELPER_REGISTRY = get(PKG_EPOXY, "ControllerHelperRegistry")!!
+    @JvmField
     val EPOXY_MODEL_PROPERTIES = get(PKG_EPOXY, "ModelProperties")!!
 
     @JvmField
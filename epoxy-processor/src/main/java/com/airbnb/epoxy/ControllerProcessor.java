@@ -1,5 +1,7 @@
 package com.airbnb.epoxy;
 
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
@@ -8,8 +10,10 @@ import com.squareup.javapoet.ParameterSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -20,12 +24,14 @@ import java.util.Set;
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
+import javax.tools.StandardLocation;
 
 import static com.airbnb.epoxy.Utils.EPOXY_CONTROLLER_TYPE;
 import static com.airbnb.epoxy.Utils.EPOXY_MODEL_TYPE;
@@ -38,12 +44,18 @@ import static com.airbnb.epoxy.Utils.isSubtype;
 import static com.airbnb.epoxy.Utils.validateFieldAccessibleViaGeneratedCode;
 
 class ControllerProcessor {
+  private static final String HELPER_REGISTRY_CLASS_PREFIX = "EpoxyControllerHelperRegistry_";
+  private static final String HELPER_REGISTRY_SERVICE_FILE =
+      "META-INF/services/" + ClassNames.EPOXY_CONTROLLER_HELPER_REGISTRY.reflectionName();
+
   private Filer filer;
   private Elements elementUtils;
   private Types typeUtils;
   private ErrorLogger errorLogger;
   private final ConfigManager configManager;
   private final Map<TypeElement, ControllerClassInfo> controllerClassMap = new LinkedHashMap<>();
+  /** The registries written so far, which are listed in a service file once processing is over. */
+  private final List<ClassName> helperRegistries = new ArrayList<>();
 
   ControllerProcessor(Filer filer, Elements elementUtils, Types typeUtils,
       ErrorLogger errorLogger, ConfigManager configManager) {
@@ -231,6 +243,117 @@ class ControllerProcessor {
         errorLogger.logError(e);
       }
     }
+
+    try {
+      generateHelperRegistry(controllerClassMap.values());
+    } catch (Exception e) {
+      errorLogger.logError(e);
+    }
+  }
+
+  /**
+   * Writes a registry that creates the helpers of the given controllers without reflection. The
+   * registry is in the package of one of the controllers and can only reference public ones, so
+   * helpers for other controllers are still looked up with reflection at runtime.
+   */
+  private void generateHelperRegistry(Iterable<ControllerClassInfo> controllers)
+      throws IOException {
+    List<ControllerClassInfo> publicControllers = new ArrayList<>();
+    for (ControllerClassInfo controllerInfo : controllers) {
+      if (isAccessibleFromOtherPackages(controllerInfo.getControllerClassElement())) {
+        publicControllers.add(controllerInfo);
+      }
+    }
+
+    if (publicControllers.isEmpty()) {
+      return;
+    }
+
+    MethodSpec.Builder createHelper = MethodSpec.methodBuilder("createHelper")
+        .addAnnotation(Override.class)
+        .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+            .addMember("value", "$S", "unchecked")
+            .build())
+        .addModifiers(Modifier.PUBLIC)
+        .returns(ParameterizedTypeName.get(ClassNames.EPOXY_CONTROLLER_HELPER,
+            WildcardTypeName.subtypeOf(Object.class)))
+        .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class),
+            WildcardTypeName.subtypeOf(Object.class)), "controllerClass")
+        .addParameter(ClassNames.EPOXY_CONTROLLER, "controller");
+
+    StringBuilder controllerNames = new StringBuilder();
+    for (ControllerClassInfo controllerInfo : publicControllers) {
+      ClassName controllerClass = ClassName.get(controllerInfo.getControllerClassElement());
+      controllerNames.append(controllerClass.reflectionName()).append(';');
+
+      createHelper
+          .beginControlFlow("if (controllerClass == $T.class)", controllerClass)
+          .addStatement("return new $T(($T) controller)", controllerInfo.getGeneratedClassName(),
+              controllerClass)
+          .endControlFlow();
+    }
+    createHelper.addStatement("return null");
+
+    // Registries are written for each module, so the name is derived from its controllers to keep
+    // it unique
+    ClassName registryName = ClassName.get(
+        ClassName.get(publicControllers.get(0).getControllerClassElement()).packageName(),
+        HELPER_REGISTRY_CLASS_PREFIX
+            + Integer.toHexString(controllerNames.toString().hashCode()));
+
+    TypeSpec.Builder builder = TypeSpec.classBuilder(registryName)
+        .addJavadoc("Generated file. Do not modify!")
+        .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+        .addSuperinterface(ClassNames.EPOXY_CONTROLLER_HELPER_REGISTRY)
+        .addMethod(createHelper.build());
+
+    for (ControllerClassInfo controllerInfo : publicControllers) {
+      builder.addOriginatingElement(controllerInfo.getControllerClassElement());
+    }
+
+    JavaFile.builder(registryName.packageName(), builder.build())
+        .build()
+        .writeTo(filer);
+
+    helperRegistries.add(registryName);
+  }
+
+  private static boolean isAccessibleFromOtherPackages(TypeElement classElement) {
+    for (Element element = classElement;
+        element.getKind() != ElementKind.PACKAGE;
+        element = element.getEnclosingElement()) {
+      if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Lists the generated registries in a service file so they can be loaded at runtime. This can
+   * only be written once, so it is done once processing is over.
+   */
+  void writeHelperRegistryServiceFile() {
+    if (helperRegistries.isEmpty()) {
+      return;
+    }
+
+    try {
+      Writer writer = filer
+          .createResource(StandardLocation.CLASS_OUTPUT, "", HELPER_REGISTRY_SERVICE_FILE)
+          .openWriter();
+      try {
+        for (ClassName registry : helperRegistries) {
+          writer.write(registry.reflectionName());
+          writer.write('\n');
+        }
+      } finally {
+        writer.close();
+      }
+    } catch (Exception e) {
+      errorLogger.logError(e);
+    }
+    helperRegistries.clear();
   }
 
   private void generateHelperClassForController(ControllerClassInfo controllerInfo)
@@ -246,7 +369,8 @@ class ControllerProcessor {
         .addField(controllerInfo.getControllerClassType(), "controller", Modifier.FINAL,
             Modifier.PRIVATE)
         .addMethod(buildConstructor(controllerInfo))
-        .addMethod(buildResetModelsMethod(controllerInfo));
+        .addMethod(buildResetModelsMethod(controllerInfo))
+        .addOriginatingElement(controllerInfo.getControllerClassElement());
 
     if (configManager.shouldValidateModelUsage()) {
       builder.addFields(buildFieldsToSaveModelsForValidation(controllerInfo))
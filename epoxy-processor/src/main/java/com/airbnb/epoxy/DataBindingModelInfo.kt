@@ -4,6 +4,7 @@ import com.airbnb.epoxy.ClassNames.EPOXY_DATA_BINDING_HOLDER
 import com.airbnb.epoxy.ClassNames.EPOXY_DATA_BINDING_MODEL
 import com.airbnb.epoxy.Utils.getElementByName
 import com.squareup.javapoet.ClassName
+import javax.lang.model.element.Element
 import javax.lang.model.element.TypeElement
 import javax.lang.model.util.Elements
 import javax.lang.model.util.Types
@@ -14,7 +15,8 @@ internal class DataBindingModelInfo(
     val layoutResource: ResourceValue,
     val moduleName: String,
     private val layoutPrefix: String = "",
-    val enableDoNotHash: Boolean
+    val enableDoNotHash: Boolean,
+    annotatedElement: Element
 ) : GeneratedModelInfo() {
     private val dataBindingClassName: ClassName
 
@@ -30,6 +32,7 @@ internal class DataBindingModelInfo(
             elementUtils, typeUtils
         ) as TypeElement
         superClassName = EPOXY_DATA_BINDING_MODEL
+        originatingElement = annotatedElement
         generatedClassName = buildGeneratedModelName()
         parametrizedClassName = generatedClassName
         boundObjectTypeName = EPOXY_DATA_BINDING_HOLDER
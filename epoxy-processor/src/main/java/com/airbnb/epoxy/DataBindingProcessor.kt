@@ -21,24 +21,25 @@ internal class DataBindingProcessor(
 
     fun process(roundEnv: RoundEnvironment): List<DataBindingModelInfo> {
 
-        roundEnv.getElementsAnnotatedWith(EpoxyDataBindingLayouts::class.java).forEach {
+        roundEnv.getElementsAnnotatedWith(EpoxyDataBindingLayouts::class.java).forEach { element ->
 
             val layoutResources = resourceProcessor
-                .getLayoutsInAnnotation(it, EpoxyDataBindingLayouts::class.java)
+                .getLayoutsInAnnotation(element, EpoxyDataBindingLayouts::class.java)
 
             // Get the module name after parsing resources so we can use the resource classes to
             // figure out the module name
-            val moduleName = dataBindingModuleLookup.getModuleName(it)
+            val moduleName = dataBindingModuleLookup.getModuleName(element)
 
             val enableDoNotHash =
-                it.annotation<EpoxyDataBindingLayouts>()?.enableDoNotHash == true
+                element.annotation<EpoxyDataBindingLayouts>()?.enableDoNotHash == true
             layoutResources.mapTo(modelsToWrite) {
                 DataBindingModelInfo(
                     typeUtils = types,
                     elementUtils = elements,
                     layoutResource = it,
                     moduleName = moduleName,
-                    enableDoNotHash = enableDoNotHash
+                    enableDoNotHash = enableDoNotHash,
+                    annotatedElement = element
                 )
             }
         }
@@ -73,7 +74,8 @@ internal class DataBindingProcessor(
                         layoutResource = it,
                         moduleName = moduleName,
                         layoutPrefix = layoutPrefix,
-                        enableDoNotHash = enableDoNotHash
+                        enableDoNotHash = enableDoNotHash,
+                        annotatedElement = element
                     )
                 }
         }
@@ -49,6 +49,12 @@ public class EpoxyProcessor extends AbstractProcessor {
   // https://github.com/JetBrains/kotlin-examples/blob/master/gradle/kotlin-code-generation
   // /annotation-processor/src/main/java/TestAnnotationProcessor.kt
   public static final String KAPT_KOTLIN_GENERATED_OPTION_NAME = "kapt.kotlin.generated";
+  /**
+   * Reported as a supported option to tell Gradle that this processor is aggregating, so that
+   * builds using it can be compiled incrementally.
+   */
+  static final String GRADLE_AGGREGATING_OPTION_NAME =
+      "org.gradle.annotation.processing.aggregating";
 
   private final Map<String, String> testOptions;
   private Messager messager;
@@ -134,6 +140,28 @@ public class EpoxyProcessor extends AbstractProcessor {
     kotlinExtensionWriter = new KotlinModelBuilderExtensionWriter(processingEnv);
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    Set<String> options = new LinkedHashSet<>(super.getSupportedOptions());
+    if (supportsIncrementalProcessing()) {
+      options.add(GRADLE_AGGREGATING_OPTION_NAME);
+    }
+    return options;
+  }
+
+  /**
+   * Incremental processing requires every file to be generated through the {@link Filer}, so it is
+   * only supported when Kotlin extensions aren't written directly to the kapt output directory.
+   * Models read package configs and controllers read models from across the module, so processing
+   * is aggregating rather than isolating.
+   */
+  private boolean supportsIncrementalProcessing() {
+    // This is called after init when processing, but may be called before it as well
+    return configManager != null
+        && (configManager.disableKotlinExtensionGeneration()
+        || !processingEnv.getOptions().containsKey(KAPT_KOTLIN_GENERATED_OPTION_NAME));
+  }
+
   @Override
   public Set<String> getSupportedAnnotationTypes() {
     Set<String> types = new LinkedHashSet<>();
@@ -207,6 +235,10 @@ public class EpoxyProcessor extends AbstractProcessor {
       // finish writing the controllers before processing ends
       controllerProcessor.resolveGeneratedModelsAndWriteJava(generatedModels);
     }
+
+    if (roundEnv.processingOver()) {
+      controllerProcessor.writeHelperRegistryServiceFile();
+    }
   }
 
   private boolean areModelsWaitingToWrite() {
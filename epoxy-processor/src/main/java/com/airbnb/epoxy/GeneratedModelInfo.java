@@ -42,6 +42,11 @@ abstract class GeneratedModelInfo {
 
   protected TypeName superClassName;
   protected TypeElement superClassElement;
+  /**
+   * The source element that the generated model is created from, which incremental builds use to
+   * decide when the model needs to be generated again.
+   */
+  protected Element originatingElement;
   protected TypeName parametrizedClassName;
   protected ClassName generatedClassName;
   protected TypeName boundObjectTypeName;
@@ -184,6 +189,10 @@ abstract class GeneratedModelInfo {
     return methodsReturningClassType;
   }
 
+  Element getOriginatingElement() {
+    return originatingElement;
+  }
+
   ClassName getGeneratedName() {
     return generatedClassName;
   }
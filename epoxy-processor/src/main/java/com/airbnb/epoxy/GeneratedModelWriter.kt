@@ -123,6 +123,24 @@ internal class GeneratedModelWriter(
             boundObjectParam: ParameterSpec
         ) {
         }
+
+        /**
+         * Opportunity to add code to the getChangedAttributes method. The code should set the bit
+         * set index of each attribute that differs from the previous model.
+         */
+        open fun addToGetChangedAttributesMethod(
+            methodBuilder: Builder,
+            changedAttributesName: String
+        ) {
+        }
+
+        /** Opportunity to add code to the bind method that is given the changed attributes. */
+        open fun addToBindWithChangedAttributesMethod(
+            methodBuilder: Builder,
+            boundObjectParam: ParameterSpec,
+            changedAttributesParam: ParameterSpec
+        ) {
+        }
     }
 
     fun writeFilesForViewInterfaces() {
@@ -171,6 +189,8 @@ internal class GeneratedModelWriter(
 
             addFromPropertiesMethodIfNeeded(this, info)
 
+            info.originatingElement?.let { addOriginatingElement(it) }
+
             builderHooks?.beforeFinalBuild(this)
 
             addSuperinterface(modelInterfaceWriter.writeInterface(info, this.build().methodSpecs))
@@ -267,14 +287,21 @@ internal class GeneratedModelWriter(
 
         // bit set for tracking what attributes were set
         if (shouldUseBitSet(classInfo)) {
-            fields.add(
-                buildField(BitSet::class.className(), ATTRIBUTES_BITSET_FIELD_NAME) {
-                    addModifiers(Modifier.PRIVATE, Modifier.FINAL)
-                    initializer(
-                        "new \$T(\$L)", BitSet::class.java,
-                        classInfo.attributeInfo.size
-                    )
-                })
+            if (usesLongForBitSet(classInfo)) {
+                fields.add(
+                    buildField(TypeName.LONG, ATTRIBUTES_BITSET_FIELD_NAME) {
+                        addModifiers(Modifier.PRIVATE)
+                    })
+            } else {
+                fields.add(
+                    buildField(BitSet::class.className(), ATTRIBUTES_BITSET_FIELD_NAME) {
+                        addModifiers(Modifier.PRIVATE, Modifier.FINAL)
+                        initializer(
+                            "new \$T(\$L)", BitSet::class.java,
+                            classInfo.attributeInfo.size
+                        )
+                    })
+            }
         }
 
         // Add fields for the bind/unbind listeners
@@ -428,7 +455,7 @@ internal class GeneratedModelWriter(
                             addCode(" && ")
                         }
 
-                        addCode("!\$L", isAttributeSetCode(info, attribute))
+                        addCode("\$L", isAttributeNotSetCode(info, attribute))
                     }
 
                     addCode(") {\n")
@@ -582,7 +609,22 @@ internal class GeneratedModelWriter(
         // If builderhooks is nonnull we assume that it is adding code to the bind methods
         if (builderHooks != null || modelInfo.isStyleable) {
             methods.add(buildBindMethod(boundObjectParam, modelInfo))
-            methods.add(buildBindWithDiffMethod(modelInfo, boundObjectParam))
+
+            val bindWithDiffMethod = buildBindWithDiffMethod(modelInfo, boundObjectParam)
+            methods.add(bindWithDiffMethod)
+
+            // The attributes that changed are found while diffing, so that a rebind on the main
+            // thread doesn't need to compare every attribute with the previous model again.
+            if (shouldUseBitSet(modelInfo)) {
+                methods.add(buildGetChangedAttributesMethod(modelInfo))
+                methods.add(
+                    buildBindWithChangedAttributesMethod(
+                        modelInfo,
+                        boundObjectParam,
+                        bindWithDiffMethod
+                    )
+                )
+            }
         }
 
         val postBind = buildMethod("handlePostBind") {
@@ -831,6 +873,130 @@ internal class GeneratedModelWriter(
         )
     }
 
+    /**
+     * Models with up to 64 attributes return the changed attributes as the bits of a long, so
+     * that a BitSet isn't allocated for every changed item while diffing.
+     */
+    private fun buildGetChangedAttributesMethod(
+        classInfo: GeneratedModelInfo
+    ) = buildMethod(
+        if (usesLongForBitSet(classInfo)) "getChangedAttributeMask" else "getChangedAttributes"
+    ) {
+        val changedAttributesName = "changedAttributes"
+        val usesLong = usesLongForBitSet(classInfo)
+
+        addAnnotation(Override::class.java)
+        addModifiers(PUBLIC)
+        returns(if (usesLong) TypeName.LONG else BitSet::class.className())
+        addParameter(getClassName(UNTYPED_EPOXY_MODEL_TYPE), "previousModel")
+
+        val generatedModelClass = classInfo.generatedClassName
+        beginControlFlow("if (!(previousModel instanceof \$T))", generatedModelClass)
+        addStatement(if (usesLong) "return -1L" else "return null")
+        endControlFlow()
+        addStatement(
+            "\$T that = (\$T) previousModel",
+            generatedModelClass,
+            generatedModelClass
+        )
+        if (usesLong) {
+            addStatement("long \$L = 0", changedAttributesName)
+        } else {
+            addStatement(
+                "\$T \$L = new \$T(\$L)",
+                BitSet::class.java,
+                changedAttributesName,
+                BitSet::class.java,
+                classInfo.attributeInfo.size
+            )
+        }
+
+        classInfo.styleBuilderInfo?.let { styleInfo ->
+            beginControlFlow(
+                "if (!\$T.equals(\$L, that.\$L))",
+                Objects::class.java, PARIS_STYLE_ATTR_NAME, PARIS_STYLE_ATTR_NAME
+            )
+            addStatement(
+                "\$L",
+                setAttributeChangedCode(classInfo, styleInfo, changedAttributesName)
+            )
+            endControlFlow()
+        }
+
+        builderHooks?.addToGetChangedAttributesMethod(this, changedAttributesName)
+
+        addStatement("return \$L", changedAttributesName)
+    }
+
+    private fun buildBindWithChangedAttributesMethod(
+        classInfo: GeneratedModelInfo,
+        boundObjectParam: ParameterSpec,
+        bindWithDiffMethod: MethodSpec
+    ) = buildMethod("bind") {
+
+        val previousModelParam = ParameterSpec.builder(
+            getClassName(UNTYPED_EPOXY_MODEL_TYPE),
+            "previousModel"
+        ).build()
+
+        val usesLong = usesLongForBitSet(classInfo)
+        val changedAttributesParam = ParameterSpec.builder(
+            if (usesLong) TypeName.LONG else BitSet::class.className(),
+            "changedAttributes"
+        ).build()
+
+        addAnnotation(Override::class.java)
+        addModifiers(PUBLIC)
+        addParameter(boundObjectParam)
+        addParameter(previousModelParam)
+        addParameter(changedAttributesParam)
+
+        if (usesLong) {
+            // The mask can't be computed against other model types, in which case it is ignored
+            beginControlFlow(
+                "if (!(\$L instanceof \$T))",
+                previousModelParam.name,
+                classInfo.generatedClassName
+            )
+            addStatement("bind(\$L, \$L)", boundObjectParam.name, previousModelParam.name)
+            addStatement("return")
+            endControlFlow()
+        }
+
+        classInfo.styleBuilderInfo?.let { styleInfo ->
+            beginControlFlow(
+                "\nif (\$L)",
+                isAttributeChangedCode(classInfo, styleInfo, changedAttributesParam.name)
+            )
+            addStyleApplierCode(this, styleInfo, boundObjectParam.name)
+            endControlFlow()
+        }
+
+        // Same as the diff binding, we only call the super diff binding if it is a custom
+        // implementation.
+        if (modelImplementsBindWithDiff(
+                classInfo.superClassElement,
+                bindWithDiffMethod,
+                types,
+                elements
+            )
+        ) {
+            addStatement(
+                "super.bind(\$L, \$L)",
+                boundObjectParam.name,
+                previousModelParam.name
+            )
+        } else {
+            addStatement("super.bind(\$L)", boundObjectParam.name)
+        }
+
+        builderHooks?.addToBindWithChangedAttributesMethod(
+            this,
+            boundObjectParam,
+            changedAttributesParam
+        )
+    }
+
     private fun buildPreBindMethod(
         modelInfo: GeneratedModelInfo,
         viewHolderParam: ParameterSpec,
@@ -1493,7 +1659,14 @@ internal class GeneratedModelWriter(
         addAnnotation(Override::class.java)
         addModifiers(PUBLIC)
         returns(TypeName.INT)
-        addStatement("int $HASH_CODE_RESULT_PROPERTY = super.hashCode()")
+
+        // The hashCode is memoized once the model is frozen, since it can be expensive to compute
+        // for models with large attributes and it is needed several times while diffing.
+        addStatement("int $HASH_CODE_RESULT_PROPERTY = getCachedHashCode()")
+        beginControlFlow("if ($HASH_CODE_RESULT_PROPERTY != 0)")
+        addStatement("return $HASH_CODE_RESULT_PROPERTY")
+        endControlFlow()
+        addStatement("$HASH_CODE_RESULT_PROPERTY = super.hashCode()")
 
         addHashCodeLineForType(
             this,
@@ -1546,7 +1719,7 @@ internal class GeneratedModelWriter(
             )
         }
 
-        addStatement("return $HASH_CODE_RESULT_PROPERTY")
+        addStatement("return cacheHashCode($HASH_CODE_RESULT_PROPERTY)")
     }
 
     private fun generateToString(helperClass: GeneratedModelInfo) = buildMethod("toString") {
@@ -1632,10 +1805,17 @@ internal class GeneratedModelWriter(
             }
 
             if (shouldUseBitSet(modelInfo)) {
-                builder.addStatement(
-                    "\$L.clear(\$L)", ATTRIBUTES_BITSET_FIELD_NAME,
-                    attributeIndex(modelInfo, overload)
-                )
+                if (usesLongForBitSet(modelInfo)) {
+                    builder.addStatement(
+                        "\$L &= ~(1L << \$L)", ATTRIBUTES_BITSET_FIELD_NAME,
+                        attributeIndex(modelInfo, overload)
+                    )
+                } else {
+                    builder.addStatement(
+                        "\$L.clear(\$L)", ATTRIBUTES_BITSET_FIELD_NAME,
+                        attributeIndex(modelInfo, overload)
+                    )
+                }
             }
 
             builder.addStatement(
@@ -1686,7 +1866,11 @@ internal class GeneratedModelWriter(
         addStatement("\$L = null", modelVisibilityChangedListenerFieldName())
 
         if (shouldUseBitSet(helperClass)) {
-            addStatement("\$L.clear()", ATTRIBUTES_BITSET_FIELD_NAME)
+            if (usesLongForBitSet(helperClass)) {
+                addStatement("\$L = 0", ATTRIBUTES_BITSET_FIELD_NAME)
+            } else {
+                addStatement("\$L.clear()", ATTRIBUTES_BITSET_FIELD_NAME)
+            }
         }
 
         helperClass.getAttributeInfo()
@@ -1871,15 +2055,85 @@ internal class GeneratedModelWriter(
 
         fun shouldUseBitSet(info: GeneratedModelInfo): Boolean = info is ModelViewInfo
 
+        /**
+         * Models with up to 64 attributes track which attributes were set with the bits of a long
+         * field instead of a BitSet, which saves allocating the BitSet and its backing array for
+         * every model instance.
+         */
+        private fun usesLongForBitSet(info: GeneratedModelInfo): Boolean =
+            info.attributeInfo.size <= java.lang.Long.SIZE
+
+        /**
+         * Code that checks if the attribute was set on the given model, which defaults to the
+         * model the code is in.
+         */
         fun isAttributeSetCode(
             info: GeneratedModelInfo,
-            attribute: AttributeInfo
-        ) = CodeBlock.of(
-            "\$L.get(\$L)", ATTRIBUTES_BITSET_FIELD_NAME,
-            attributeIndex(info, attribute)
-        )!!
+            attribute: AttributeInfo,
+            modelName: String? = null
+        ): CodeBlock {
+            val bitSet = bitSetFieldCode(modelName)
+            val index = attributeIndex(info, attribute)
+            return if (usesLongForBitSet(info)) {
+                CodeBlock.of("((\$L & (1L << \$L)) != 0)", bitSet, index)
+            } else {
+                CodeBlock.of("\$L.get(\$L)", bitSet, index)
+            }
+        }
+
+        /**
+         * Code that marks the attribute as changed in the changed attributes of the
+         * getChangedAttributes method, which are a long or a BitSet like the assigned attributes.
+         */
+        fun setAttributeChangedCode(
+            info: GeneratedModelInfo,
+            attribute: AttributeInfo,
+            changedAttributesName: String
+        ): CodeBlock {
+            val index = attributeIndex(info, attribute)
+            return if (usesLongForBitSet(info)) {
+                CodeBlock.of("\$L |= (1L << \$L)", changedAttributesName, index)
+            } else {
+                CodeBlock.of("\$L.set(\$L)", changedAttributesName, index)
+            }
+        }
+
+        /** Code that checks if the attribute is marked as changed by [setAttributeChangedCode]. */
+        fun isAttributeChangedCode(
+            info: GeneratedModelInfo,
+            attribute: AttributeInfo,
+            changedAttributesName: String
+        ): CodeBlock {
+            val index = attributeIndex(info, attribute)
+            return if (usesLongForBitSet(info)) {
+                CodeBlock.of("((\$L & (1L << \$L)) != 0)", changedAttributesName, index)
+            } else {
+                CodeBlock.of("\$L.get(\$L)", changedAttributesName, index)
+            }
+        }
+
+        /** The inverse of [isAttributeSetCode]. */
+        fun isAttributeNotSetCode(
+            info: GeneratedModelInfo,
+            attribute: AttributeInfo,
+            modelName: String? = null
+        ): CodeBlock {
+            val bitSet = bitSetFieldCode(modelName)
+            val index = attributeIndex(info, attribute)
+            return if (usesLongForBitSet(info)) {
+                CodeBlock.of("((\$L & (1L << \$L)) == 0)", bitSet, index)
+            } else {
+                CodeBlock.of("!\$L.get(\$L)", bitSet, index)
+            }
+        }
 
-        private fun attributeIndex(
+        private fun bitSetFieldCode(modelName: String?) = if (modelName == null) {
+            ATTRIBUTES_BITSET_FIELD_NAME
+        } else {
+            "$modelName.$ATTRIBUTES_BITSET_FIELD_NAME"
+        }
+
+        fun attributeIndex(
             modelInfo: GeneratedModelInfo,
             attributeInfo: AttributeInfo
         ): Int {
@@ -1896,10 +2150,17 @@ internal class GeneratedModelWriter(
             stringSetter: Builder
         ) {
             if (shouldUseBitSet(modelInfo)) {
-                stringSetter.addStatement(
-                    "\$L.set(\$L)", ATTRIBUTES_BITSET_FIELD_NAME,
-                    attributeIndex(modelInfo, attr)
-                )
+                if (usesLongForBitSet(modelInfo)) {
+                    stringSetter.addStatement(
+                        "\$L |= (1L << \$L)", ATTRIBUTES_BITSET_FIELD_NAME,
+                        attributeIndex(modelInfo, attr)
+                    )
+                } else {
+                    stringSetter.addStatement(
+                        "\$L.set(\$L)", ATTRIBUTES_BITSET_FIELD_NAME,
+                        attributeIndex(modelInfo, attr)
+                    )
+                }
             }
         }
 
@@ -7,6 +7,7 @@ import com.squareup.javapoet.ParameterSpec
 import com.squareup.javapoet.ParameterizedTypeName
 import com.squareup.javapoet.TypeName
 import javax.annotation.processing.Filer
+import javax.lang.model.element.Element
 import javax.lang.model.element.Modifier
 import javax.lang.model.util.Types
 
@@ -25,6 +26,7 @@ internal class ModelBuilderInterfaceWriter(
 ) {
 
     private val viewInterfacesToGenerate = mutableMapOf<ClassName, Set<MethodDetails>>()
+    private val viewInterfaceOriginatingElements = mutableMapOf<ClassName, MutableList<Element>>()
 
     /** These setters can't be used with models in an EpoxyController, they were made for EpoxyAdapter. */
     private val blackListedLegacySetterNames = setOf("hide", "show", "reset")
@@ -49,12 +51,17 @@ internal class ModelBuilderInterfaceWriter(
                             it,
                             interfaceMethods.map { MethodDetails(it) }.toSet()
                         ) { set1, set2 -> set1 intersect set2 }
+
+                    viewInterfaceOriginatingElements
+                        .getOrPut(it) { mutableListOf() }
+                        .add(modelInfo.viewElement)
                 }
             }
 
             addModifiers(Modifier.PUBLIC)
             addTypeVariables(modelInfo.typeVariables)
             addMethods(interfaceMethods)
+            modelInfo.originatingElement?.let { addOriginatingElement(it) }
         }
 
         JavaFile.builder(modelInfo.generatedClassName.packageName(), modelInterface)
@@ -115,6 +122,10 @@ internal class ModelBuilderInterfaceWriter(
                         returns(interfaceName)
                     }
                 })
+
+                viewInterfaceOriginatingElements[interfaceName]?.forEach {
+                    addOriginatingElement(it)
+                }
             }
 
             JavaFile.builder(interfaceName.packageName(), interfaceSpec)
@@ -123,6 +134,7 @@ internal class ModelBuilderInterfaceWriter(
         }
 
         viewInterfacesToGenerate.clear()
+        viewInterfaceOriginatingElements.clear()
     }
 
     /** A wrapper around MethodSpec that allows us to compare methods with equality that only
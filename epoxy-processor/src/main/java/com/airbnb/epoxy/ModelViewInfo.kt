@@ -47,6 +47,7 @@ internal class ModelViewInfo(
 
     init {
         superClassElement = lookUpSuperClassElement()
+        originatingElement = viewElement
         this.superClassName = ParameterizedTypeName
             .get(ClassName.get(superClassElement), TypeName.get(viewElement.asType()))
 
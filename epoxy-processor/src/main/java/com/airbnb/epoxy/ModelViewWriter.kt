@@ -168,7 +168,12 @@ internal class ModelViewWriter(
                                 )
                             } else {
                                 beginControlFlow(
-                                    "if (!that.\$L || \$L)", isAttributeSetCode,
+                                    "if (\$L || \$L)",
+                                    GeneratedModelWriter.isAttributeNotSetCode(
+                                        modelInfo,
+                                        attribute,
+                                        "that"
+                                    ),
                                     GeneratedModelWriter.notEqualsCodeBlock(attribute)
                                 )
                             }
@@ -189,18 +194,121 @@ internal class ModelViewWriter(
                         val defaultAttribute =
                             attributeGroup.defaultAttribute as ViewAttributeInfo
 
-                        val ifConditionArgs = StringBuilder().apply {
-                            attributes.indices.forEach {
-                                if (it != 0) {
-                                    append(" || ")
-                                }
-                                append("that.\$L")
+                        val ifCondition = attributes
+                            .map { GeneratedModelWriter.isAttributeSetCode(modelInfo, it, "that") }
+                            .let { CodeBlock.join(it, " || ") }
+
+                        methodBuilder
+                            .addComment(
+                                "A value was not set so we should use the default value, " +
+                                    "but we only need to set it if the previous model " +
+                                    "had a custom value set."
+                            )
+                            .beginControlFlow("else if (\$L)", ifCondition)
+                            .addCode(
+                                buildCodeBlockToSetAttribute(
+                                    objectName = boundObjectParam.name,
+                                    attr = defaultAttribute,
+                                    useKotlinDefaultIfAvailable = true
+                                )
+                            )
+                            .endControlFlow()
+                    }
+                }
+            }
+
+            override fun addToGetChangedAttributesMethod(
+                methodBuilder: MethodSpec.Builder,
+                changedAttributesName: String
+            ) {
+                for (attributeGroup in modelInfo.attributeGroups) {
+                    val attributes = attributeGroup.attributes
+                    val noConditionals = attributes.size == 1 &&
+                        !(attributes.first() as ViewAttributeInfo).hasDefaultKotlinValue
+
+                    for (attribute in attributes) {
+                        methodBuilder.apply {
+                            if (noConditionals) {
+                                GeneratedModelWriter.startNotEqualsControlFlow(this, attribute)
+                            } else {
+                                // Whether the attribute is set is included so that the bind
+                                // knows if the previous model had a custom value in the group
+                                beginControlFlow(
+                                    "if (\$L != \$L || \$L)",
+                                    GeneratedModelWriter.isAttributeSetCode(modelInfo, attribute),
+                                    GeneratedModelWriter.isAttributeSetCode(
+                                        modelInfo,
+                                        attribute,
+                                        "that"
+                                    ),
+                                    GeneratedModelWriter.notEqualsCodeBlock(attribute)
+                                )
                             }
+
+                            addStatement(
+                                "\$L",
+                                GeneratedModelWriter.setAttributeChangedCode(
+                                    modelInfo,
+                                    attribute,
+                                    changedAttributesName
+                                )
+                            )
+                            endControlFlow()
                         }
+                    }
+                }
+            }
+
+            override fun addToBindWithChangedAttributesMethod(
+                methodBuilder: MethodSpec.Builder,
+                boundObjectParam: ParameterSpec,
+                changedAttributesParam: ParameterSpec
+            ) {
+                fun isAttributeChangedCode(attribute: AttributeInfo) =
+                    GeneratedModelWriter.isAttributeChangedCode(
+                        modelInfo,
+                        attribute,
+                        changedAttributesParam.name
+                    )
 
-                        val ifConditionValues = attributes.map {
-                            GeneratedModelWriter.isAttributeSetCode(modelInfo, it)
+                for (attributeGroup in modelInfo.attributeGroups) {
+                    val attributes = attributeGroup.attributes
+                    val noConditionals = attributes.size == 1 &&
+                        !(attributes.first() as ViewAttributeInfo).hasDefaultKotlinValue
+
+                    methodBuilder.addCode("\n")
+
+                    for ((index, attribute) in attributes.withIndex()) {
+                        methodBuilder.apply {
+                            if (!noConditionals) {
+                                beginControlFlow(
+                                    "${if (index != 0) "else " else ""}if (\$L)",
+                                    GeneratedModelWriter.isAttributeSetCode(modelInfo, attribute)
+                                )
+                            }
+
+                            beginControlFlow("if (\$L)", isAttributeChangedCode(attribute))
+                            addCode(
+                                buildCodeBlockToSetAttribute(
+                                    boundObjectParam.name,
+                                    attribute as ViewAttributeInfo
+                                )
+                            )
+                            endControlFlow()
+
+                            if (!noConditionals) {
+                                endControlFlow()
+                            }
                         }
+                    }
+
+                    if (!attributeGroup.isRequired && !noConditionals) {
+                        val defaultAttribute =
+                            attributeGroup.defaultAttribute as ViewAttributeInfo
+
+                        val ifCondition = attributes
+                            .map { isAttributeChangedCode(it) }
+                            .let { CodeBlock.join(it, " || ") }
 
                         methodBuilder
                             .addComment(
@@ -208,10 +316,7 @@ internal class ModelViewWriter(
                                     "but we only need to set it if the previous model " +
                                     "had a custom value set."
                             )
-                            .beginControlFlow(
-                                "else if ($ifConditionArgs)",
-                                *ifConditionValues.toTypedArray()
-                            )
+                            .beginControlFlow("else if (\$L)", ifCondition)
                             .addCode(
                                 buildCodeBlockToSetAttribute(
                                     objectName = boundObjectParam.name,
@@ -9,7 +9,9 @@ import javax.tools.JavaFileObject;
 import static com.google.common.truth.Truth.assert_;
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
 import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
 public class ControllerProcessorTest {
 
@@ -32,6 +34,30 @@ public class ControllerProcessorTest {
         .generatesSources(generatedHelper);
   }
 
+  @Test
+  public void controllerWithAutoModelGeneratesHelperRegistry() {
+    JavaFileObject model = JavaFileObjects
+        .forResource(GuavaPatch.patchResource("BasicModelWithAttribute.java"));
+
+    JavaFileObject controller = JavaFileObjects
+        .forResource(GuavaPatch.patchResource("ControllerWithAutoModel.java"));
+
+    JavaFileObject generatedRegistry = JavaFileObjects
+        .forResource(GuavaPatch.patchResource("EpoxyControllerHelperRegistry_eb6c1ae0.java"));
+
+    assert_().about(javaSources())
+        .that(asList(model, controller))
+        .processedWith(new EpoxyProcessor())
+        .compilesWithoutError()
+        .and()
+        .generatesSources(generatedRegistry)
+        .and()
+        .generatesFileNamed(CLASS_OUTPUT, "",
+            "META-INF/services/com.airbnb.epoxy.ControllerHelperRegistry")
+        .withStringContents(UTF_8,
+            "com.airbnb.epoxy.adapter.EpoxyControllerHelperRegistry_eb6c1ae0\n");
+  }
+
   @Test
   public void controllerWithAutoModelWithoutValidation() {
     JavaFileObject model = JavaFileObjects
@@ -3,6 +3,8 @@ package com.airbnb.epoxy
 import com.airbnb.epoxy.ProcessorTestUtils.assertGeneration
 import com.airbnb.epoxy.ProcessorTestUtils.assertGenerationError
 import com.google.common.truth.Truth.assert_
+import com.google.testing.compile.CompilationSubject.assertThat
+import com.google.testing.compile.Compiler.javac
 import com.google.testing.compile.JavaFileObjects
 import com.google.testing.compile.JavaSourcesSubjectFactory.javaSources
 import java.util.Arrays.asList
@@ -234,6 +236,32 @@ class ViewProcessorTest {
         assertGeneration("GridSpanCountView.java", "GridSpanCountViewModel_.java")
     }
 
+    @Test
+    fun moreThan64PropsUsesBitSet() {
+        val compilation = javac()
+            .withProcessors(EpoxyProcessor())
+            .compile(JavaFileObjects.forResource("ManyPropsView.java".patchResource()))
+
+        assertThat(compilation).succeeded()
+
+        // The bits of a long can't fit all 65 attributes, so BitSets are used instead
+        assertThat(compilation)
+            .generatedSourceFile("com.airbnb.epoxy.ManyPropsViewModel_")
+            .contentsAsUtf8String()
+            .apply {
+                contains(
+                    "private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(65);"
+                )
+                contains("assignedAttributes_epoxyGeneratedModel.set(64);")
+                contains("assignedAttributes_epoxyGeneratedModel.clear();")
+                contains("public BitSet getChangedAttributes(EpoxyModel previousModel) {")
+                contains("BitSet changedAttributes = new BitSet(65);")
+                contains("changedAttributes.set(64);")
+                contains("if (changedAttributes.get(64)) {")
+                doesNotContain("getChangedAttributeMask")
+            }
+    }
+
     @Test
     fun baseModel() {
         val model = JavaFileObjects
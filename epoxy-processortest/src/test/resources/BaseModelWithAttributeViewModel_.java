@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements GeneratedModel<BaseModelView>, BaseModelViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<BaseModelViewModel_, BaseModelView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -38,7 +37,7 @@ public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setClickListener");
     }
   }
@@ -69,6 +68,32 @@ public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof BaseModelViewModel_)) {
+      return -1L;
+    }
+    BaseModelViewModel_ that = (BaseModelViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((clickListener_String != null ? !clickListener_String.equals(that.clickListener_String) : that.clickListener_String != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final BaseModelView object, EpoxyModel previousModel, long changedAttributes) {
+    if (!(previousModel instanceof BaseModelViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setClickListener(clickListener_String);
+    }
+  }
+
   @Override
   public void handlePostBind(final BaseModelView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -165,7 +190,7 @@ public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements
     if (clickListener == null) {
       throw new IllegalArgumentException("clickListener cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.clickListener_String = clickListener;
     return this;
@@ -177,7 +202,7 @@ public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements
   }
 
   public BaseModelViewModel_ baseModelString(String baseModelString) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     super.baseModelString = baseModelString;
     return this;
@@ -265,7 +290,7 @@ public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.clickListener_String = null;
     super.baseModelString = null;
     super.reset();
@@ -307,14 +332,18 @@ public class BaseModelViewModel_ extends TestBaseModel<BaseModelView> implements
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (clickListener_String != null ? clickListener_String.hashCode() : 0);
     _result = 31 * _result + (baseModelString != null ? baseModelString.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
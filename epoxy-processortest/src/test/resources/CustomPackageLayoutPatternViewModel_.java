@@ -7,12 +7,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class CustomPackageLayoutPatternViewModel_ extends EpoxyModel<CustomPackageLayoutPatternView> implements GeneratedModel<CustomPackageLayoutPatternView>, CustomPackageLayoutPatternViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(0);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<CustomPackageLayoutPatternViewModel_, CustomPackageLayoutPatternView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -49,6 +48,26 @@ public class CustomPackageLayoutPatternViewModel_ extends EpoxyModel<CustomPacka
     super.bind(object);
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof CustomPackageLayoutPatternViewModel_)) {
+      return -1L;
+    }
+    CustomPackageLayoutPatternViewModel_ that = (CustomPackageLayoutPatternViewModel_) previousModel;
+    long changedAttributes = 0;
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final CustomPackageLayoutPatternView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof CustomPackageLayoutPatternViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+  }
+
   @Override
   public void handlePostBind(final CustomPackageLayoutPatternView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -217,7 +236,7 @@ public class CustomPackageLayoutPatternViewModel_ extends EpoxyModel<CustomPacka
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     super.reset();
     return this;
   }
@@ -251,12 +270,16 @@ public class CustomPackageLayoutPatternViewModel_ extends EpoxyModel<CustomPacka
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -627,7 +627,11 @@ public class DataBindingModelWithAllFieldTypesNoValidation_ extends DataBindingM
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -655,7 +659,7 @@ public class DataBindingModelWithAllFieldTypesNoValidation_ extends DataBindingM
     _result = 31 * _result + (valueString != null ? valueString.hashCode() : 0);
     _result = 31 * _result + (valueObject != null ? valueObject.hashCode() : 0);
     _result = 31 * _result + (valueList != null ? valueList.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -11,12 +11,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements GeneratedModel<DoNotHashView>, DoNotHashViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(3);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<DoNotHashViewModel_, DoNotHashView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -45,13 +44,13 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(1)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) == 0)) {
     	throw new IllegalStateException("A value is required for setClickListener");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitle");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(2)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) == 0)) {
     	throw new IllegalStateException("A value is required for normalProp");
     }
   }
@@ -92,6 +91,46 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof DoNotHashViewModel_)) {
+      return -1L;
+    }
+    DoNotHashViewModel_ that = (DoNotHashViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((clickListener_OnClickListener == null) != (that.clickListener_OnClickListener == null))) {
+      changedAttributes |= (1L << 1);
+    }
+    if (((title_CharSequence == null) != (that.title_CharSequence == null))) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((normalProp_CharSequence != null ? !normalProp_CharSequence.equals(that.normalProp_CharSequence) : that.normalProp_CharSequence != null)) {
+      changedAttributes |= (1L << 2);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final DoNotHashView object, EpoxyModel previousModel, long changedAttributes) {
+    if (!(previousModel instanceof DoNotHashViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.setClickListener(clickListener_OnClickListener);
+    }
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setTitle(title_CharSequence);
+    }
+
+    if (((changedAttributes & (1L << 2)) != 0)) {
+      object.normalProp(normalProp_CharSequence);
+    }
+  }
+
   @Override
   public void handlePostBind(final DoNotHashView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -188,7 +227,7 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.title_CharSequence = title;
     return this;
@@ -203,7 +242,7 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public DoNotHashViewModel_ clickListener(
       @NonNull final OnModelClickListener<DoNotHashViewModel_, DoNotHashView> clickListener) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     if (clickListener == null) {
       this.clickListener_OnClickListener = null;
@@ -223,7 +262,7 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
     if (clickListener == null) {
       throw new IllegalArgumentException("clickListener cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.clickListener_OnClickListener = clickListener;
     return this;
@@ -243,7 +282,7 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
     if (normalProp == null) {
       throw new IllegalArgumentException("normalProp cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     onMutation();
     this.normalProp_CharSequence = normalProp;
     return this;
@@ -332,7 +371,7 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_CharSequence = null;
     this.clickListener_OnClickListener = null;
     this.normalProp_CharSequence = null;
@@ -378,7 +417,11 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -386,7 +429,7 @@ public class DoNotHashViewModel_ extends EpoxyModel<DoNotHashView> implements Ge
     _result = 31 * _result + (title_CharSequence != null ? 1 : 0);
     _result = 31 * _result + (clickListener_OnClickListener != null ? 1 : 0);
     _result = 31 * _result + (normalProp_CharSequence != null ? normalProp_CharSequence.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
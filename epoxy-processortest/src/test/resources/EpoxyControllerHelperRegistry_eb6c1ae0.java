@@ -0,0 +1,21 @@
+package com.airbnb.epoxy.adapter;
+
+import com.airbnb.epoxy.ControllerHelper;
+import com.airbnb.epoxy.ControllerHelperRegistry;
+import com.airbnb.epoxy.EpoxyController;
+import java.lang.Class;
+import java.lang.Override;
+import java.lang.SuppressWarnings;
+
+/**
+ * Generated file. Do not modify! */
+public final class EpoxyControllerHelperRegistry_eb6c1ae0 implements ControllerHelperRegistry {
+  @Override
+  @SuppressWarnings("unchecked")
+  public ControllerHelper<?> createHelper(Class<?> controllerClass, EpoxyController controller) {
+    if (controllerClass == ControllerWithAutoModel.class) {
+      return new ControllerWithAutoModel_EpoxyHelper((ControllerWithAutoModel) controller);
+    }
+    return null;
+  }
+}
\ No newline at end of file
@@ -7,12 +7,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class LayoutOverloadsViewModel_ extends EpoxyModel<LayoutOverloadsView> implements GeneratedModel<LayoutOverloadsView>, LayoutOverloadsViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(0);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<LayoutOverloadsViewModel_, LayoutOverloadsView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -49,6 +48,26 @@ public class LayoutOverloadsViewModel_ extends EpoxyModel<LayoutOverloadsView> i
     super.bind(object);
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof LayoutOverloadsViewModel_)) {
+      return -1L;
+    }
+    LayoutOverloadsViewModel_ that = (LayoutOverloadsViewModel_) previousModel;
+    long changedAttributes = 0;
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final LayoutOverloadsView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof LayoutOverloadsViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+  }
+
   @Override
   public void handlePostBind(final LayoutOverloadsView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -225,7 +244,7 @@ public class LayoutOverloadsViewModel_ extends EpoxyModel<LayoutOverloadsView> i
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     super.reset();
     return this;
   }
@@ -259,12 +278,16 @@ public class LayoutOverloadsViewModel_ extends EpoxyModel<LayoutOverloadsView> i
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
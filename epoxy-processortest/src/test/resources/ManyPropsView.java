@@ -0,0 +1,337 @@
+package com.airbnb.epoxy;
+
+import android.content.Context;
+import android.view.View;
+
+@ModelView(defaultLayout = 1)
+public class ManyPropsView extends View {
+
+  public ManyPropsView(Context context) {
+    super(context);
+  }
+
+  @ModelProp
+  public void setProp00(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp01(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp02(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp03(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp04(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp05(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp06(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp07(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp08(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp09(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp10(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp11(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp12(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp13(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp14(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp15(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp16(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp17(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp18(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp19(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp20(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp21(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp22(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp23(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp24(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp25(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp26(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp27(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp28(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp29(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp30(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp31(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp32(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp33(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp34(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp35(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp36(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp37(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp38(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp39(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp40(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp41(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp42(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp43(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp44(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp45(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp46(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp47(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp48(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp49(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp50(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp51(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp52(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp53(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp54(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp55(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp56(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp57(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp58(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp59(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp60(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp61(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp62(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp63(String value) {
+
+  }
+
+  @ModelProp
+  public void setProp64(String value) {
+
+  }
+}
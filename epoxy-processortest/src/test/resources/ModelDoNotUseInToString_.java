@@ -269,7 +269,11 @@ public class ModelDoNotUseInToString_ extends ModelDoNotUseInToString implements
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -277,7 +281,7 @@ public class ModelDoNotUseInToString_ extends ModelDoNotUseInToString implements
     _result = 31 * _result + value;
     _result = 31 * _result + value2;
     _result = 31 * _result + (value3 != null ? value3.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
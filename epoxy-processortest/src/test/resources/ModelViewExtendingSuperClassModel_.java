@@ -9,12 +9,11 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class ModelViewExtendingSuperClassModel_ extends EpoxyModel<ModelViewExtendingSuperClass> implements GeneratedModel<ModelViewExtendingSuperClass>, ModelViewExtendingSuperClassModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<ModelViewExtendingSuperClassModel_, ModelViewExtendingSuperClass> onModelBoundListener_epoxyGeneratedModel;
 
@@ -81,6 +80,40 @@ public class ModelViewExtendingSuperClassModel_ extends EpoxyModel<ModelViewExte
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof ModelViewExtendingSuperClassModel_)) {
+      return -1L;
+    }
+    ModelViewExtendingSuperClassModel_ that = (ModelViewExtendingSuperClassModel_) previousModel;
+    long changedAttributes = 0;
+    if ((subClassValue_Int != that.subClassValue_Int)) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((superClassValue_Int != that.superClassValue_Int)) {
+      changedAttributes |= (1L << 1);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final ModelViewExtendingSuperClass object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof ModelViewExtendingSuperClassModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.subClassValue(subClassValue_Int);
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.superClassValue(superClassValue_Int);
+    }
+  }
+
   @Override
   public void handlePostBind(final ModelViewExtendingSuperClass object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -179,7 +212,7 @@ public class ModelViewExtendingSuperClassModel_ extends EpoxyModel<ModelViewExte
    * @see ModelViewExtendingSuperClass#subClassValue(int)
    */
   public ModelViewExtendingSuperClassModel_ subClassValue(int subClassValue) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.subClassValue_Int = subClassValue;
     return this;
@@ -195,7 +228,7 @@ public class ModelViewExtendingSuperClassModel_ extends EpoxyModel<ModelViewExte
    * @see ModelViewExtendingSuperClass#superClassValue(int)
    */
   public ModelViewExtendingSuperClassModel_ superClassValue(int superClassValue) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.superClassValue_Int = superClassValue;
     return this;
@@ -284,7 +317,7 @@ public class ModelViewExtendingSuperClassModel_ extends EpoxyModel<ModelViewExte
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.subClassValue_Int = 0;
     this.superClassValue_Int = 0;
     super.reset();
@@ -326,14 +359,18 @@ public class ModelViewExtendingSuperClassModel_ extends EpoxyModel<ModelViewExte
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + subClassValue_Int;
     _result = 31 * _result + superClassValue_Int;
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
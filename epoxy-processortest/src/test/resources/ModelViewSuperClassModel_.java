@@ -9,12 +9,11 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class ModelViewSuperClassModel_ extends EpoxyModel<ModelViewSuperClass> implements GeneratedModel<ModelViewSuperClass>, ModelViewSuperClassModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<ModelViewSuperClassModel_, ModelViewSuperClass> onModelBoundListener_epoxyGeneratedModel;
 
@@ -72,6 +71,33 @@ public class ModelViewSuperClassModel_ extends EpoxyModel<ModelViewSuperClass> i
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof ModelViewSuperClassModel_)) {
+      return -1L;
+    }
+    ModelViewSuperClassModel_ that = (ModelViewSuperClassModel_) previousModel;
+    long changedAttributes = 0;
+    if ((superClassValue_Int != that.superClassValue_Int)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final ModelViewSuperClass object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof ModelViewSuperClassModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.superClassValue(superClassValue_Int);
+    }
+  }
+
   @Override
   public void handlePostBind(final ModelViewSuperClass object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -167,7 +193,7 @@ public class ModelViewSuperClassModel_ extends EpoxyModel<ModelViewSuperClass> i
    * @see ModelViewSuperClass#superClassValue(int)
    */
   public ModelViewSuperClassModel_ superClassValue(int superClassValue) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.superClassValue_Int = superClassValue;
     return this;
@@ -255,7 +281,7 @@ public class ModelViewSuperClassModel_ extends EpoxyModel<ModelViewSuperClass> i
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.superClassValue_Int = 0;
     super.reset();
     return this;
@@ -293,13 +319,17 @@ public class ModelViewSuperClassModel_ extends EpoxyModel<ModelViewSuperClass> i
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + superClassValue_Int;
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
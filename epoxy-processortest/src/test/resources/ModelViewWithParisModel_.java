@@ -17,7 +17,6 @@ import java.lang.Runnable;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
 import java.lang.ref.WeakReference;
-import java.util.BitSet;
 import java.util.Objects;
 
 /**
@@ -31,7 +30,7 @@ public class ModelViewWithParisModel_ extends EpoxyModel<ModelViewWithParis> imp
 
   private static WeakReference<Style> parisStyleReference_default;
 
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<ModelViewWithParisModel_, ModelViewWithParis> onModelBoundListener_epoxyGeneratedModel;
 
@@ -117,6 +116,42 @@ public class ModelViewWithParisModel_ extends EpoxyModel<ModelViewWithParis> imp
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof ModelViewWithParisModel_)) {
+      return -1L;
+    }
+    ModelViewWithParisModel_ that = (ModelViewWithParisModel_) previousModel;
+    long changedAttributes = 0;
+    if (!Objects.equals(style, that.style)) {
+      changedAttributes |= (1L << 1);
+    }
+    if ((value_Int != that.value_Int)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final ModelViewWithParis object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof ModelViewWithParisModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      ModelViewWithParisStyleApplier styleApplier = new ModelViewWithParisStyleApplier(object);
+      styleApplier.apply(style);
+      object.setTag(R.id.epoxy_saved_view_style, style);
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.value = value_Int;
+    }
+  }
+
   @Override
   public void handlePostBind(final ModelViewWithParis object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -205,7 +240,7 @@ public class ModelViewWithParisModel_ extends EpoxyModel<ModelViewWithParis> imp
   }
 
   public ModelViewWithParisModel_ style(Style style) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.style = style;
     return this;
@@ -260,7 +295,7 @@ public class ModelViewWithParisModel_ extends EpoxyModel<ModelViewWithParis> imp
    * @see ModelViewWithParis#value
    */
   public ModelViewWithParisModel_ value(int value) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.value_Int = value;
     return this;
@@ -348,7 +383,7 @@ public class ModelViewWithParisModel_ extends EpoxyModel<ModelViewWithParis> imp
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.value_Int = 0;
     this.style = DEFAULT_PARIS_STYLE;
     super.reset();
@@ -390,14 +425,18 @@ public class ModelViewWithParisModel_ extends EpoxyModel<ModelViewWithParis> imp
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + value_Int;
     _result = 31 * _result + (style != null ? style.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -531,7 +531,11 @@ public class ModelWithAllFieldTypes_ extends ModelWithAllFieldTypes implements G
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -559,7 +563,7 @@ public class ModelWithAllFieldTypes_ extends ModelWithAllFieldTypes implements G
     _result = 31 * _result + (valueString != null ? valueString.hashCode() : 0);
     _result = 31 * _result + (valueObject != null ? valueObject.hashCode() : 0);
     _result = 31 * _result + (valueList != null ? valueList.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -538,7 +538,11 @@ public class ModelWithAllPrivateFieldTypes_ extends ModelWithAllPrivateFieldType
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -566,7 +570,7 @@ public class ModelWithAllPrivateFieldTypes_ extends ModelWithAllPrivateFieldType
     _result = 31 * _result + (getValueString() != null ? getValueString().hashCode() : 0);
     _result = 31 * _result + (getValueObject() != null ? getValueObject().hashCode() : 0);
     _result = 31 * _result + (getValueList() != null ? getValueList().hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -308,14 +308,18 @@ public class ModelWithDataBindingWithoutDonothashBindingModel_ extends DataBindi
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (stringValue != null ? stringValue.hashCode() : 0);
     _result = 31 * _result + (clickListener != null ? clickListener.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class OnVisibilityChangedViewModel_ extends EpoxyModel<OnVisibilityChangedView> implements GeneratedModel<OnVisibilityChangedView>, OnVisibilityChangedViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<OnVisibilityChangedViewModel_, OnVisibilityChangedView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -34,7 +33,7 @@ public class OnVisibilityChangedViewModel_ extends EpoxyModel<OnVisibilityChange
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitle");
     }
   }
@@ -65,6 +64,33 @@ public class OnVisibilityChangedViewModel_ extends EpoxyModel<OnVisibilityChange
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof OnVisibilityChangedViewModel_)) {
+      return -1L;
+    }
+    OnVisibilityChangedViewModel_ that = (OnVisibilityChangedViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((title_CharSequence != null ? !title_CharSequence.equals(that.title_CharSequence) : that.title_CharSequence != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final OnVisibilityChangedView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof OnVisibilityChangedViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setTitle(title_CharSequence);
+    }
+  }
+
   @Override
   public void handlePostBind(final OnVisibilityChangedView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -163,7 +189,7 @@ public class OnVisibilityChangedViewModel_ extends EpoxyModel<OnVisibilityChange
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.title_CharSequence = title;
     return this;
@@ -254,7 +280,7 @@ public class OnVisibilityChangedViewModel_ extends EpoxyModel<OnVisibilityChange
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_CharSequence = null;
     super.reset();
     return this;
@@ -292,13 +318,17 @@ public class OnVisibilityChangedViewModel_ extends EpoxyModel<OnVisibilityChange
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (title_CharSequence != null ? title_CharSequence.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class OnVisibilityStateChangedViewModel_ extends EpoxyModel<OnVisibilityStateChangedView> implements GeneratedModel<OnVisibilityStateChangedView>, OnVisibilityStateChangedViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<OnVisibilityStateChangedViewModel_, OnVisibilityStateChangedView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -34,7 +33,7 @@ public class OnVisibilityStateChangedViewModel_ extends EpoxyModel<OnVisibilityS
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitle");
     }
   }
@@ -65,6 +64,33 @@ public class OnVisibilityStateChangedViewModel_ extends EpoxyModel<OnVisibilityS
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof OnVisibilityStateChangedViewModel_)) {
+      return -1L;
+    }
+    OnVisibilityStateChangedViewModel_ that = (OnVisibilityStateChangedViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((title_CharSequence != null ? !title_CharSequence.equals(that.title_CharSequence) : that.title_CharSequence != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final OnVisibilityStateChangedView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof OnVisibilityStateChangedViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setTitle(title_CharSequence);
+    }
+  }
+
   @Override
   public void handlePostBind(final OnVisibilityStateChangedView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -164,7 +190,7 @@ public class OnVisibilityStateChangedViewModel_ extends EpoxyModel<OnVisibilityS
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.title_CharSequence = title;
     return this;
@@ -255,7 +281,7 @@ public class OnVisibilityStateChangedViewModel_ extends EpoxyModel<OnVisibilityS
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_CharSequence = null;
     super.reset();
     return this;
@@ -293,13 +319,17 @@ public class OnVisibilityStateChangedViewModel_ extends EpoxyModel<OnVisibilityS
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (title_CharSequence != null ? title_CharSequence.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> implements GeneratedModel<PropDefaultsView>, PropDefaultsViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(6);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<PropDefaultsViewModel_, PropDefaultsView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -57,7 +56,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(1)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) == 0)) {
     	throw new IllegalStateException("A value is required for noDefaultSoItIsRequired");
     }
   }
@@ -113,6 +112,68 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof PropDefaultsViewModel_)) {
+      return -1L;
+    }
+    PropDefaultsViewModel_ that = (PropDefaultsViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((primitiveWithExplicitDefault_Int != that.primitiveWithExplicitDefault_Int)) {
+      changedAttributes |= (1L << 3);
+    }
+    if ((defaultsToNull_CharSequence != null ? !defaultsToNull_CharSequence.equals(that.defaultsToNull_CharSequence) : that.defaultsToNull_CharSequence != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((noDefaultSoItIsRequired_CharSequence != null ? !noDefaultSoItIsRequired_CharSequence.equals(that.noDefaultSoItIsRequired_CharSequence) : that.noDefaultSoItIsRequired_CharSequence != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    if ((objectWithDefaultAndNullable_String != null ? !objectWithDefaultAndNullable_String.equals(that.objectWithDefaultAndNullable_String) : that.objectWithDefaultAndNullable_String != null)) {
+      changedAttributes |= (1L << 5);
+    }
+    if ((objectWithDefault_String != null ? !objectWithDefault_String.equals(that.objectWithDefault_String) : that.objectWithDefault_String != null)) {
+      changedAttributes |= (1L << 4);
+    }
+    if ((primitivesHaveImplicitDefaultsAndCannotBeRequired_Int != that.primitivesHaveImplicitDefaultsAndCannotBeRequired_Int)) {
+      changedAttributes |= (1L << 2);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final PropDefaultsView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof PropDefaultsViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 3)) != 0)) {
+      object.primitiveWithExplicitDefault(primitiveWithExplicitDefault_Int);
+    }
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.defaultsToNull(defaultsToNull_CharSequence);
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.noDefaultSoItIsRequired(noDefaultSoItIsRequired_CharSequence);
+    }
+
+    if (((changedAttributes & (1L << 5)) != 0)) {
+      object.objectWithDefaultAndNullable(objectWithDefaultAndNullable_String);
+    }
+
+    if (((changedAttributes & (1L << 4)) != 0)) {
+      object.objectWithDefault(objectWithDefault_String);
+    }
+
+    if (((changedAttributes & (1L << 2)) != 0)) {
+      object.primitivesHaveImplicitDefaultsAndCannotBeRequired(primitivesHaveImplicitDefaultsAndCannotBeRequired_Int);
+    }
+  }
+
   @Override
   public void handlePostBind(final PropDefaultsView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -206,7 +267,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
    * @see PropDefaultsView#defaultsToNull(CharSequence)
    */
   public PropDefaultsViewModel_ defaultsToNull(@Nullable CharSequence defaultsToNull) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.defaultsToNull_CharSequence = defaultsToNull;
     return this;
@@ -227,7 +288,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
     if (noDefaultSoItIsRequired == null) {
       throw new IllegalArgumentException("noDefaultSoItIsRequired cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.noDefaultSoItIsRequired_CharSequence = noDefaultSoItIsRequired;
     return this;
@@ -245,7 +306,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
    */
   public PropDefaultsViewModel_ primitivesHaveImplicitDefaultsAndCannotBeRequired(
       int primitivesHaveImplicitDefaultsAndCannotBeRequired) {
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     onMutation();
     this.primitivesHaveImplicitDefaultsAndCannotBeRequired_Int = primitivesHaveImplicitDefaultsAndCannotBeRequired;
     return this;
@@ -261,7 +322,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
    * @see PropDefaultsView#primitiveWithExplicitDefault(int)
    */
   public PropDefaultsViewModel_ primitiveWithExplicitDefault(int primitiveWithExplicitDefault) {
-    assignedAttributes_epoxyGeneratedModel.set(3);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 3);
     onMutation();
     this.primitiveWithExplicitDefault_Int = primitiveWithExplicitDefault;
     return this;
@@ -280,7 +341,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
     if (objectWithDefault == null) {
       throw new IllegalArgumentException("objectWithDefault cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(4);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 4);
     onMutation();
     this.objectWithDefault_String = objectWithDefault;
     return this;
@@ -298,7 +359,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
    */
   public PropDefaultsViewModel_ objectWithDefaultAndNullable(
       @Nullable String objectWithDefaultAndNullable) {
-    assignedAttributes_epoxyGeneratedModel.set(5);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 5);
     onMutation();
     this.objectWithDefaultAndNullable_String = objectWithDefaultAndNullable;
     return this;
@@ -388,7 +449,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.defaultsToNull_CharSequence = (CharSequence) null;
     this.noDefaultSoItIsRequired_CharSequence = null;
     this.primitivesHaveImplicitDefaultsAndCannotBeRequired_Int = 0;
@@ -446,7 +507,11 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -457,7 +522,7 @@ public class PropDefaultsViewModel_ extends EpoxyModel<PropDefaultsView> impleme
     _result = 31 * _result + primitiveWithExplicitDefault_Int;
     _result = 31 * _result + (objectWithDefault_String != null ? objectWithDefault_String.hashCode() : 0);
     _result = 31 * _result + (objectWithDefaultAndNullable_String != null ? objectWithDefaultAndNullable_String.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
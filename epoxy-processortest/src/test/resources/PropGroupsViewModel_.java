@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements GeneratedModel<PropGroupsView>, PropGroupsViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(14);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<PropGroupsViewModel_, PropGroupsView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -91,7 +90,7 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(12) && !assignedAttributes_epoxyGeneratedModel.get(13)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 12)) == 0) && ((assignedAttributes_epoxyGeneratedModel & (1L << 13)) == 0)) {
     	throw new IllegalStateException("A value is required for requiredGroup");
     }
   }
@@ -105,61 +104,61 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
   @Override
   public void bind(final PropGroupsView object) {
     super.bind(object);
-    if (assignedAttributes_epoxyGeneratedModel.get(4)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 4)) != 0)) {
       object.setPrimitive(primitive_Int);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(5)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 5)) != 0)) {
       object.setPrimitive(primitive_Long);
     }
     else {
       object.setPrimitive(primitive_Int);
     }
-    if (assignedAttributes_epoxyGeneratedModel.get(12)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 12)) != 0)) {
       object.requiredGroup(requiredGroup_String);
     }
     else {
       object.requiredGroup(requiredGroup_CharSequence);
     }
-    if (assignedAttributes_epoxyGeneratedModel.get(8)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 8)) != 0)) {
       object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_Long);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(9)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 9)) != 0)) {
       object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_CharSequence);
     }
     else {
       object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_Long);
     }
-    if (assignedAttributes_epoxyGeneratedModel.get(10)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 10)) != 0)) {
       object.setOneThing(oneThing_Long);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(11)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 11)) != 0)) {
       object.setAnotherThing(anotherThing_CharSequence);
     }
     else {
       object.setOneThing(oneThing_Long);
     }
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
       object.setSomething(something_CharSequence);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
       object.setSomething(something_Int);
     }
     else {
       object.setSomething(something_CharSequence);
     }
-    if (assignedAttributes_epoxyGeneratedModel.get(2)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) != 0)) {
       object.setSomethingElse(somethingElse_CharSequence);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(3)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 3)) != 0)) {
       object.setSomethingElse(somethingElse_Int);
     }
     else {
       object.setSomethingElse(somethingElse_Int);
     }
-    if (assignedAttributes_epoxyGeneratedModel.get(6)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 6)) != 0)) {
       object.setPrimitiveWithDefault(primitiveWithDefault_Int);
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(7)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 7)) != 0)) {
       object.setPrimitiveWithDefault(primitiveWithDefault_Long);
     }
     else {
@@ -176,104 +175,267 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     PropGroupsViewModel_ that = (PropGroupsViewModel_) previousModel;
     super.bind(object);
 
-    if (assignedAttributes_epoxyGeneratedModel.get(4)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 4)) != 0)) {
       if ((primitive_Int != that.primitive_Int)) {
         object.setPrimitive(primitive_Int);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(5)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 5)) != 0)) {
       if ((primitive_Long != that.primitive_Long)) {
         object.setPrimitive(primitive_Long);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(4) || that.assignedAttributes_epoxyGeneratedModel.get(5)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 4)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 5)) != 0)) {
       object.setPrimitive(primitive_Int);
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(12)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(12) || (requiredGroup_String != null ? !requiredGroup_String.equals(that.requiredGroup_String) : that.requiredGroup_String != null)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 12)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 12)) == 0) || (requiredGroup_String != null ? !requiredGroup_String.equals(that.requiredGroup_String) : that.requiredGroup_String != null)) {
         object.requiredGroup(requiredGroup_String);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(13)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(13) || (requiredGroup_CharSequence != null ? !requiredGroup_CharSequence.equals(that.requiredGroup_CharSequence) : that.requiredGroup_CharSequence != null)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 13)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 13)) == 0) || (requiredGroup_CharSequence != null ? !requiredGroup_CharSequence.equals(that.requiredGroup_CharSequence) : that.requiredGroup_CharSequence != null)) {
         object.requiredGroup(requiredGroup_CharSequence);
       }
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(8)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 8)) != 0)) {
       if ((primitiveAndObjectGroupWithPrimitiveDefault_Long != that.primitiveAndObjectGroupWithPrimitiveDefault_Long)) {
         object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_Long);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(9)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(9) || (primitiveAndObjectGroupWithPrimitiveDefault_CharSequence != null ? !primitiveAndObjectGroupWithPrimitiveDefault_CharSequence.equals(that.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence) : that.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence != null)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 9)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 9)) == 0) || (primitiveAndObjectGroupWithPrimitiveDefault_CharSequence != null ? !primitiveAndObjectGroupWithPrimitiveDefault_CharSequence.equals(that.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence) : that.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence != null)) {
         object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_CharSequence);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(8) || that.assignedAttributes_epoxyGeneratedModel.get(9)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 8)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 9)) != 0)) {
       object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_Long);
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(10)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 10)) != 0)) {
       if ((oneThing_Long != that.oneThing_Long)) {
         object.setOneThing(oneThing_Long);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(11)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(11) || (anotherThing_CharSequence != null ? !anotherThing_CharSequence.equals(that.anotherThing_CharSequence) : that.anotherThing_CharSequence != null)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 11)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 11)) == 0) || (anotherThing_CharSequence != null ? !anotherThing_CharSequence.equals(that.anotherThing_CharSequence) : that.anotherThing_CharSequence != null)) {
         object.setAnotherThing(anotherThing_CharSequence);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(10) || that.assignedAttributes_epoxyGeneratedModel.get(11)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 10)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 11)) != 0)) {
       object.setOneThing(oneThing_Long);
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(0) || (something_CharSequence != null ? !something_CharSequence.equals(that.something_CharSequence) : that.something_CharSequence != null)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0) || (something_CharSequence != null ? !something_CharSequence.equals(that.something_CharSequence) : that.something_CharSequence != null)) {
         object.setSomething(something_CharSequence);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
       if ((something_Int != that.something_Int)) {
         object.setSomething(something_Int);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(0) || that.assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
       object.setSomething(something_CharSequence);
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(2)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(2) || (somethingElse_CharSequence != null ? !somethingElse_CharSequence.equals(that.somethingElse_CharSequence) : that.somethingElse_CharSequence != null)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 2)) == 0) || (somethingElse_CharSequence != null ? !somethingElse_CharSequence.equals(that.somethingElse_CharSequence) : that.somethingElse_CharSequence != null)) {
         object.setSomethingElse(somethingElse_CharSequence);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(3)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 3)) != 0)) {
       if ((somethingElse_Int != that.somethingElse_Int)) {
         object.setSomethingElse(somethingElse_Int);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(2) || that.assignedAttributes_epoxyGeneratedModel.get(3)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 2)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 3)) != 0)) {
       object.setSomethingElse(somethingElse_Int);
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(6)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 6)) != 0)) {
       if ((primitiveWithDefault_Int != that.primitiveWithDefault_Int)) {
         object.setPrimitiveWithDefault(primitiveWithDefault_Int);
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(7)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 7)) != 0)) {
       if ((primitiveWithDefault_Long != that.primitiveWithDefault_Long)) {
         object.setPrimitiveWithDefault(primitiveWithDefault_Long);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(6) || that.assignedAttributes_epoxyGeneratedModel.get(7)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 6)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 7)) != 0)) {
+      object.setPrimitiveWithDefault(primitiveWithDefault_Long);
+    }
+  }
+
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof PropGroupsViewModel_)) {
+      return -1L;
+    }
+    PropGroupsViewModel_ that = (PropGroupsViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 4)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 4)) != 0) || (primitive_Int != that.primitive_Int)) {
+      changedAttributes |= (1L << 4);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 5)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 5)) != 0) || (primitive_Long != that.primitive_Long)) {
+      changedAttributes |= (1L << 5);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 12)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 12)) != 0) || (requiredGroup_String != null ? !requiredGroup_String.equals(that.requiredGroup_String) : that.requiredGroup_String != null)) {
+      changedAttributes |= (1L << 12);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 13)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 13)) != 0) || (requiredGroup_CharSequence != null ? !requiredGroup_CharSequence.equals(that.requiredGroup_CharSequence) : that.requiredGroup_CharSequence != null)) {
+      changedAttributes |= (1L << 13);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 8)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 8)) != 0) || (primitiveAndObjectGroupWithPrimitiveDefault_Long != that.primitiveAndObjectGroupWithPrimitiveDefault_Long)) {
+      changedAttributes |= (1L << 8);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 9)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 9)) != 0) || (primitiveAndObjectGroupWithPrimitiveDefault_CharSequence != null ? !primitiveAndObjectGroupWithPrimitiveDefault_CharSequence.equals(that.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence) : that.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence != null)) {
+      changedAttributes |= (1L << 9);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 10)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 10)) != 0) || (oneThing_Long != that.oneThing_Long)) {
+      changedAttributes |= (1L << 10);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 11)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 11)) != 0) || (anotherThing_CharSequence != null ? !anotherThing_CharSequence.equals(that.anotherThing_CharSequence) : that.anotherThing_CharSequence != null)) {
+      changedAttributes |= (1L << 11);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || (something_CharSequence != null ? !something_CharSequence.equals(that.something_CharSequence) : that.something_CharSequence != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) || (something_Int != that.something_Int)) {
+      changedAttributes |= (1L << 1);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 2)) != 0) || (somethingElse_CharSequence != null ? !somethingElse_CharSequence.equals(that.somethingElse_CharSequence) : that.somethingElse_CharSequence != null)) {
+      changedAttributes |= (1L << 2);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 3)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 3)) != 0) || (somethingElse_Int != that.somethingElse_Int)) {
+      changedAttributes |= (1L << 3);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 6)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 6)) != 0) || (primitiveWithDefault_Int != that.primitiveWithDefault_Int)) {
+      changedAttributes |= (1L << 6);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 7)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 7)) != 0) || (primitiveWithDefault_Long != that.primitiveWithDefault_Long)) {
+      changedAttributes |= (1L << 7);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final PropGroupsView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof PropGroupsViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 4)) != 0)) {
+      if (((changedAttributes & (1L << 4)) != 0)) {
+        object.setPrimitive(primitive_Int);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 5)) != 0)) {
+      if (((changedAttributes & (1L << 5)) != 0)) {
+        object.setPrimitive(primitive_Long);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 4)) != 0) || ((changedAttributes & (1L << 5)) != 0)) {
+      object.setPrimitive(primitive_Int);
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 12)) != 0)) {
+      if (((changedAttributes & (1L << 12)) != 0)) {
+        object.requiredGroup(requiredGroup_String);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 13)) != 0)) {
+      if (((changedAttributes & (1L << 13)) != 0)) {
+        object.requiredGroup(requiredGroup_CharSequence);
+      }
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 8)) != 0)) {
+      if (((changedAttributes & (1L << 8)) != 0)) {
+        object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_Long);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 9)) != 0)) {
+      if (((changedAttributes & (1L << 9)) != 0)) {
+        object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_CharSequence);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 8)) != 0) || ((changedAttributes & (1L << 9)) != 0)) {
+      object.primitiveAndObjectGroupWithPrimitiveDefault(primitiveAndObjectGroupWithPrimitiveDefault_Long);
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 10)) != 0)) {
+      if (((changedAttributes & (1L << 10)) != 0)) {
+        object.setOneThing(oneThing_Long);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 11)) != 0)) {
+      if (((changedAttributes & (1L << 11)) != 0)) {
+        object.setAnotherThing(anotherThing_CharSequence);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 10)) != 0) || ((changedAttributes & (1L << 11)) != 0)) {
+      object.setOneThing(oneThing_Long);
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((changedAttributes & (1L << 0)) != 0)) {
+        object.setSomething(something_CharSequence);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      if (((changedAttributes & (1L << 1)) != 0)) {
+        object.setSomething(something_Int);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 0)) != 0) || ((changedAttributes & (1L << 1)) != 0)) {
+      object.setSomething(something_CharSequence);
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) != 0)) {
+      if (((changedAttributes & (1L << 2)) != 0)) {
+        object.setSomethingElse(somethingElse_CharSequence);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 3)) != 0)) {
+      if (((changedAttributes & (1L << 3)) != 0)) {
+        object.setSomethingElse(somethingElse_Int);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 2)) != 0) || ((changedAttributes & (1L << 3)) != 0)) {
+      object.setSomethingElse(somethingElse_Int);
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 6)) != 0)) {
+      if (((changedAttributes & (1L << 6)) != 0)) {
+        object.setPrimitiveWithDefault(primitiveWithDefault_Int);
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 7)) != 0)) {
+      if (((changedAttributes & (1L << 7)) != 0)) {
+        object.setPrimitiveWithDefault(primitiveWithDefault_Long);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 6)) != 0) || ((changedAttributes & (1L << 7)) != 0)) {
       object.setPrimitiveWithDefault(primitiveWithDefault_Long);
     }
   }
@@ -371,8 +533,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setSomething(CharSequence)
    */
   public PropGroupsViewModel_ something(@Nullable CharSequence something) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
-    assignedAttributes_epoxyGeneratedModel.clear(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 1);
     this.something_Int = 0;
     onMutation();
     this.something_CharSequence = something;
@@ -390,8 +552,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setSomething(int)
    */
   public PropGroupsViewModel_ something(int something) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
-    assignedAttributes_epoxyGeneratedModel.clear(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 0);
     this.something_CharSequence = (CharSequence) null;
     onMutation();
     this.something_Int = something;
@@ -411,8 +573,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     if (somethingElse == null) {
       throw new IllegalArgumentException("somethingElse cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(2);
-    assignedAttributes_epoxyGeneratedModel.clear(3);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 3);
     this.somethingElse_Int = 0;
     onMutation();
     this.somethingElse_CharSequence = somethingElse;
@@ -430,8 +592,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setSomethingElse(int)
    */
   public PropGroupsViewModel_ somethingElse(int somethingElse) {
-    assignedAttributes_epoxyGeneratedModel.set(3);
-    assignedAttributes_epoxyGeneratedModel.clear(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 3);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 2);
     this.somethingElse_CharSequence = null;
     onMutation();
     this.somethingElse_Int = somethingElse;
@@ -448,8 +610,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setPrimitive(int)
    */
   public PropGroupsViewModel_ primitive(int primitive) {
-    assignedAttributes_epoxyGeneratedModel.set(4);
-    assignedAttributes_epoxyGeneratedModel.clear(5);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 4);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 5);
     this.primitive_Long = 0L;
     onMutation();
     this.primitive_Int = primitive;
@@ -466,8 +628,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setPrimitive(long)
    */
   public PropGroupsViewModel_ primitive(long primitive) {
-    assignedAttributes_epoxyGeneratedModel.set(5);
-    assignedAttributes_epoxyGeneratedModel.clear(4);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 5);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 4);
     this.primitive_Int = 0;
     onMutation();
     this.primitive_Long = primitive;
@@ -484,8 +646,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setPrimitiveWithDefault(int)
    */
   public PropGroupsViewModel_ primitiveWithDefault(int primitiveWithDefault) {
-    assignedAttributes_epoxyGeneratedModel.set(6);
-    assignedAttributes_epoxyGeneratedModel.clear(7);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 6);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 7);
     this.primitiveWithDefault_Long = PropGroupsView.DEFAULT_PRIMITIVE;
     onMutation();
     this.primitiveWithDefault_Int = primitiveWithDefault;
@@ -502,8 +664,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setPrimitiveWithDefault(long)
    */
   public PropGroupsViewModel_ primitiveWithDefault(long primitiveWithDefault) {
-    assignedAttributes_epoxyGeneratedModel.set(7);
-    assignedAttributes_epoxyGeneratedModel.clear(6);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 7);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 6);
     this.primitiveWithDefault_Int = 0;
     onMutation();
     this.primitiveWithDefault_Long = primitiveWithDefault;
@@ -521,8 +683,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    */
   public PropGroupsViewModel_ primitiveAndObjectGroupWithPrimitiveDefault(
       long primitiveAndObjectGroupWithPrimitiveDefault) {
-    assignedAttributes_epoxyGeneratedModel.set(8);
-    assignedAttributes_epoxyGeneratedModel.clear(9);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 8);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 9);
     this.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence = null;
     onMutation();
     this.primitiveAndObjectGroupWithPrimitiveDefault_Long = primitiveAndObjectGroupWithPrimitiveDefault;
@@ -543,8 +705,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     if (primitiveAndObjectGroupWithPrimitiveDefault == null) {
       throw new IllegalArgumentException("primitiveAndObjectGroupWithPrimitiveDefault cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(9);
-    assignedAttributes_epoxyGeneratedModel.clear(8);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 9);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 8);
     this.primitiveAndObjectGroupWithPrimitiveDefault_Long = PropGroupsView.DEFAULT_PRIMITIVE;
     onMutation();
     this.primitiveAndObjectGroupWithPrimitiveDefault_CharSequence = primitiveAndObjectGroupWithPrimitiveDefault;
@@ -562,8 +724,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
    * @see PropGroupsView#setOneThing(long)
    */
   public PropGroupsViewModel_ oneThing(long oneThing) {
-    assignedAttributes_epoxyGeneratedModel.set(10);
-    assignedAttributes_epoxyGeneratedModel.clear(11);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 10);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 11);
     this.anotherThing_CharSequence = null;
     onMutation();
     this.oneThing_Long = oneThing;
@@ -583,8 +745,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     if (anotherThing == null) {
       throw new IllegalArgumentException("anotherThing cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(11);
-    assignedAttributes_epoxyGeneratedModel.clear(10);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 11);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 10);
     this.oneThing_Long = 0L;
     onMutation();
     this.anotherThing_CharSequence = anotherThing;
@@ -605,8 +767,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     if (requiredGroup == null) {
       throw new IllegalArgumentException("requiredGroup cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(12);
-    assignedAttributes_epoxyGeneratedModel.clear(13);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 12);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 13);
     this.requiredGroup_CharSequence = null;
     onMutation();
     this.requiredGroup_String = requiredGroup;
@@ -627,8 +789,8 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     if (requiredGroup == null) {
       throw new IllegalArgumentException("requiredGroup cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(13);
-    assignedAttributes_epoxyGeneratedModel.clear(12);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 13);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 12);
     this.requiredGroup_String = null;
     onMutation();
     this.requiredGroup_CharSequence = requiredGroup;
@@ -718,7 +880,7 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.something_CharSequence = (CharSequence) null;
     this.something_Int = 0;
     this.somethingElse_CharSequence = null;
@@ -808,7 +970,11 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -827,7 +993,7 @@ public class PropGroupsViewModel_ extends EpoxyModel<PropGroupsView> implements
     _result = 31 * _result + (anotherThing_CharSequence != null ? anotherThing_CharSequence.hashCode() : 0);
     _result = 31 * _result + (requiredGroup_String != null ? requiredGroup_String.hashCode() : 0);
     _result = 31 * _result + (requiredGroup_CharSequence != null ? requiredGroup_CharSequence.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
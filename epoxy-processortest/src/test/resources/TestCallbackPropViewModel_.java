@@ -8,12 +8,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TestCallbackPropViewModel_ extends EpoxyModel<TestCallbackPropView> implements GeneratedModel<TestCallbackPropView>, TestCallbackPropViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestCallbackPropViewModel_, TestCallbackPropView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -60,6 +59,33 @@ public class TestCallbackPropViewModel_ extends EpoxyModel<TestCallbackPropView>
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestCallbackPropViewModel_)) {
+      return -1L;
+    }
+    TestCallbackPropViewModel_ that = (TestCallbackPropViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((listener_OnClickListener == null) != (that.listener_OnClickListener == null))) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestCallbackPropView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestCallbackPropViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setListener(listener_OnClickListener);
+    }
+  }
+
   @Override
   public void handlePostBind(final TestCallbackPropView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -152,7 +178,7 @@ public class TestCallbackPropViewModel_ extends EpoxyModel<TestCallbackPropView>
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public TestCallbackPropViewModel_ listener(
       @Nullable final OnModelClickListener<TestCallbackPropViewModel_, TestCallbackPropView> listener) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     if (listener == null) {
       this.listener_OnClickListener = null;
@@ -169,7 +195,7 @@ public class TestCallbackPropViewModel_ extends EpoxyModel<TestCallbackPropView>
    * @see TestCallbackPropView#setListener(View.OnClickListener)
    */
   public TestCallbackPropViewModel_ listener(@Nullable View.OnClickListener listener) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.listener_OnClickListener = listener;
     return this;
@@ -260,7 +286,7 @@ public class TestCallbackPropViewModel_ extends EpoxyModel<TestCallbackPropView>
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.listener_OnClickListener = (View.OnClickListener) null;
     super.reset();
     return this;
@@ -298,13 +324,17 @@ public class TestCallbackPropViewModel_ extends EpoxyModel<TestCallbackPropView>
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (listener_OnClickListener != null ? 1 : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -15,13 +15,12 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
-import java.util.BitSet;
 import javax.annotation.Nullable;
 
 /**
  * Generated file. Do not modify! */
 public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildView> implements GeneratedModel<TestFieldPropChildView>, TestFieldPropChildViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestFieldPropChildViewModel_, TestFieldPropChildView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -44,7 +43,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for textValue");
     }
   }
@@ -92,6 +91,40 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestFieldPropChildViewModel_)) {
+      return -1L;
+    }
+    TestFieldPropChildViewModel_ that = (TestFieldPropChildViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((textValue_StringAttributeData != null ? !textValue_StringAttributeData.equals(that.textValue_StringAttributeData) : that.textValue_StringAttributeData != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((value_OnClickListener != null ? !value_OnClickListener.equals(that.value_OnClickListener) : that.value_OnClickListener != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestFieldPropChildView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestFieldPropChildViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.textValue = textValue_StringAttributeData.toString(object.getContext());
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.value = value_OnClickListener;
+    }
+  }
+
   @Override
   public void handlePostBind(final TestFieldPropChildView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -192,7 +225,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
    */
   public TestFieldPropChildViewModel_ textValue(@NonNull CharSequence textValue) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     if (textValue == null) {
       throw new IllegalArgumentException("textValue cannot be null");
     }
@@ -209,7 +242,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
    */
   public TestFieldPropChildViewModel_ textValue(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     textValue_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -223,7 +256,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
    */
   public TestFieldPropChildViewModel_ textValue(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     textValue_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -238,7 +271,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
   public TestFieldPropChildViewModel_ textValueQuantityRes(@PluralsRes int pluralRes, int quantity,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     textValue_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -247,7 +280,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public TestFieldPropChildViewModel_ value(
       @Nullable final OnModelClickListener<TestFieldPropChildViewModel_, TestFieldPropChildView> value) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     if (value == null) {
       this.value_OnClickListener = null;
@@ -264,7 +297,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
    * @see TestFieldPropChildView#value
    */
   public TestFieldPropChildViewModel_ value(@Nullable View.OnClickListener value) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.value_OnClickListener = value;
     return this;
@@ -355,7 +388,7 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.textValue_StringAttributeData =  new StringAttributeData();
     this.value_OnClickListener = (View.OnClickListener) null;
     super.reset();
@@ -397,14 +430,18 @@ public class TestFieldPropChildViewModel_ extends EpoxyModel<TestFieldPropChildV
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (textValue_StringAttributeData != null ? textValue_StringAttributeData.hashCode() : 0);
     _result = 31 * _result + (value_OnClickListener != null ? value_OnClickListener.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -13,12 +13,11 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestFieldPropDoNotHashOptionView> implements GeneratedModel<TestFieldPropDoNotHashOptionView>, TestFieldPropDoNotHashOptionViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestFieldPropDoNotHashOptionViewModel_, TestFieldPropDoNotHashOptionView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -37,7 +36,7 @@ public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestField
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for value");
     }
   }
@@ -80,6 +79,33 @@ public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestField
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestFieldPropDoNotHashOptionViewModel_)) {
+      return -1L;
+    }
+    TestFieldPropDoNotHashOptionViewModel_ that = (TestFieldPropDoNotHashOptionViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (((value_OnClickListener == null) != (that.value_OnClickListener == null))) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestFieldPropDoNotHashOptionView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestFieldPropDoNotHashOptionViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.value = value_OnClickListener;
+    }
+  }
+
   @Override
   public void handlePostBind(final TestFieldPropDoNotHashOptionView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -173,7 +199,7 @@ public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestField
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public TestFieldPropDoNotHashOptionViewModel_ value(
       @NonNull final OnModelClickListener<TestFieldPropDoNotHashOptionViewModel_, TestFieldPropDoNotHashOptionView> value) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     if (value == null) {
       this.value_OnClickListener = null;
@@ -193,7 +219,7 @@ public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestField
     if (value == null) {
       throw new IllegalArgumentException("value cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.value_OnClickListener = value;
     return this;
@@ -283,7 +309,7 @@ public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestField
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.value_OnClickListener = null;
     super.reset();
     return this;
@@ -321,13 +347,17 @@ public class TestFieldPropDoNotHashOptionViewModel_ extends EpoxyModel<TestField
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (value_OnClickListener != null ? 1 : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
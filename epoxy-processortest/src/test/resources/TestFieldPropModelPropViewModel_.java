@@ -9,12 +9,11 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TestFieldPropModelPropViewModel_ extends EpoxyModel<TestFieldPropModelPropView> implements GeneratedModel<TestFieldPropModelPropView>, TestFieldPropModelPropViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestFieldPropModelPropViewModel_, TestFieldPropModelPropView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -72,6 +71,33 @@ public class TestFieldPropModelPropViewModel_ extends EpoxyModel<TestFieldPropMo
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestFieldPropModelPropViewModel_)) {
+      return -1L;
+    }
+    TestFieldPropModelPropViewModel_ that = (TestFieldPropModelPropViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((value_Int != that.value_Int)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestFieldPropModelPropView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestFieldPropModelPropViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.value = value_Int;
+    }
+  }
+
   @Override
   public void handlePostBind(final TestFieldPropModelPropView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -167,7 +193,7 @@ public class TestFieldPropModelPropViewModel_ extends EpoxyModel<TestFieldPropMo
    * @see TestFieldPropModelPropView#value
    */
   public TestFieldPropModelPropViewModel_ value(int value) {
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.value_Int = value;
     return this;
@@ -256,7 +282,7 @@ public class TestFieldPropModelPropViewModel_ extends EpoxyModel<TestFieldPropMo
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.value_Int = 0;
     super.reset();
     return this;
@@ -294,13 +320,17 @@ public class TestFieldPropModelPropViewModel_ extends EpoxyModel<TestFieldPropMo
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + value_Int;
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -15,12 +15,11 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.lang.UnsupportedOperationException;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTextPropView> implements GeneratedModel<TestFieldPropTextPropView>, TestFieldPropTextPropViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestFieldPropTextPropViewModel_, TestFieldPropTextPropView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -38,7 +37,7 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for value");
     }
   }
@@ -81,6 +80,33 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestFieldPropTextPropViewModel_)) {
+      return -1L;
+    }
+    TestFieldPropTextPropViewModel_ that = (TestFieldPropTextPropViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((value_StringAttributeData != null ? !value_StringAttributeData.equals(that.value_StringAttributeData) : that.value_StringAttributeData != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestFieldPropTextPropView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestFieldPropTextPropViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.value = value_StringAttributeData.toString(object.getContext());
+    }
+  }
+
   @Override
   public void handlePostBind(final TestFieldPropTextPropView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -181,7 +207,7 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
    */
   public TestFieldPropTextPropViewModel_ value(@NonNull CharSequence value) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     if (value == null) {
       throw new IllegalArgumentException("value cannot be null");
     }
@@ -198,7 +224,7 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
    */
   public TestFieldPropTextPropViewModel_ value(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     value_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -212,7 +238,7 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
    */
   public TestFieldPropTextPropViewModel_ value(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     value_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -227,7 +253,7 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
   public TestFieldPropTextPropViewModel_ valueQuantityRes(@PluralsRes int pluralRes, int quantity,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     value_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -311,7 +337,7 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.value_StringAttributeData =  new StringAttributeData();
     super.reset();
     return this;
@@ -349,13 +375,17 @@ public class TestFieldPropTextPropViewModel_ extends EpoxyModel<TestFieldPropTex
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (value_StringAttributeData != null ? value_StringAttributeData.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -19,13 +19,12 @@ import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.List;
 
 /**
  * Generated file. Do not modify! */
 public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> implements GeneratedModel<TestManyTypesView>, TestManyTypesViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(14);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestManyTypesViewModel_, TestManyTypesView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -117,22 +116,22 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(10)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 10)) == 0)) {
     	throw new IllegalStateException("A value is required for setArrayValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(12)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 12)) == 0)) {
     	throw new IllegalStateException("A value is required for setClickListener");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(9)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 9)) == 0)) {
     	throw new IllegalStateException("A value is required for setBooleanValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setStringValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(7)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 7)) == 0)) {
     	throw new IllegalStateException("A value is required for setIntegerValue");
     }
-    if (!assignedAttributes_epoxyGeneratedModel.get(11)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 11)) == 0)) {
     	throw new IllegalStateException("A value is required for setListValue");
     }
   }
@@ -228,6 +227,124 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestManyTypesViewModel_)) {
+      return -1L;
+    }
+    TestManyTypesViewModel_ that = (TestManyTypesViewModel_) previousModel;
+    long changedAttributes = 0;
+    if (!Arrays.equals(arrayValue_StringArray, that.arrayValue_StringArray)) {
+      changedAttributes |= (1L << 10);
+    }
+    if (((clickListener_OnClickListener == null) != (that.clickListener_OnClickListener == null))) {
+      changedAttributes |= (1L << 12);
+    }
+    if ((booleanValue_Boolean != null ? !booleanValue_Boolean.equals(that.booleanValue_Boolean) : that.booleanValue_Boolean != null)) {
+      changedAttributes |= (1L << 9);
+    }
+    if ((title_StringAttributeData != null ? !title_StringAttributeData.equals(that.title_StringAttributeData) : that.title_StringAttributeData != null)) {
+      changedAttributes |= (1L << 13);
+    }
+    if ((stringValue_String != null ? !stringValue_String.equals(that.stringValue_String) : that.stringValue_String != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((nullableStringValue_String != null ? !nullableStringValue_String.equals(that.nullableStringValue_String) : that.nullableStringValue_String != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    if ((intValueWithAnnotation_Int != that.intValueWithAnnotation_Int)) {
+      changedAttributes |= (1L << 3);
+    }
+    if ((intValueWithDimenTypeAnnotation_Int != that.intValueWithDimenTypeAnnotation_Int)) {
+      changedAttributes |= (1L << 5);
+    }
+    if ((intWithMultipleAnnotations_Int != that.intWithMultipleAnnotations_Int)) {
+      changedAttributes |= (1L << 6);
+    }
+    if ((integerValue_Integer != null ? !integerValue_Integer.equals(that.integerValue_Integer) : that.integerValue_Integer != null)) {
+      changedAttributes |= (1L << 7);
+    }
+    if ((listValue_List != null ? !listValue_List.equals(that.listValue_List) : that.listValue_List != null)) {
+      changedAttributes |= (1L << 11);
+    }
+    if ((intValue_Int != that.intValue_Int)) {
+      changedAttributes |= (1L << 2);
+    }
+    if ((intValueWithRangeAnnotation_Int != that.intValueWithRangeAnnotation_Int)) {
+      changedAttributes |= (1L << 4);
+    }
+    if ((boolValue_Boolean != that.boolValue_Boolean)) {
+      changedAttributes |= (1L << 8);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestManyTypesView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestManyTypesViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 10)) != 0)) {
+      object.setArrayValue(arrayValue_StringArray);
+    }
+
+    if (((changedAttributes & (1L << 12)) != 0)) {
+      object.setClickListener(clickListener_OnClickListener);
+    }
+
+    if (((changedAttributes & (1L << 9)) != 0)) {
+      object.setBooleanValue(booleanValue_Boolean);
+    }
+
+    if (((changedAttributes & (1L << 13)) != 0)) {
+      object.setTitle(title_StringAttributeData.toString(object.getContext()));
+    }
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setStringValue(stringValue_String);
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.setNullableStringValue(nullableStringValue_String);
+    }
+
+    if (((changedAttributes & (1L << 3)) != 0)) {
+      object.setIntValueWithAnnotation(intValueWithAnnotation_Int);
+    }
+
+    if (((changedAttributes & (1L << 5)) != 0)) {
+      object.setIntValueWithDimenTypeAnnotation(intValueWithDimenTypeAnnotation_Int);
+    }
+
+    if (((changedAttributes & (1L << 6)) != 0)) {
+      object.setIntWithMultipleAnnotations(intWithMultipleAnnotations_Int);
+    }
+
+    if (((changedAttributes & (1L << 7)) != 0)) {
+      object.setIntegerValue(integerValue_Integer);
+    }
+
+    if (((changedAttributes & (1L << 11)) != 0)) {
+      object.setListValue(listValue_List);
+    }
+
+    if (((changedAttributes & (1L << 2)) != 0)) {
+      object.setIntValue(intValue_Int);
+    }
+
+    if (((changedAttributes & (1L << 4)) != 0)) {
+      object.setIntValueWithRangeAnnotation(intValueWithRangeAnnotation_Int);
+    }
+
+    if (((changedAttributes & (1L << 8)) != 0)) {
+      object.setBoolValue(boolValue_Boolean);
+    }
+  }
+
   @Override
   public void handlePostBind(final TestManyTypesView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -324,7 +441,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     if (stringValue == null) {
       throw new IllegalArgumentException("stringValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     onMutation();
     this.stringValue_String = stringValue;
     return this;
@@ -341,7 +458,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    * @see TestManyTypesView#setNullableStringValue(String)
    */
   public TestManyTypesViewModel_ nullableStringValue(@Nullable String nullableStringValue) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     onMutation();
     this.nullableStringValue_String = nullableStringValue;
     return this;
@@ -358,7 +475,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    * @see TestManyTypesView#setIntValue(int)
    */
   public TestManyTypesViewModel_ intValue(int intValue) {
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     onMutation();
     this.intValue_Int = intValue;
     return this;
@@ -374,7 +491,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    * @see TestManyTypesView#setIntValueWithAnnotation(int)
    */
   public TestManyTypesViewModel_ intValueWithAnnotation(@StringRes int intValueWithAnnotation) {
-    assignedAttributes_epoxyGeneratedModel.set(3);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 3);
     onMutation();
     this.intValueWithAnnotation_Int = intValueWithAnnotation;
     return this;
@@ -392,7 +509,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    */
   public TestManyTypesViewModel_ intValueWithRangeAnnotation(
       @IntRange(from = 0, to = 200) int intValueWithRangeAnnotation) {
-    assignedAttributes_epoxyGeneratedModel.set(4);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 4);
     onMutation();
     this.intValueWithRangeAnnotation_Int = intValueWithRangeAnnotation;
     return this;
@@ -413,7 +530,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    */
   public TestManyTypesViewModel_ intValueWithDimenTypeAnnotation(
       @Dimension(unit = 0) int intValueWithDimenTypeAnnotation) {
-    assignedAttributes_epoxyGeneratedModel.set(5);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 5);
     onMutation();
     this.intValueWithDimenTypeAnnotation_Int = intValueWithDimenTypeAnnotation;
     return this;
@@ -433,7 +550,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    */
   public TestManyTypesViewModel_ intWithMultipleAnnotations(
       @IntRange(from = 0, to = 200) @Dimension(unit = 0) int intWithMultipleAnnotations) {
-    assignedAttributes_epoxyGeneratedModel.set(6);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 6);
     onMutation();
     this.intWithMultipleAnnotations_Int = intWithMultipleAnnotations;
     return this;
@@ -459,7 +576,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     if (integerValue == null) {
       throw new IllegalArgumentException("integerValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(7);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 7);
     onMutation();
     this.integerValue_Integer = integerValue;
     return this;
@@ -476,7 +593,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    * @see TestManyTypesView#setBoolValue(boolean)
    */
   public TestManyTypesViewModel_ boolValue(boolean boolValue) {
-    assignedAttributes_epoxyGeneratedModel.set(8);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 8);
     onMutation();
     this.boolValue_Boolean = boolValue;
     return this;
@@ -495,7 +612,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     if (booleanValue == null) {
       throw new IllegalArgumentException("booleanValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(9);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 9);
     onMutation();
     this.booleanValue_Boolean = booleanValue;
     return this;
@@ -515,7 +632,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     if (arrayValue == null) {
       throw new IllegalArgumentException("arrayValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(10);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 10);
     onMutation();
     this.arrayValue_StringArray = arrayValue;
     return this;
@@ -535,7 +652,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     if (listValue == null) {
       throw new IllegalArgumentException("listValue cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(11);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 11);
     onMutation();
     this.listValue_List = listValue;
     return this;
@@ -550,7 +667,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    * Set a click listener that will provide the parent view, model, and adapter position of the clicked view. This will clear the normal View.OnClickListener if one has been set */
   public TestManyTypesViewModel_ clickListener(
       @NonNull final OnModelClickListener<TestManyTypesViewModel_, TestManyTypesView> clickListener) {
-    assignedAttributes_epoxyGeneratedModel.set(12);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 12);
     onMutation();
     if (clickListener == null) {
       this.clickListener_OnClickListener = null;
@@ -570,7 +687,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     if (clickListener == null) {
       throw new IllegalArgumentException("clickListener cannot be null");
     }
-    assignedAttributes_epoxyGeneratedModel.set(12);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 12);
     onMutation();
     this.clickListener_OnClickListener = clickListener;
     return this;
@@ -593,7 +710,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    */
   public TestManyTypesViewModel_ title(@Nullable CharSequence title) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(13);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 13);
     title_StringAttributeData.setValue(title);
     return this;
   }
@@ -607,7 +724,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    */
   public TestManyTypesViewModel_ title(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(13);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 13);
     title_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -621,7 +738,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
    */
   public TestManyTypesViewModel_ title(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(13);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 13);
     title_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -636,7 +753,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
   public TestManyTypesViewModel_ titleQuantityRes(@PluralsRes int pluralRes, int quantity,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(13);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 13);
     title_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -720,7 +837,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.stringValue_String = null;
     this.nullableStringValue_String = (String) null;
     this.intValue_Int = 0;
@@ -810,7 +927,11 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -829,7 +950,7 @@ public class TestManyTypesViewModel_ extends EpoxyModel<TestManyTypesView> imple
     _result = 31 * _result + (listValue_List != null ? listValue_List.hashCode() : 0);
     _result = 31 * _result + (clickListener_OnClickListener != null ? 1 : 0);
     _result = 31 * _result + (title_StringAttributeData != null ? title_StringAttributeData.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -10,12 +10,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullStringOverloadsView> implements GeneratedModel<TestNullStringOverloadsView>, TestNullStringOverloadsViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestNullStringOverloadsViewModel_, TestNullStringOverloadsView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -61,6 +60,33 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestNullStringOverloadsViewModel_)) {
+      return -1L;
+    }
+    TestNullStringOverloadsViewModel_ that = (TestNullStringOverloadsViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((title_StringAttributeData != null ? !title_StringAttributeData.equals(that.title_StringAttributeData) : that.title_StringAttributeData != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestNullStringOverloadsView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestNullStringOverloadsViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setTitle(title_StringAttributeData.toString(object.getContext()));
+    }
+  }
+
   @Override
   public void handlePostBind(final TestNullStringOverloadsView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -161,7 +187,7 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
    */
   public TestNullStringOverloadsViewModel_ title(@Nullable CharSequence title) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(title);
     return this;
   }
@@ -175,7 +201,7 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
    */
   public TestNullStringOverloadsViewModel_ title(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -189,7 +215,7 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
    */
   public TestNullStringOverloadsViewModel_ title(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -204,7 +230,7 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
   public TestNullStringOverloadsViewModel_ titleQuantityRes(@PluralsRes int pluralRes, int quantity,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -289,7 +315,7 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_StringAttributeData =  new StringAttributeData((CharSequence) null);
     super.reset();
     return this;
@@ -327,13 +353,17 @@ public class TestNullStringOverloadsViewModel_ extends EpoxyModel<TestNullString
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (title_StringAttributeData != null ? title_StringAttributeData.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -13,13 +13,12 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 import java.util.List;
 
 /**
  * Generated file. Do not modify! */
 public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverloadsView> implements GeneratedModel<TestStringOverloadsView>, TestStringOverloadsViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(3);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestStringOverloadsViewModel_, TestStringOverloadsView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -46,7 +45,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(2)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 2)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitleViaValueShortcut");
     }
   }
@@ -61,10 +60,10 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
   public void bind(final TestStringOverloadsView object) {
     super.bind(object);
     object.setTitleViaValueShortcut(titleViaValueShortcut_StringAttributeData.toString(object.getContext()));
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
       object.setTitle(title_StringAttributeData.toString(object.getContext()));
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
       object.setTitle(title_List);
     }
     else {
@@ -85,18 +84,66 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
       object.setTitleViaValueShortcut(titleViaValueShortcut_StringAttributeData.toString(object.getContext()));
     }
 
-    if (assignedAttributes_epoxyGeneratedModel.get(0)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(0) || (title_StringAttributeData != null ? !title_StringAttributeData.equals(that.title_StringAttributeData) : that.title_StringAttributeData != null)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0) || (title_StringAttributeData != null ? !title_StringAttributeData.equals(that.title_StringAttributeData) : that.title_StringAttributeData != null)) {
         object.setTitle(title_StringAttributeData.toString(object.getContext()));
       }
     }
-    else if (assignedAttributes_epoxyGeneratedModel.get(1)) {
-      if (!that.assignedAttributes_epoxyGeneratedModel.get(1) || (title_List != null ? !title_List.equals(that.title_List) : that.title_List != null)) {
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) == 0) || (title_List != null ? !title_List.equals(that.title_List) : that.title_List != null)) {
         object.setTitle(title_List);
       }
     }
     // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
-    else if (that.assignedAttributes_epoxyGeneratedModel.get(0) || that.assignedAttributes_epoxyGeneratedModel.get(1)) {
+    else if (((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      object.setTitle(title_List);
+    }
+  }
+
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestStringOverloadsViewModel_)) {
+      return -1L;
+    }
+    TestStringOverloadsViewModel_ that = (TestStringOverloadsViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((titleViaValueShortcut_StringAttributeData != null ? !titleViaValueShortcut_StringAttributeData.equals(that.titleViaValueShortcut_StringAttributeData) : that.titleViaValueShortcut_StringAttributeData != null)) {
+      changedAttributes |= (1L << 2);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0) || (title_StringAttributeData != null ? !title_StringAttributeData.equals(that.title_StringAttributeData) : that.title_StringAttributeData != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) != ((that.assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0) || (title_List != null ? !title_List.equals(that.title_List) : that.title_List != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestStringOverloadsView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestStringOverloadsViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 2)) != 0)) {
+      object.setTitleViaValueShortcut(titleViaValueShortcut_StringAttributeData.toString(object.getContext()));
+    }
+
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) != 0)) {
+      if (((changedAttributes & (1L << 0)) != 0)) {
+        object.setTitle(title_StringAttributeData.toString(object.getContext()));
+      }
+    }
+    else if (((assignedAttributes_epoxyGeneratedModel & (1L << 1)) != 0)) {
+      if (((changedAttributes & (1L << 1)) != 0)) {
+        object.setTitle(title_List);
+      }
+    }
+    // A value was not set so we should use the default value, but we only need to set it if the previous model had a custom value set.
+    else if (((changedAttributes & (1L << 0)) != 0) || ((changedAttributes & (1L << 1)) != 0)) {
       object.setTitle(title_List);
     }
   }
@@ -199,7 +246,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
    */
   public TestStringOverloadsViewModel_ title(@NonNull CharSequence title) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
@@ -216,7 +263,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
    */
   public TestStringOverloadsViewModel_ title(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -230,7 +277,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
    */
   public TestStringOverloadsViewModel_ title(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -245,7 +292,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
   public TestStringOverloadsViewModel_ titleQuantityRes(@PluralsRes int pluralRes, int quantity,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -256,8 +303,8 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
    * @see TestStringOverloadsView#setTitle(List<CharSequence>)
    */
   public TestStringOverloadsViewModel_ title(@Nullable List<CharSequence> title) {
-    assignedAttributes_epoxyGeneratedModel.set(1);
-    assignedAttributes_epoxyGeneratedModel.clear(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
+    assignedAttributes_epoxyGeneratedModel &= ~(1L << 0);
     this.title_StringAttributeData =  new StringAttributeData();
     onMutation();
     this.title_List = title;
@@ -281,7 +328,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
   public TestStringOverloadsViewModel_ titleViaValueShortcut(
       @NonNull CharSequence titleViaValueShortcut) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     if (titleViaValueShortcut == null) {
       throw new IllegalArgumentException("titleViaValueShortcut cannot be null");
     }
@@ -298,7 +345,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
    */
   public TestStringOverloadsViewModel_ titleViaValueShortcut(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     titleViaValueShortcut_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -313,7 +360,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
   public TestStringOverloadsViewModel_ titleViaValueShortcut(@StringRes int stringRes,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     titleViaValueShortcut_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -328,7 +375,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
   public TestStringOverloadsViewModel_ titleViaValueShortcutQuantityRes(@PluralsRes int pluralRes,
       int quantity, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(2);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 2);
     titleViaValueShortcut_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -413,7 +460,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_StringAttributeData =  new StringAttributeData();
     this.title_List = (List<CharSequence>) null;
     this.titleViaValueShortcut_StringAttributeData =  new StringAttributeData();
@@ -459,7 +506,11 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
@@ -467,7 +518,7 @@ public class TestStringOverloadsViewModel_ extends EpoxyModel<TestStringOverload
     _result = 31 * _result + (title_StringAttributeData != null ? title_StringAttributeData.hashCode() : 0);
     _result = 31 * _result + (title_List != null ? title_List.hashCode() : 0);
     _result = 31 * _result + (titleViaValueShortcut_StringAttributeData != null ? titleViaValueShortcut_StringAttributeData.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
@@ -13,12 +13,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> implements GeneratedModel<TestTextPropView>, TestTextPropViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(1);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TestTextPropViewModel_, TestTextPropView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -36,7 +35,7 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for setTitle");
     }
   }
@@ -67,6 +66,33 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TestTextPropViewModel_)) {
+      return -1L;
+    }
+    TestTextPropViewModel_ that = (TestTextPropViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((title_StringAttributeData != null ? !title_StringAttributeData.equals(that.title_StringAttributeData) : that.title_StringAttributeData != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TestTextPropView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TestTextPropViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.setTitle(title_StringAttributeData.toString(object.getContext()));
+    }
+  }
+
   @Override
   public void handlePostBind(final TestTextPropView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -165,7 +191,7 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
    */
   public TestTextPropViewModel_ title(@NonNull CharSequence title) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     if (title == null) {
       throw new IllegalArgumentException("title cannot be null");
     }
@@ -182,7 +208,7 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
    */
   public TestTextPropViewModel_ title(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -196,7 +222,7 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
    */
   public TestTextPropViewModel_ title(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -211,7 +237,7 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
   public TestTextPropViewModel_ titleQuantityRes(@PluralsRes int pluralRes, int quantity,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     title_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -295,7 +321,7 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.title_StringAttributeData =  new StringAttributeData();
     super.reset();
     return this;
@@ -333,13 +359,17 @@ public class TestTextPropViewModel_ extends EpoxyModel<TestTextPropView> impleme
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (title_StringAttributeData != null ? title_StringAttributeData.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override
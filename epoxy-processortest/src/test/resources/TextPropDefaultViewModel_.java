@@ -13,12 +13,11 @@ import java.lang.Number;
 import java.lang.Object;
 import java.lang.Override;
 import java.lang.String;
-import java.util.BitSet;
 
 /**
  * Generated file. Do not modify! */
 public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> implements GeneratedModel<TextPropDefaultView>, TextPropDefaultViewModelBuilder {
-  private final BitSet assignedAttributes_epoxyGeneratedModel = new BitSet(2);
+  private long assignedAttributes_epoxyGeneratedModel;
 
   private OnModelBoundListener<TextPropDefaultViewModel_, TextPropDefaultView> onModelBoundListener_epoxyGeneratedModel;
 
@@ -40,7 +39,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
   public void addTo(EpoxyController controller) {
     super.addTo(controller);
     addWithDebugValidation(controller);
-    if (!assignedAttributes_epoxyGeneratedModel.get(0)) {
+    if (((assignedAttributes_epoxyGeneratedModel & (1L << 0)) == 0)) {
     	throw new IllegalStateException("A value is required for textWithDefault");
     }
   }
@@ -76,6 +75,40 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
     }
   }
 
+  @Override
+  public long getChangedAttributeMask(EpoxyModel previousModel) {
+    if (!(previousModel instanceof TextPropDefaultViewModel_)) {
+      return -1L;
+    }
+    TextPropDefaultViewModel_ that = (TextPropDefaultViewModel_) previousModel;
+    long changedAttributes = 0;
+    if ((textWithDefault_StringAttributeData != null ? !textWithDefault_StringAttributeData.equals(that.textWithDefault_StringAttributeData) : that.textWithDefault_StringAttributeData != null)) {
+      changedAttributes |= (1L << 0);
+    }
+    if ((nullableTextWithDefault_StringAttributeData != null ? !nullableTextWithDefault_StringAttributeData.equals(that.nullableTextWithDefault_StringAttributeData) : that.nullableTextWithDefault_StringAttributeData != null)) {
+      changedAttributes |= (1L << 1);
+    }
+    return changedAttributes;
+  }
+
+  @Override
+  public void bind(final TextPropDefaultView object, EpoxyModel previousModel,
+      long changedAttributes) {
+    if (!(previousModel instanceof TextPropDefaultViewModel_)) {
+      bind(object, previousModel);
+      return;
+    }
+    super.bind(object);
+
+    if (((changedAttributes & (1L << 0)) != 0)) {
+      object.textWithDefault(textWithDefault_StringAttributeData.toString(object.getContext()));
+    }
+
+    if (((changedAttributes & (1L << 1)) != 0)) {
+      object.nullableTextWithDefault(nullableTextWithDefault_StringAttributeData.toString(object.getContext()));
+    }
+  }
+
   @Override
   public void handlePostBind(final TextPropDefaultView object, int position) {
     if (onModelBoundListener_epoxyGeneratedModel != null) {
@@ -174,7 +207,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
    */
   public TextPropDefaultViewModel_ textWithDefault(@NonNull CharSequence textWithDefault) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     if (textWithDefault == null) {
       throw new IllegalArgumentException("textWithDefault cannot be null");
     }
@@ -191,7 +224,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
    */
   public TextPropDefaultViewModel_ textWithDefault(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     textWithDefault_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -205,7 +238,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
    */
   public TextPropDefaultViewModel_ textWithDefault(@StringRes int stringRes, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     textWithDefault_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -220,7 +253,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
   public TextPropDefaultViewModel_ textWithDefaultQuantityRes(@PluralsRes int pluralRes,
       int quantity, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(0);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 0);
     textWithDefault_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -238,7 +271,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
   public TextPropDefaultViewModel_ nullableTextWithDefault(
       @Nullable CharSequence nullableTextWithDefault) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     nullableTextWithDefault_StringAttributeData.setValue(nullableTextWithDefault);
     return this;
   }
@@ -252,7 +285,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
    */
   public TextPropDefaultViewModel_ nullableTextWithDefault(@StringRes int stringRes) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     nullableTextWithDefault_StringAttributeData.setValue(stringRes);
     return this;
   }
@@ -267,7 +300,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
   public TextPropDefaultViewModel_ nullableTextWithDefault(@StringRes int stringRes,
       Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     nullableTextWithDefault_StringAttributeData.setValue(stringRes, formatArgs);
     return this;
   }
@@ -282,7 +315,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
   public TextPropDefaultViewModel_ nullableTextWithDefaultQuantityRes(@PluralsRes int pluralRes,
       int quantity, Object... formatArgs) {
     onMutation();
-    assignedAttributes_epoxyGeneratedModel.set(1);
+    assignedAttributes_epoxyGeneratedModel |= (1L << 1);
     nullableTextWithDefault_StringAttributeData.setValue(pluralRes, quantity, formatArgs);
     return this;
   }
@@ -366,7 +399,7 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
     onModelUnboundListener_epoxyGeneratedModel = null;
     onModelVisibilityStateChangedListener_epoxyGeneratedModel = null;
     onModelVisibilityChangedListener_epoxyGeneratedModel = null;
-    assignedAttributes_epoxyGeneratedModel.clear();
+    assignedAttributes_epoxyGeneratedModel = 0;
     this.textWithDefault_StringAttributeData =  new StringAttributeData(R.string.string_resource_value);
     this.nullableTextWithDefault_StringAttributeData =  new StringAttributeData(R.string.string_resource_value);
     super.reset();
@@ -408,14 +441,18 @@ public class TextPropDefaultViewModel_ extends EpoxyModel<TextPropDefaultView> i
 
   @Override
   public int hashCode() {
-    int _result = super.hashCode();
+    int _result = getCachedHashCode();
+    if (_result != 0) {
+      return _result;
+    }
+    _result = super.hashCode();
     _result = 31 * _result + (onModelBoundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelUnboundListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityStateChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (onModelVisibilityChangedListener_epoxyGeneratedModel != null ? 1 : 0);
     _result = 31 * _result + (textWithDefault_StringAttributeData != null ? textWithDefault_StringAttributeData.hashCode() : 0);
     _result = 31 * _result + (nullableTextWithDefault_StringAttributeData != null ? nullableTextWithDefault_StringAttributeData.hashCode() : 0);
-    return _result;
+    return cacheHashCode(_result);
   }
 
   @Override